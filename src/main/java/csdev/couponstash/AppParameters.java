@@ -30,9 +30,15 @@ public class AppParameters {
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
-        AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        return parse(parameters.getNamed());
+    }
 
+    /**
+     * Parses the named application command-line parameters, such as those given
+     * as {@code --config=FILE}, keyed by their names.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
+        AppParameters appParameters = new AppParameters();
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
             logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
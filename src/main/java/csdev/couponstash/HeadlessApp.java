@@ -0,0 +1,248 @@
+package csdev.couponstash;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import csdev.couponstash.commons.core.Config;
+import csdev.couponstash.commons.core.LogsCenter;
+import csdev.couponstash.commons.exceptions.DataConversionException;
+import csdev.couponstash.commons.util.StringUtil;
+import csdev.couponstash.logic.Logic;
+import csdev.couponstash.logic.LogicManager;
+import csdev.couponstash.logic.commands.Command;
+import csdev.couponstash.logic.commands.CommandResult;
+import csdev.couponstash.logic.commands.CopyCommand;
+import csdev.couponstash.logic.commands.ExpandCommand;
+import csdev.couponstash.logic.commands.HelpCommand;
+import csdev.couponstash.logic.commands.ShareCommand;
+import csdev.couponstash.logic.commands.exceptions.CommandException;
+import csdev.couponstash.logic.parser.exceptions.ParseException;
+import csdev.couponstash.model.Model;
+import csdev.couponstash.model.ModelManager;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+import csdev.couponstash.model.ReadOnlyUserPrefs;
+import csdev.couponstash.model.UserPrefs;
+import csdev.couponstash.storage.AsyncStorage;
+import csdev.couponstash.storage.CouponStashStorage;
+import csdev.couponstash.storage.JsonUserPrefsStorage;
+import csdev.couponstash.storage.Storage;
+import csdev.couponstash.storage.StorageManager;
+import csdev.couponstash.storage.UserPrefsStorage;
+import csdev.couponstash.ui.CsTab;
+
+/**
+ * Runs CouponStash without a window, for scripts and scheduled jobs. Commands
+ * are read one per line from script files, or from standard input if no script
+ * file is given, and the feedback of each command is written to standard output.
+ * No JavaFX toolkit is started and no FXML is loaded, so that starting up only
+ * takes as long as reading the CouponStash.
+ *
+ * <p>Usage: {@code java -jar couponStash.jar --headless [--config=CONFIG_FILE] [SCRIPT_FILE]...}
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final String MESSAGE_NEEDS_WINDOW = "This command needs the CouponStash window, "
+            + "and cannot be run in headless mode.";
+
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read script file %s: %s";
+
+    public static final String MESSAGE_DATA_FILE_NOT_FOUND = "Data file %s not found. "
+            + "Headless mode only runs commands on an existing CouponStash.";
+
+    public static final String MESSAGE_DATA_FILE_NOT_READ = "Could not read data file %s, "
+            + "so no commands were run: %s";
+
+    // lines of a script starting with this are not run
+    private static final String COMMENT_START = "#";
+
+    private static final String NAMED_PARAMETER_START = "--";
+
+    private static final Set<Class<? extends Command>> WINDOW_COMMANDS =
+            Set.of(CopyCommand.class, ExpandCommand.class, HelpCommand.class, ShareCommand.class);
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+    private volatile boolean hasSaveFailed = false;
+    private boolean hasExited = false;
+
+    /**
+     * Constructs a {@code HeadlessApp} that runs commands through {@code logic},
+     * writing their feedback to {@code out} and their errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+        logic.setSaveErrorHandler(this::handleSaveError);
+    }
+
+    /**
+     * Runs every command read from {@code commands} in order, until the end of
+     * {@code commands} or an exit command, after which no more commands are run. Blank lines and lines starting with
+     * {@code #} are skipped. A command that fails, even with an unexpected exception,
+     * does not stop the commands after it.
+     *
+     * @return The number of commands that failed.
+     * @throws IOException If {@code commands} could not be read.
+     */
+    public int run(BufferedReader commands) throws IOException {
+        requireNonNull(commands);
+        int failedCommands = 0;
+        String line;
+        while (!hasExited && (line = commands.readLine()) != null) {
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                hasExited = commandResult.isExit();
+            } catch (CommandException | ParseException e) {
+                err.println(commandText + ": " + e.getMessage());
+                failedCommands++;
+            } catch (RuntimeException e) {
+                logger.warning("Unexpected error running " + commandText + ": " + StringUtil.getDetails(e));
+                err.println(commandText + ": " + e);
+                failedCommands++;
+            }
+        }
+        return failedCommands;
+    }
+
+    /**
+     * Returns true if saving the CouponStash failed after any command.
+     */
+    public boolean hasSaveFailed() {
+        return hasSaveFailed;
+    }
+
+    private CommandResult execute(String commandText) throws CommandException, ParseException {
+        Command command = logic.parseCommand(commandText);
+        if (WINDOW_COMMANDS.contains(command.getClass())) {
+            throw new CommandException(MESSAGE_NEEDS_WINDOW);
+        }
+        return logic.execute(command, commandText, CsTab.COUPONS);
+    }
+
+    private void handleSaveError(String message) {
+        hasSaveFailed = true;
+        err.println(message);
+    }
+
+    /**
+     * Runs the commands in the script files given in {@code args}, or from standard
+     * input if none are given, and exits with status 1 if any of them failed. If the
+     * data file is missing or cannot be read, no commands are run, so that the file
+     * is never replaced by sample data or an empty CouponStash.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<Path> scriptPaths = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            int valueStart = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_START) && valueStart > 0) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), valueStart),
+                        arg.substring(valueStart + 1));
+            } else {
+                scriptPaths.add(Paths.get(arg));
+            }
+        }
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        CouponStashStorage couponStashStorage = AppInitializer.initCouponStashStorage(userPrefs);
+        Storage storage = new AsyncStorage(new StorageManager(couponStashStorage, userPrefsStorage));
+
+        LogsCenter.init(config);
+        logger.info("=========================[ Running CouponStash headless ]=========================");
+
+        Optional<Model> modelOptional = readModel(storage, userPrefs, System.err);
+        if (modelOptional.isEmpty()) {
+            System.exit(1);
+        }
+        Model model = modelOptional.get();
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage), System.out, System.err);
+
+        int failedCommands = 0;
+        try {
+            if (scriptPaths.isEmpty()) {
+                failedCommands = app.runFromStandardInput();
+            }
+            for (Path scriptPath : scriptPaths) {
+                failedCommands += app.runScript(scriptPath);
+            }
+        } finally {
+            AppInitializer.stop(storage, model);
+        }
+        System.exit(failedCommands == 0 && !app.hasSaveFailed() ? 0 : 1);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s CouponStash and
+     * {@code userPrefs}, or an empty Optional if the CouponStash is not found or cannot be
+     * read, in which case the reason is written to {@code err}.
+     */
+    static Optional<Model> readModel(Storage storage, ReadOnlyUserPrefs userPrefs, PrintStream err) {
+        Path couponStashFilePath = storage.getCouponStashFilePath();
+        try {
+            Optional<ReadOnlyCouponStash> couponStashOptional = storage.readCouponStash();
+            if (couponStashOptional.isEmpty()) {
+                err.println(String.format(MESSAGE_DATA_FILE_NOT_FOUND, couponStashFilePath));
+                return Optional.empty();
+            }
+            return Optional.of(new ModelManager(couponStashOptional.get(), userPrefs));
+        } catch (DataConversionException | IOException e) {
+            err.println(String.format(MESSAGE_DATA_FILE_NOT_READ, couponStashFilePath, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private int runFromStandardInput() {
+        try {
+            return run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    private int runScript(Path scriptPath) {
+        try (BufferedReader commands = Files.newBufferedReader(scriptPath)) {
+            return run(commands);
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_SCRIPT_NOT_READ, scriptPath, e.getMessage()));
+            return 1;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package csdev.couponstash;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --headless}, the application is run by HeadlessApp instead,
+ * without starting JavaFX.
  */
 public class Main {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
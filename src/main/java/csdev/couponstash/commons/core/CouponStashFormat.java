@@ -0,0 +1,11 @@
+package csdev.couponstash.commons.core;
+
+/**
+ * The file formats that CouponStash data can be stored in.
+ */
+public enum CouponStashFormat {
+    /** A json file, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary file, which is smaller and faster to read and write than json. */
+    BINARY
+}
@@ -10,5 +10,6 @@ public class Messages {
     public static final String MESSAGE_INVALID_COUPON_DISPLAYED_INDEX = "The coupon index provided is invalid";
     public static final String MESSAGE_COUPONS_EXPIRING_ON_DATE = "Found %s coupon(s) expiring on %s!";
     public static final String MESSAGE_COUPONS_EXPIRING_DURING_YEAR_MONTH = "Found %s coupon(s) expiring during %s!";
+    public static final String MESSAGE_COUPONS_EXPIRING_BETWEEN_DATES = "Found %s coupon(s) expiring from %s to %s!";
     public static final String MESSAGE_NO_COUPONS_EXPIRING = "No coupons expiring on %s! Try another date/ month!";
 }
@@ -8,27 +8,47 @@ import csdev.couponstash.commons.moneysymbol.MoneySymbol;
 /**
  * This class holds the settings of the CouponStash
  * that may be configured by the user, such as the
- * symbol to be used for MonetaryAmount.
+ * symbol to be used for MonetaryAmount, and the
+ * amount of memory that the undo history may use.
  */
 public class StashSettings implements Serializable {
     public static final String DEFAULT_MONEY_SYMBOL = "$";
+    public static final long DEFAULT_HISTORY_MEMORY_BUDGET = 64L * 1024 * 1024;
 
     private static final long serialVersionUID = 9044979298460194104L;
 
     private final MoneySymbol moneySymbol;
+    private final long historyMemoryBudget;
 
     public StashSettings() {
         this.moneySymbol = MoneySymbol.getMoneySymbol(StashSettings.DEFAULT_MONEY_SYMBOL);
+        this.historyMemoryBudget = StashSettings.DEFAULT_HISTORY_MEMORY_BUDGET;
     }
 
     public StashSettings(MoneySymbol moneySymbol) {
+        this(moneySymbol, StashSettings.DEFAULT_HISTORY_MEMORY_BUDGET);
+    }
+
+    /**
+     * Constructs a StashSettings with the given settings.
+     * @param moneySymbol The MoneySymbol to be used.
+     * @param historyMemoryBudget Estimated number of bytes of
+     *                            memory that the undo history
+     *                            is allowed to take up.
+     */
+    public StashSettings(MoneySymbol moneySymbol, long historyMemoryBudget) {
         this.moneySymbol = moneySymbol;
+        this.historyMemoryBudget = historyMemoryBudget;
     }
 
     public MoneySymbol getMoneySymbol() {
         return this.moneySymbol;
     }
 
+    public long getHistoryMemoryBudget() {
+        return this.historyMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
@@ -39,19 +59,21 @@ public class StashSettings implements Serializable {
         }
 
         StashSettings ss = (StashSettings) o;
-        // will always return true as there can only be one MoneySymbol
-        return this.moneySymbol.equals(ss.moneySymbol);
+        // money symbols will always be equal as there can only be one MoneySymbol
+        return this.moneySymbol.equals(ss.moneySymbol)
+                && this.historyMemoryBudget == ss.historyMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.moneySymbol);
+        return Objects.hash(this.moneySymbol, this.historyMemoryBudget);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Money Symbol : " + this.moneySymbol.getString());
+        sb.append("\nHistory Memory Budget : " + this.historyMemoryBudget);
         return sb.toString();
     }
 }
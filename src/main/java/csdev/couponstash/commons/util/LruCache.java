@@ -0,0 +1,42 @@
+package csdev.couponstash.commons.util;
+
+import static csdev.couponstash.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map that holds at most a fixed number of entries. Once it is full,
+ * adding a new entry evicts the least recently used entry, where both
+ * reading and writing an entry counts as using it.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ */
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+    public static final String MESSAGE_CONSTRAINTS = "Capacity of a cache should be positive.";
+
+    private final int capacity;
+
+    /**
+     * Constructs an empty {@code LruCache} that holds at most {@code capacity} entries.
+     */
+    public LruCache(int capacity) {
+        // entries are kept in order of access, from least to most recently used
+        super(16, 0.75f, true);
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the largest number of entries that this cache holds.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > capacity;
+    }
+}
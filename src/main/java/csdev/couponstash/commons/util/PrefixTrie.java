@@ -0,0 +1,209 @@
+package csdev.couponstash.commons.util;
+
+import static csdev.couponstash.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A compressed trie of words, which finds the words that start with a prefix
+ * without looking at the words that do not.
+ *
+ * <p>Each word is looked up by a key given by a function of the word, such as the
+ * word in lower case, so that two words with the same key share a node. Each edge
+ * is labelled with a string instead of a single character, so that nodes are only
+ * made where words branch off. A word can be added more than once, and is only
+ * removed from the trie once it has been removed as many times as it was added.
+ */
+public class PrefixTrie {
+    public static final String MESSAGE_CONSTRAINTS = "Number of completions should be positive.";
+
+    private final Node root = new Node("");
+    private final UnaryOperator<String> keyOfWord;
+    private int size = 0;
+
+    /**
+     * Constructs an empty {@code PrefixTrie} that looks up each word by the word itself.
+     */
+    public PrefixTrie() {
+        this(word -> word);
+    }
+
+    /**
+     * Constructs an empty {@code PrefixTrie} that looks up each word by the key
+     * given by {@code keyOfWord}, and each prefix by the key of the prefix.
+     */
+    public PrefixTrie(UnaryOperator<String> keyOfWord) {
+        requireNonNull(keyOfWord);
+        this.keyOfWord = keyOfWord;
+    }
+
+    /**
+     * Returns the number of distinct words in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code word} to this trie. This takes time in proportion to the length of the word.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = keyOfWord.apply(word);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+            }
+            int common = getCommonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // the word branches off in the middle of the edge, so the edge is split there
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(key.charAt(i), middle);
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        if (node.words.merge(word, 1, Integer::sum) == 1) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code word} from this trie once. Returns true if the word was in this trie.
+     */
+    public boolean remove(String word) {
+        requireNonNull(word);
+        return remove(root, keyOfWord.apply(word), 0, word);
+    }
+
+    /**
+     * Returns up to {@code limit} words that start with {@code prefix}, ordered by their
+     * keys, and then by the words themselves. This takes time in proportion to the length
+     * of the prefix and the number of words returned, however many words are in this trie.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+        String key = keyOfWord.apply(prefix);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                return new ArrayList<>();
+            }
+            int common = getCommonPrefixLength(child.label, key, i);
+            if (common < child.label.length() && i + common < key.length()) {
+                // the prefix branches off in the middle of the edge, so no word starts with it
+                return new ArrayList<>();
+            }
+            node = child;
+            i += common;
+        }
+        List<String> completions = new ArrayList<>();
+        collectWords(node, completions, limit);
+        return completions;
+    }
+
+    /**
+     * Adds the words under {@code node} to {@code words}, in order, until there are {@code limit} words.
+     * As every node without words has at least two children, this visits a bounded number of nodes
+     * for each word added.
+     */
+    private static void collectWords(Node node, List<String> words, int limit) {
+        for (String word : node.words.keySet()) {
+            if (words.size() >= limit) {
+                return;
+            }
+            words.add(word);
+        }
+        for (Node child : node.children.values()) {
+            if (words.size() >= limit) {
+                return;
+            }
+            collectWords(child, words, limit);
+        }
+    }
+
+    private boolean remove(Node node, String key, int i, String word) {
+        if (i == key.length()) {
+            Integer count = node.words.get(word);
+            if (count == null) {
+                return false;
+            }
+            if (count > 1) {
+                node.words.put(word, count - 1);
+            } else {
+                node.words.remove(word);
+                size--;
+            }
+            return true;
+        }
+        Node child = node.children.get(key.charAt(i));
+        if (child == null || !key.startsWith(child.label, i)) {
+            return false;
+        }
+        boolean isRemoved = remove(child, key, i + child.label.length(), word);
+        if (isRemoved) {
+            compact(node, child);
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Removes {@code child} from {@code parent} if it has no words or children left,
+     * or merges it with its only child if it has no words left.
+     */
+    private static void compact(Node parent, Node child) {
+        if (!child.words.isEmpty() || child.children.size() > 1) {
+            return;
+        }
+        char firstChar = child.label.charAt(0);
+        if (child.children.isEmpty()) {
+            parent.children.remove(firstChar);
+        } else {
+            Node grandchild = child.children.values().iterator().next();
+            grandchild.label = child.label + grandchild.label;
+            parent.children.put(firstChar, grandchild);
+        }
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and
+     * {@code key} from index {@code start}.
+     */
+    private static int getCommonPrefixLength(String label, String key, int start) {
+        int length = 0;
+        while (length < label.length() && start + length < key.length()
+                && label.charAt(length) == key.charAt(start + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the trie, reached by an edge labelled with part of a key.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        // the words with the key of this node, with the number of times each was added
+        private final Map<String, Integer> words = new TreeMap<>();
+        private String label;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
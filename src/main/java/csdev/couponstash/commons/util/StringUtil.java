@@ -6,7 +6,10 @@ import static java.util.Objects.requireNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -39,6 +42,28 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words in {@code sentence}, split on whitespace, in lower case.
+     * Two words are equal ignoring case if they are equal once both are in lower case,
+     * so the words can be looked up in a set or map instead of compared one by one.
+     *   <br>examples:<pre>
+     *       getLowerCaseWords("ABc  def") == ["abc", "def"]
+     *       getLowerCaseWords(" ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> getLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return words;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,146 @@
+package csdev.couponstash.logic;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import csdev.couponstash.commons.core.LogsCenter;
+import csdev.couponstash.logic.commands.CommandResult;
+import csdev.couponstash.logic.commands.exceptions.CommandException;
+import csdev.couponstash.logic.parser.exceptions.ParseException;
+import csdev.couponstash.ui.CsTab;
+
+/**
+ * Runs the commands entered by the user one at a time, in the order that they
+ * were entered, without making the user wait for a command to finish before
+ * entering the next one.
+ *
+ * <p>Each command is parsed and executed on a dedicated command thread, which is
+ * the single writer of the model, so that the UI thread is never held up by a
+ * command. The UI does not show the model itself, but a {@link ModelMirror} of it,
+ * which is updated on the UI thread after each command, along with the result of
+ * the command. Saving the CouponStash after a command is done on the storage thread.
+ */
+public class CommandPipeline {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private final Logic logic;
+    private final Executor uiThread;
+    private final ExecutorService commandThread;
+    private final ModelMirror modelMirror;
+    // the commands submitted whose results have not been shown yet
+    private final AtomicInteger pendingCommands = new AtomicInteger();
+    private Consumer<Boolean> busyHandler = isBusy -> { };
+
+    /**
+     * Constructs a {@code CommandPipeline} that executes commands through {@code logic},
+     * and shows their results on {@code uiThread}, such as {@code Platform::runLater}.
+     * Must be called on the UI thread, before any command is executed.
+     */
+    public CommandPipeline(Logic logic, Executor uiThread) {
+        requireAllNonNull(logic, uiThread);
+        this.logic = logic;
+        this.uiThread = uiThread;
+        this.modelMirror = new ModelMirror(logic);
+        this.commandThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the mirror of the model to be shown in the UI, which is
+     * only changed on the UI thread.
+     */
+    public ModelMirror getModelMirror() {
+        return modelMirror;
+    }
+
+    /**
+     * Sets the handler to be told on the UI thread when the pipeline becomes
+     * busy with commands, and when it has executed every command submitted.
+     */
+    public void setBusyHandler(Consumer<Boolean> busyHandler) {
+        requireNonNull(busyHandler);
+        this.busyHandler = busyHandler;
+    }
+
+    /**
+     * Returns true if any command submitted has not been executed yet.
+     */
+    public boolean isBusy() {
+        return pendingCommands.get() > 0;
+    }
+
+    /**
+     * Submits a command to be parsed and executed after every command submitted
+     * before it. The returned future is completed on the UI thread, once the model
+     * mirror shows the changes made by the command, with the result of the command,
+     * or with the {@code ParseException} or {@code CommandException} that it failed with.
+     *
+     * @param commandText The command as entered by the user.
+     * @param selectedTab The tab selected when the command was entered.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText, CsTab selectedTab) {
+        requireAllNonNull(commandText, selectedTab);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (pendingCommands.getAndIncrement() == 0) {
+            uiThread.execute(() -> busyHandler.accept(true));
+        }
+        commandThread.execute(() -> {
+            CommandResult commandResult = null;
+            Exception commandFailure = null;
+            try {
+                commandResult = logic.execute(commandText, selectedTab);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                commandFailure = e;
+            }
+            // taken even if the command failed, as it may have changed the model before failing
+            ModelMirror.Snapshot snapshot = modelMirror.takeSnapshot();
+
+            CommandResult executedResult = commandResult;
+            Exception failure = commandFailure;
+            uiThread.execute(() -> {
+                try {
+                    modelMirror.apply(snapshot);
+                } finally {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else {
+                        result.complete(executedResult);
+                    }
+                    if (pendingCommands.decrementAndGet() == 0) {
+                        busyHandler.accept(false);
+                    }
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Stops executing the commands submitted, and waits for the command being
+     * executed to finish, so that the model is no longer changed once this returns.
+     */
+    public void shutdown() {
+        commandThread.shutdownNow();
+        try {
+            if (!commandThread.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Command still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package csdev.couponstash.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.StashSettings;
+import csdev.couponstash.logic.commands.Command;
 import csdev.couponstash.logic.commands.CommandResult;
 import csdev.couponstash.logic.commands.exceptions.CommandException;
 import csdev.couponstash.logic.parser.exceptions.ParseException;
@@ -29,6 +32,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText, CsTab selectedTab) throws CommandException, ParseException;
 
+    /**
+     * Parses the command without executing it, so that it can be looked at before
+     * it is executed.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the parsed command.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseCommand(String commandText) throws ParseException;
+
+    /**
+     * Executes a command returned by {@link #parseCommand(String)} and returns the result.
+     *
+     * @param command     The parsed command.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command, String commandText, CsTab selectedTab) throws CommandException;
+
+    /**
+     * Executes the commands in {@code commandTexts} in order as a single batch, which is
+     * undone as one command and saved once. If any of the commands fails, none of them
+     * are run.
+     *
+     * @param commandTexts The commands, one on each line of a batch.
+     * @return the result of the batch.
+     * @throws CommandException If an error occurs during the execution of any command.
+     * @throws ParseException   If any command cannot be parsed or run in a batch.
+     */
+    CommandResult executeBatch(List<String> commandTexts, CsTab selectedTab) throws CommandException, ParseException;
+
     /**
      * Returns the CouponStash.
      *
@@ -72,4 +107,10 @@ public interface Logic {
      * Set the user prefs' CouponStash settings.
      */
     void setStashSettings(StashSettings stashSettings);
+
+    /**
+     * Sets the handler to be notified with an error message when
+     * saving the data fails after a command has already returned.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
 }
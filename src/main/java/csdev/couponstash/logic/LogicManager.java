@@ -2,15 +2,19 @@ package csdev.couponstash.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.LogsCenter;
 import csdev.couponstash.commons.core.StashSettings;
+import csdev.couponstash.logic.commands.BatchCommand;
 import csdev.couponstash.logic.commands.Command;
 import csdev.couponstash.logic.commands.CommandResult;
 import csdev.couponstash.logic.commands.IndexedCommand;
 import csdev.couponstash.logic.commands.exceptions.CommandException;
+import csdev.couponstash.logic.parser.BatchCommandParser;
 import csdev.couponstash.logic.parser.CouponStashParser;
 import csdev.couponstash.logic.parser.exceptions.ParseException;
 import csdev.couponstash.model.Model;
@@ -43,9 +47,17 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText, CsTab selectedTab) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(parseCommand(commandText), commandText, selectedTab);
+    }
 
-        Command command = couponStashParser.parseCommand(commandText);
+    @Override
+    public Command parseCommand(String commandText) throws ParseException {
+        return couponStashParser.parseCommand(commandText);
+    }
+
+    @Override
+    public CommandResult execute(Command command, String commandText, CsTab selectedTab) throws CommandException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         if (!selectedTab.equals(CsTab.COUPONS) && command instanceof IndexedCommand) {
             logger.info("Aborting index command execution in incorrect tab");
@@ -63,6 +75,13 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts, CsTab selectedTab)
+            throws CommandException, ParseException {
+        BatchCommand batchCommand = new BatchCommandParser(couponStashParser).parseLines(commandTexts);
+        return execute(batchCommand, String.join("; ", commandTexts), selectedTab);
+    }
+
     @Override
     public ReadOnlyCouponStash getCouponStash() {
         return model.getCouponStash();
@@ -107,4 +126,9 @@ public class LogicManager implements Logic {
     public void setStashSettings(StashSettings stashSettings) {
         model.setStashSettings(stashSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
 }
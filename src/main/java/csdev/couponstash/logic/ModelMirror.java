@@ -0,0 +1,186 @@
+package csdev.couponstash.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import csdev.couponstash.logic.parser.CommandCompleter;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.element.CouponCompletionIndex;
+import csdev.couponstash.model.element.CouponDateIndex;
+import csdev.couponstash.model.element.ObservableMonthView;
+import csdev.couponstash.model.element.SavingsSummary;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of the parts of the model that are shown in the UI, which is only read and
+ * changed on the UI thread, while the model itself is changed by the commands run on
+ * the command thread of a {@link CommandPipeline}.
+ *
+ * <p>After each command, a {@link Snapshot} of the model is taken on the command thread,
+ * which is then applied to the mirror on the UI thread. Only the Coupons that differ are
+ * replaced in the lists of the mirror, so that the indexes and the summary kept over them
+ * are updated as they would be over the model. The Coupons are immutable, so they are
+ * shared with the model.
+ */
+public class ModelMirror {
+
+    private final Logic logic;
+    private final ObservableList<Coupon> allCoupons = FXCollections.observableArrayList();
+    private final ObservableList<Coupon> shownCoupons = FXCollections.observableArrayList();
+    private final ObservableList<Coupon> unmodifiableShownCoupons =
+            FXCollections.unmodifiableObservableList(shownCoupons);
+    private final ObservableMonthView monthView = new ObservableMonthView();
+    private final SimpleStringProperty moneySymbol = new SimpleStringProperty();
+    private final CouponDateIndex shownExpiryIndex;
+    private final SavingsSummary savingsSummary;
+    private final CommandCompleter commandCompleter;
+    // only used on the command thread, to copy the lists only after they have changed
+    private boolean haveAllCouponsChanged = true;
+    private boolean haveShownCouponsChanged = true;
+
+    /**
+     * Constructs a {@code ModelMirror} of the model behind {@code logic}. No command
+     * may be running, as the model is read straight away.
+     */
+    public ModelMirror(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        logic.getAllCouponList().addListener((ListChangeListener<? super Coupon>) change ->
+                haveAllCouponsChanged = true);
+        logic.getFilteredCouponList().addListener((ListChangeListener<? super Coupon>) change ->
+                haveShownCouponsChanged = true);
+
+        // created before the lists are filled, and before the UI listens to the lists
+        shownExpiryIndex = new CouponDateIndex(shownCoupons, coupon -> coupon.getExpiryDate().getDate());
+        savingsSummary = new SavingsSummary(allCoupons);
+        commandCompleter = new CommandCompleter(new CouponCompletionIndex(allCoupons));
+        apply(takeSnapshot());
+    }
+
+    /**
+     * Returns the parts of the model that are shown in the UI, to be applied to the
+     * mirror with {@link #apply(Snapshot)}. Must be called on the thread that commands
+     * run on, after a command has been run.
+     */
+    public Snapshot takeSnapshot() {
+        List<Coupon> allCouponsCopy = null;
+        if (haveAllCouponsChanged) {
+            allCouponsCopy = new ArrayList<>(logic.getAllCouponList());
+            haveAllCouponsChanged = false;
+        }
+        List<Coupon> shownCouponsCopy = null;
+        if (haveShownCouponsChanged) {
+            shownCouponsCopy = new ArrayList<>(logic.getFilteredCouponList());
+            haveShownCouponsChanged = false;
+        }
+        return new Snapshot(allCouponsCopy, shownCouponsCopy, logic.getMonthView().getValue().getValue(),
+                logic.getStashSettings().getMoneySymbol().getString());
+    }
+
+    /**
+     * Updates the mirror to show {@code snapshot}. Must be called on the UI thread,
+     * with the snapshots in the order that they were taken.
+     */
+    public void apply(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot.allCoupons != null) {
+            replaceChanged(allCoupons, snapshot.allCoupons);
+        }
+        if (snapshot.shownCoupons != null) {
+            replaceChanged(shownCoupons, snapshot.shownCoupons);
+        }
+        if (!snapshot.monthView.equals(monthView.getValue().getValue())) {
+            monthView.setValue(snapshot.monthView);
+        }
+        moneySymbol.set(snapshot.moneySymbol);
+    }
+
+    /**
+     * Replaces the Coupons in {@code mirrored} that differ from {@code coupons}, told
+     * apart by reference. As commands mostly change a few Coupons next to each other,
+     * only the Coupons between the first and the last one that differ are replaced.
+     */
+    private static void replaceChanged(ObservableList<Coupon> mirrored, List<Coupon> coupons) {
+        int maxPrefix = Math.min(mirrored.size(), coupons.size());
+        int prefix = 0;
+        while (prefix < maxPrefix && mirrored.get(prefix) == coupons.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxPrefix - prefix
+                && mirrored.get(mirrored.size() - 1 - suffix) == coupons.get(coupons.size() - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix + suffix == mirrored.size() && prefix + suffix == coupons.size()) {
+            return;
+        }
+        if (prefix + suffix < mirrored.size()) {
+            mirrored.remove(prefix, mirrored.size() - suffix);
+        }
+        mirrored.addAll(prefix, coupons.subList(prefix, coupons.size() - suffix));
+    }
+
+    /**
+     * Returns an unmodifiable view of the Coupons shown.
+     *
+     * @see Logic#getFilteredCouponList()
+     */
+    public ObservableList<Coupon> getFilteredCouponList() {
+        return unmodifiableShownCoupons;
+    }
+
+    /** Returns an index of the Coupons shown by expiry date */
+    public CouponDateIndex getFilteredExpiryIndex() {
+        return shownExpiryIndex;
+    }
+
+    /** Returns a summary of the savings of every single coupon */
+    public SavingsSummary getSavingsSummary() {
+        return savingsSummary;
+    }
+
+    /** Returns the MonthView shown on the Calendar */
+    public ObservableMonthView getMonthView() {
+        return monthView;
+    }
+
+    /** Returns the money symbol that Savings are shown with */
+    public ObservableValue<String> getMoneySymbol() {
+        return moneySymbol;
+    }
+
+    /**
+     * Returns the ways to complete the command as typed so far by the user,
+     * each being the whole command with the end completed.
+     *
+     * @param commandText The command as typed so far by the user.
+     */
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.getCompletions(commandText);
+    }
+
+    /**
+     * The parts of the model shown in the UI after a command. The lists are
+     * null if they have not changed since the snapshot before.
+     */
+    public static class Snapshot {
+        private final List<Coupon> allCoupons;
+        private final List<Coupon> shownCoupons;
+        private final String monthView;
+        private final String moneySymbol;
+
+        private Snapshot(List<Coupon> allCoupons, List<Coupon> shownCoupons, String monthView,
+                         String moneySymbol) {
+            this.allCoupons = allCoupons;
+            this.shownCoupons = shownCoupons;
+            this.monthView = monthView;
+            this.moneySymbol = moneySymbol;
+        }
+    }
+}
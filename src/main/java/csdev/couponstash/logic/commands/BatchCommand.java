@@ -0,0 +1,109 @@
+package csdev.couponstash.logic.commands;
+
+import static csdev.couponstash.commons.util.AppUtil.checkArgument;
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import csdev.couponstash.logic.commands.exceptions.CommandException;
+import csdev.couponstash.model.Model;
+
+/**
+ * Runs the commands in a file as a single command. The changes made by all
+ * of them are undone together, and the CouponStash is only saved once after
+ * the last of them. If any of the commands fails, the changes made by the
+ * commands before it are rolled back, so that either every command in the
+ * batch is run, or none of them are.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one on each line, "
+            + "as a single command that can be undone at once. "
+            + "If any of the commands fails, none of them are run. "
+            + "Blank lines and lines starting with # are skipped.\n\n"
+            + "Parameters: FILE_PATH\n\n"
+            + "Example: " + COMMAND_WORD + " monthly_coupons.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %d commands as one batch.";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d of the batch failed, so no commands were run: "
+            + "%s\n%s";
+
+    public static final String MESSAGE_LINE_NOT_PARSED = "Line %d of the batch could not be read: %s\n%s";
+
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "Line %d of the batch is a %s command, "
+            + "which cannot be run in a batch.";
+
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read the batch file: %s";
+
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands in the batch.";
+
+    // lines of a batch file starting with this are skipped
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_MISMATCHED_COMMANDS = "Every command in a batch needs its command text!";
+
+    /**
+     * The commands that change the history, the settings or the window, which
+     * cannot be rolled back, and so are not allowed in a batch.
+     */
+    public static final Set<String> NOT_ALLOWED_COMMAND_WORDS = Set.of(COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, ExpandCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD, SetCurrencyCommand.COMMAND_WORD, ShareCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD);
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+    private final List<String> commandTexts;
+
+    /**
+     * Constructs a {@code BatchCommand} that runs each of {@code commands} in order.
+     *
+     * @param commands The commands to run.
+     * @param lineNumbers The number of the line in the batch file of each command.
+     * @param commandTexts The command text of each command.
+     */
+    public BatchCommand(List<Command> commands, List<Integer> lineNumbers, List<String> commandTexts) {
+        requireAllNonNull(commands, lineNumbers, commandTexts);
+        checkArgument(commands.size() == lineNumbers.size() && commands.size() == commandTexts.size(),
+                MESSAGE_MISMATCHED_COMMANDS);
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+        this.commandTexts = new ArrayList<>(commandTexts);
+    }
+
+    @Override
+    public CommandResult execute(Model model, String commandText) throws CommandException {
+        requireNonNull(model);
+        model.beginBatch();
+        int current = 0;
+        try {
+            for (; current < commands.size(); current++) {
+                commands.get(current).execute(model, commandTexts.get(current));
+            }
+        } catch (CommandException e) {
+            model.rollbackBatch();
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(current),
+                    commandTexts.get(current), e.getMessage()), e);
+        } catch (RuntimeException e) {
+            model.rollbackBatch();
+            throw e;
+        }
+        model.commitBatch(commandText);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands)
+                && lineNumbers.equals(((BatchCommand) other).lineNumbers)
+                && commandTexts.equals(((BatchCommand) other).commandTexts));
+    }
+}
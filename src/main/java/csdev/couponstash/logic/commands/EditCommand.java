@@ -26,8 +26,8 @@ import csdev.couponstash.model.coupon.PromoCode;
 import csdev.couponstash.model.coupon.RemindDate;
 import csdev.couponstash.model.coupon.StartDate;
 import csdev.couponstash.model.coupon.Usage;
-import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
 import csdev.couponstash.model.coupon.savings.Savings;
+import csdev.couponstash.model.coupon.savings.SavingsHistory;
 import csdev.couponstash.model.tag.Tag;
 
 /**
@@ -137,13 +137,13 @@ public class EditCommand extends IndexedCommand {
 
         // State that cannot be edited
         Usage currentUsage = couponToEdit.getUsage();
-        DateSavingsSumMap currentDssm = couponToEdit.getSavingsMap();
+        SavingsHistory currentSavingsHistory = couponToEdit.getSavingsHistory();
         Archived currentArchived = couponToEdit.getArchived();
 
         return new Coupon(updatedName, updatedPromoCode, updatedSavings, updatedExpiryDate, updatedStartDate,
                 currentUsage,
                 updatedLimit, updatedTags,
-                currentDssm,
+                currentSavingsHistory,
                 remindDate,
                 updatedCondition,
                 currentArchived);
@@ -2,42 +2,40 @@ package csdev.couponstash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import csdev.couponstash.commons.core.Messages;
 import csdev.couponstash.commons.util.DateUtil;
 import csdev.couponstash.logic.parser.CliSyntax;
 import csdev.couponstash.model.Model;
 import csdev.couponstash.model.coupon.Coupon;
-import csdev.couponstash.model.coupon.DateIsEqualsPredicate;
-import csdev.couponstash.model.coupon.DateIsInMonthYearPredicate;
+import csdev.couponstash.model.coupon.DateIsInRangePredicate;
+import csdev.couponstash.model.element.CouponDateIndex;
+import csdev.couponstash.model.element.FoundCouponsPredicate;
 
 /**
  * This class represents the "expiring" command in Coupon Stash. It shows the user all expiring coupons on the
- * specified date in the CouponStash.
+ * specified date, in the specified month or from the specified start date to end date in the CouponStash.
  */
 public class ExpiringCommand extends Command {
 
     public static final String COMMAND_WORD = "expiring";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all coupons whose expiry date is "
-            + "the specified expiry date (in D-M-YYYY format) or in the specified Month Year (in M-YYYY format) "
+            + "the specified expiry date (in D-M-YYYY format), in the specified Month Year (in M-YYYY format) "
+            + "or from the first to the second specified expiry date "
             + "and displays them as a list with index numbers.\n\n"
             + "Parameters: "
             + CliSyntax.PREFIX_EXPIRY_DATE + "EXPIRY_DATE or "
-            + CliSyntax.PREFIX_MONTH_YEAR + "MONTH_YEAR\n\n"
+            + CliSyntax.PREFIX_MONTH_YEAR + "MONTH_YEAR or "
+            + CliSyntax.PREFIX_EXPIRY_DATE + "START_DATE " + CliSyntax.PREFIX_EXPIRY_DATE + "END_DATE\n\n"
             + "Example: " + COMMAND_WORD + " " + CliSyntax.PREFIX_EXPIRY_DATE + "31-12-2020 or " + COMMAND_WORD + " "
-            + CliSyntax.PREFIX_MONTH_YEAR + "12-2020";
+            + CliSyntax.PREFIX_MONTH_YEAR + "12-2020 or " + COMMAND_WORD + " "
+            + CliSyntax.PREFIX_EXPIRY_DATE + "1-1-2021 " + CliSyntax.PREFIX_EXPIRY_DATE + "31-3-2021";
 
-    private final Predicate<Coupon> predicate;
+    private final DateIsInRangePredicate predicate;
     private final String date;
 
-    public ExpiringCommand(DateIsEqualsPredicate predicate) {
-        requireNonNull(predicate);
-        this.predicate = predicate;
-        this.date = predicate.getDate();
-    }
-
-    public ExpiringCommand(DateIsInMonthYearPredicate predicate) {
+    public ExpiringCommand(DateIsInRangePredicate predicate) {
         requireNonNull(predicate);
         this.predicate = predicate;
         this.date = predicate.getDate();
@@ -56,16 +54,24 @@ public class ExpiringCommand extends Command {
         // Put non-archived at the top first
         model.sortCoupons(Model.COMPARATOR_NON_ARCHIVED_FIRST);
 
-        model.updateFilteredCouponList(predicate);
+        // the expiring coupons are looked up in the index, instead of testing the expiry date of every coupon
+        CouponDateIndex expiryIndex = model.getExpiryIndex();
+        Set<Coupon> expiringCoupons = expiryIndex.getCouponsBetween(predicate.getStartDate(), predicate.getEndDate());
+        model.updateFilteredCouponList(new FoundCouponsPredicate(expiringCoupons, expiryIndex::getVersion, predicate));
         int filteredListSize = model.getFilteredCouponList().size();
         if (DateUtil.isValidDate(date)) {
             model.updateMonthView(DateUtil.formatDateStringToYearMonthString(date));
             return new CommandResult(String.format(Messages.MESSAGE_COUPONS_EXPIRING_ON_DATE, filteredListSize, date));
-        } else {
-            assert DateUtil.isValidYearMonth(date) : "Should be a valid month year!";
+        } else if (DateUtil.isValidYearMonth(date)) {
             model.updateMonthView(date);
             return new CommandResult(String.format(Messages.MESSAGE_COUPONS_EXPIRING_DURING_YEAR_MONTH,
                     filteredListSize, date));
+        } else {
+            // show the month that the range starts in
+            String startDate = DateUtil.formatDateToString(predicate.getStartDate());
+            model.updateMonthView(DateUtil.formatDateStringToYearMonthString(startDate));
+            return new CommandResult(String.format(Messages.MESSAGE_COUPONS_EXPIRING_BETWEEN_DATES,
+                    filteredListSize, startDate, DateUtil.formatDateToString(predicate.getEndDate())));
         }
     }
 
@@ -2,27 +2,52 @@ package csdev.couponstash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.function.Predicate;
+
+import csdev.couponstash.logic.parser.CliSyntax;
 import csdev.couponstash.model.Model;
+import csdev.couponstash.model.coupon.Coupon;
 import csdev.couponstash.model.coupon.NameContainsKeywordsPredicate;
+import csdev.couponstash.model.element.CouponTagIndex;
+import csdev.couponstash.model.element.CouponTokenIndex;
+import csdev.couponstash.model.element.FoundCouponsPredicate;
+import csdev.couponstash.model.tag.TagQuery;
 
 /**
- * Finds and lists all coupons in CouponStash whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all coupons in CouponStash whose name contains any of the argument keywords,
+ * and whose tags match the given tags. Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all coupons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n\n"
-            + "Example: " + COMMAND_WORD + " auntie ikeaa";
+            + "the specified keywords (case-insensitive) and whose tags match the specified tags, "
+            + "and displays them as a list with index numbers.\n"
+            + "A coupon matches the tags if it has any of the TAGs, all of the +TAGs and none of the -TAGs.\n\n"
+            + "Parameters: [KEYWORD [MORE_KEYWORDS]...] "
+            + "[" + CliSyntax.PREFIX_TAG + "TAG or +TAG or -TAG]...\n\n"
+            + "Example: " + COMMAND_WORD + " auntie ikeaa or " + COMMAND_WORD + " "
+            + CliSyntax.PREFIX_TAG + "food " + CliSyntax.PREFIX_TAG + "grab " + CliSyntax.PREFIX_TAG + "-expensive";
     public static final String MESSAGE_COUPONS_FOUND = "%s coupon(s) found!";
 
+    // null if only the tags are to be matched
     private final NameContainsKeywordsPredicate predicate;
+    private final TagQuery tagQuery;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, TagQuery.EMPTY);
+    }
+
+    /**
+     * Creates a FindCommand to find the coupons whose names match {@code predicate},
+     * or any name if {@code predicate} is null, and whose tags match {@code tagQuery}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, TagQuery tagQuery) {
+        requireNonNull(tagQuery);
         this.predicate = predicate;
+        this.tagQuery = tagQuery;
     }
 
     @Override
@@ -32,7 +57,19 @@ public class FindCommand extends Command {
         model.sortCoupons(Model.COMPARATOR_NON_ARCHIVED_FIRST);
 
         model.updateFilteredCouponList(Model.PREDICATE_SHOW_ALL_COUPONS);
-        model.updateFilteredCouponList(predicate);
+        // matches the same coupons as the predicates, by looking up each keyword and tag in the indexes
+        Predicate<Coupon> filter = Model.PREDICATE_SHOW_ALL_COUPONS;
+        if (predicate != null) {
+            CouponTokenIndex nameIndex = model.getNameIndex();
+            Set<Coupon> foundCoupons = nameIndex.getCouponsWithAnyToken(predicate.getLowerCaseKeywords());
+            filter = new FoundCouponsPredicate(foundCoupons, nameIndex::getVersion, predicate);
+        }
+        if (!tagQuery.isEmpty()) {
+            CouponTagIndex tagIndex = model.getTagIndex();
+            Set<Coupon> foundCoupons = tagIndex.getCouponsMatching(tagQuery);
+            filter = filter.and(new FoundCouponsPredicate(foundCoupons, tagIndex::getVersion, tagQuery));
+        }
+        model.updateFilteredCouponList(filter);
 
         return new CommandResult(
                 String.format(MESSAGE_COUPONS_FOUND, model.getFilteredCouponList().size()));
@@ -40,8 +77,17 @@ public class FindCommand extends Command {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+        if (other == this) {
+            // short circuit if same object
+            return true;
+        } else if (!(other instanceof FindCommand)) {
+            // instanceof handles nulls
+            return false;
+        }
+
+        // state check
+        FindCommand otherCommand = (FindCommand) other;
+        return (predicate == null ? otherCommand.predicate == null : predicate.equals(otherCommand.predicate))
+                && tagQuery.equals(otherCommand.tagQuery);
     }
 }
@@ -9,9 +9,10 @@ import csdev.couponstash.logic.parser.CliSyntax;
 import csdev.couponstash.model.Model;
 import csdev.couponstash.model.coupon.Coupon;
 
-import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
+import csdev.couponstash.model.coupon.savings.Cents;
 import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
 import csdev.couponstash.model.coupon.savings.Saveable;
+import csdev.couponstash.model.coupon.savings.SavingsAccumulator;
 
 import javafx.collections.ObservableList;
 
@@ -101,10 +102,11 @@ public class SavedCommand extends Command {
         PureMonetarySavings pms = new PureMonetarySavings();
         if (!this.hasDate) {
             // add up all the Savings to get total Savings
+            SavingsAccumulator total = new SavingsAccumulator();
             for (Coupon c : couponsList) {
-                PureMonetarySavings toBeAdded = c.getTotalSavings();
-                pms = pms.add(toBeAdded);
+                total.addAll(c.getSavingsHistory());
             }
+            pms = total.toPureMonetarySavings();
             moneySaved.append("In total, you have saved ");
         } else {
             // sum up over the range of dates
@@ -113,19 +115,7 @@ public class SavedCommand extends Command {
                 throw new CommandException(SavedCommand.MESSAGE_FUTURE_DATE);
             }
             // add up Savings for the dates given
-            for (Coupon c : couponsList) {
-                DateSavingsSumMap savingsMap = c.getSavingsMap();
-
-                for (LocalDate ld = startDate;
-                     ld.isBefore(endDate) || ld.isEqual(endDate);
-                     ld = ld.plusDays(1)) {
-
-                    PureMonetarySavings toBeAdded = savingsMap.get(ld);
-                    if (toBeAdded != null) {
-                        pms = pms.add(toBeAdded);
-                    }
-                }
-            }
+            pms = model.getCouponStash().getSavingsBetween(startDate, endDate);
             moneySaved.append("You saved ");
         }
         // add the custom money symbol to the String
@@ -136,7 +126,7 @@ public class SavedCommand extends Command {
         String durationString = getDurationString();
 
         // get monetary amount
-        moneySaved.append(String.format("%.2f", pms.getMonetaryAmountAsDouble()));
+        Cents.appendTo(moneySaved, pms.getMonetaryAmountAsCents());
 
         // get saveables
         List<Saveable> saveables = pms.getListOfSaveables();
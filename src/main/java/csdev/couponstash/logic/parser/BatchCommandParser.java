@@ -0,0 +1,95 @@
+package csdev.couponstash.logic.parser;
+
+import static csdev.couponstash.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import csdev.couponstash.commons.util.FileUtil;
+import csdev.couponstash.logic.commands.BatchCommand;
+import csdev.couponstash.logic.commands.Command;
+import csdev.couponstash.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object, by reading
+ * the batch file and parsing every command in it.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    private final CouponStashParser couponStashParser;
+
+    /**
+     * Constructs a {@code BatchCommandParser} that parses the commands in
+     * a batch with {@code couponStashParser}.
+     */
+    public BatchCommandParser(CouponStashParser couponStashParser) {
+        requireNonNull(couponStashParser);
+        this.couponStashParser = couponStashParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format,
+     *     the batch file cannot be read, or any command in it cannot be parsed
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String filePath = args.trim();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(BatchCommand.MESSAGE_FILE_NOT_READ, filePath), ioe);
+        }
+        return parseLines(lines);
+    }
+
+    /**
+     * Parses every command in {@code lines}, one on each line, into a BatchCommand.
+     * Blank lines and lines starting with {@code #} are skipped.
+     * @throws ParseException if any command cannot be parsed or cannot be run in
+     *     a batch, or if there are no commands
+     */
+    public BatchCommand parseLines(List<String> lines) throws ParseException {
+        requireNonNull(lines);
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> commandTexts = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).strip();
+            if (commandText.isEmpty() || commandText.startsWith(BatchCommand.COMMENT_START)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            String commandWord = commandText.split("\\s+", 2)[0];
+            if (BatchCommand.NOT_ALLOWED_COMMAND_WORDS.contains(commandWord)) {
+                throw new ParseException(String.format(BatchCommand.MESSAGE_COMMAND_NOT_ALLOWED,
+                        lineNumber, commandWord));
+            }
+            try {
+                commands.add(couponStashParser.parseCommand(commandText));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(BatchCommand.MESSAGE_LINE_NOT_PARSED,
+                        lineNumber, commandText, pe.getMessage()), pe);
+            }
+            lineNumbers.add(lineNumber);
+            commandTexts.add(commandText);
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(BatchCommand.MESSAGE_NO_COMMANDS);
+        }
+        return new BatchCommand(commands, lineNumbers, commandTexts);
+    }
+}
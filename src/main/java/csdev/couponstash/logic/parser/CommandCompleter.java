@@ -0,0 +1,177 @@
+package csdev.couponstash.logic.parser;
+
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_ARCHIVE;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_DATE;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_EXPIRY_DATE;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_MONEY_SYMBOL;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_MONTH_YEAR;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_NAME;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_PROMO_CODE;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_REMIND;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_SAVINGS;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_TAG;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_USAGE;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import csdev.couponstash.commons.util.PrefixTrie;
+import csdev.couponstash.logic.commands.AddCommand;
+import csdev.couponstash.logic.commands.ArchiveCommand;
+import csdev.couponstash.logic.commands.BatchCommand;
+import csdev.couponstash.logic.commands.ClearCommand;
+import csdev.couponstash.logic.commands.CopyCommand;
+import csdev.couponstash.logic.commands.DeleteCommand;
+import csdev.couponstash.logic.commands.EditCommand;
+import csdev.couponstash.logic.commands.ExitCommand;
+import csdev.couponstash.logic.commands.ExpandCommand;
+import csdev.couponstash.logic.commands.ExpiringCommand;
+import csdev.couponstash.logic.commands.FindCommand;
+import csdev.couponstash.logic.commands.GoToCommand;
+import csdev.couponstash.logic.commands.HelpCommand;
+import csdev.couponstash.logic.commands.ListCommand;
+import csdev.couponstash.logic.commands.RedoCommand;
+import csdev.couponstash.logic.commands.SavedCommand;
+import csdev.couponstash.logic.commands.SetCurrencyCommand;
+import csdev.couponstash.logic.commands.ShareCommand;
+import csdev.couponstash.logic.commands.SortCommand;
+import csdev.couponstash.logic.commands.UnarchiveCommand;
+import csdev.couponstash.logic.commands.UndoCommand;
+import csdev.couponstash.logic.commands.UsedCommand;
+import csdev.couponstash.model.element.CouponCompletionIndex;
+
+/**
+ * Completes partly typed user input, by finding the command words, prefixes,
+ * coupon names and tag names that start with the word being typed.
+ *
+ * <p>Only the end of the input is completed. The first word is completed as a
+ * command word. A word after {@code t/} is completed as a tag name, and the text
+ * after {@code n/} as a coupon name. Other words are completed as the words in
+ * coupon names for the find command, or as prefixes for other commands. The
+ * names and tags are looked up in a {@link CouponCompletionIndex}, so that
+ * completing the input never looks at every coupon.
+ */
+public class CommandCompleter {
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_ARCHIVE, PREFIX_CONDITION, PREFIX_DATE,
+            PREFIX_EXPIRY_DATE, PREFIX_LIMIT, PREFIX_NAME, PREFIX_PROMO_CODE, PREFIX_REMIND, PREFIX_SAVINGS,
+            PREFIX_TAG, PREFIX_USAGE, PREFIX_MONEY_SYMBOL, PREFIX_MONTH_YEAR, PREFIX_START_DATE);
+    private static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD,
+            ArchiveCommand.COMMAND_WORD, BatchCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, CopyCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            ExpandCommand.COMMAND_WORD, ExpiringCommand.COMMAND_WORD, FindCommand.COMMAND_WORD,
+            GoToCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD, SavedCommand.COMMAND_WORD, SetCurrencyCommand.COMMAND_WORD,
+            ShareCommand.COMMAND_WORD, SortCommand.COMMAND_WORD, UnarchiveCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, UsedCommand.COMMAND_WORD);
+
+    private final CouponCompletionIndex completionIndex;
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie prefixes = new PrefixTrie();
+
+    /**
+     * Constructs a {@code CommandCompleter} that completes coupon names and
+     * tag names from {@code completionIndex}.
+     */
+    public CommandCompleter(CouponCompletionIndex completionIndex) {
+        requireNonNull(completionIndex);
+        this.completionIndex = completionIndex;
+        COMMAND_WORDS.forEach(commandWords::add);
+        PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} ways to complete {@code commandText},
+     * each being the whole of {@code commandText} with the end completed.
+     */
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        String text = commandText.stripLeading();
+        int commandWordEnd = getWordEnd(text);
+        if (commandWordEnd == text.length()) {
+            return complete(commandText, commandText.length() - text.length(),
+                    commandWords.getCompletions(text, MAX_COMPLETIONS));
+        }
+
+        String commandWord = text.substring(0, commandWordEnd);
+        int wordStart = commandText.lastIndexOf(' ') + 1;
+        String word = commandText.substring(wordStart);
+        if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            int tagStart = wordStart + PREFIX_TAG.getPrefix().length();
+            if (commandWord.equals(FindCommand.COMMAND_WORD) && tagStart < commandText.length()
+                    && (commandText.charAt(tagStart) == '+' || commandText.charAt(tagStart) == '-')) {
+                // the marker of an AND or a NOT tag in a find command
+                tagStart++;
+            }
+            return complete(commandText, tagStart,
+                    completionIndex.getTagCompletions(commandText.substring(tagStart), MAX_COMPLETIONS));
+        }
+
+        int nameStart = getArgumentStart(commandText, PREFIX_NAME);
+        if (nameStart >= 0) {
+            List<String> names = completionIndex.getNameCompletions(commandText.substring(nameStart),
+                    MAX_COMPLETIONS);
+            if (!names.isEmpty()) {
+                return complete(commandText, nameStart, names);
+            }
+        }
+
+        if (word.isEmpty() || word.contains("/")) {
+            // the argument of a prefix, which is not completed, or nothing to complete
+            return new ArrayList<>();
+        }
+        if (commandWord.equals(FindCommand.COMMAND_WORD)) {
+            return complete(commandText, wordStart,
+                    completionIndex.getNameWordCompletions(word, MAX_COMPLETIONS));
+        }
+        return complete(commandText, wordStart, prefixes.getCompletions(word, MAX_COMPLETIONS));
+    }
+
+    /**
+     * Returns the index in {@code commandText} where the argument of {@code prefix} starts,
+     * if {@code prefix} is the last prefix in {@code commandText}, or -1 otherwise.
+     */
+    private static int getArgumentStart(String commandText, Prefix prefix) {
+        int lastPrefixStart = -1;
+        Prefix lastPrefix = null;
+        for (Prefix candidate : PREFIXES) {
+            int start = commandText.lastIndexOf(" " + candidate.getPrefix());
+            if (start > lastPrefixStart) {
+                lastPrefixStart = start;
+                lastPrefix = candidate;
+            }
+        }
+        if (!prefix.equals(lastPrefix)) {
+            return -1;
+        }
+        return lastPrefixStart + 1 + prefix.getPrefix().length();
+    }
+
+    /**
+     * Returns the index of the first whitespace in {@code text}, or the length
+     * of {@code text} if there is none.
+     */
+    private static int getWordEnd(String text) {
+        int end = 0;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Returns {@code commandText} with everything from {@code start} replaced by each of {@code completions}.
+     */
+    private static List<String> complete(String commandText, int start, List<String> completions) {
+        List<String> completedTexts = new ArrayList<>();
+        for (String completion : completions) {
+            completedTexts.add(commandText.substring(0, start) + completion);
+        }
+        return completedTexts;
+    }
+}
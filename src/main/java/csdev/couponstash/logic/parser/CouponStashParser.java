@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 import csdev.couponstash.commons.moneysymbol.MoneySymbol;
 import csdev.couponstash.logic.commands.AddCommand;
 import csdev.couponstash.logic.commands.ArchiveCommand;
+import csdev.couponstash.logic.commands.BatchCommand;
 import csdev.couponstash.logic.commands.ClearCommand;
 import csdev.couponstash.logic.commands.Command;
 import csdev.couponstash.logic.commands.CopyCommand;
@@ -77,6 +78,9 @@ public class CouponStashParser {
         case ArchiveCommand.COMMAND_WORD:
             return new ArchiveCommandParser().parse(arguments);
 
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
@@ -5,11 +5,13 @@ import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_EXPIRY_DATE;
 import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_MONTH_YEAR;
 
 import java.time.YearMonth;
+import java.util.List;
 
 import csdev.couponstash.logic.commands.ExpiringCommand;
 import csdev.couponstash.logic.parser.exceptions.ParseException;
 import csdev.couponstash.model.coupon.DateIsEqualsPredicate;
 import csdev.couponstash.model.coupon.DateIsInMonthYearPredicate;
+import csdev.couponstash.model.coupon.DateIsInRangePredicate;
 import csdev.couponstash.model.coupon.ExpiryDate;
 
 /**
@@ -30,13 +32,22 @@ public class ExpiringCommandParser implements Parser<ExpiringCommand> {
         boolean isExpiryDatePresent = argMultiMap.getValue(PREFIX_EXPIRY_DATE).isPresent();
         boolean isBothPresent = isExpiryDatePresent && isMonthYearPresent;
         boolean isBothAbsent = !isExpiryDatePresent && !isMonthYearPresent;
+        List<String> expiryDates = argMultiMap.getAllValues(PREFIX_EXPIRY_DATE);
 
-        if (isBothAbsent || isBothPresent) {
+        if (isBothAbsent || isBothPresent || expiryDates.size() > 2) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringCommand.MESSAGE_USAGE));
         } else if (isMonthYearPresent) {
             // Month-Year only
             YearMonth yearMonth = ParserUtil.parseYearMonth(argMultiMap.getValue(PREFIX_MONTH_YEAR).get());
             return new ExpiringCommand(new DateIsInMonthYearPredicate(yearMonth));
+        } else if (expiryDates.size() == 2) {
+            // Range of Expiry Dates
+            ExpiryDate startDate = ParserUtil.parseExpiryDate(expiryDates.get(0));
+            ExpiryDate endDate = ParserUtil.parseExpiryDate(expiryDates.get(1));
+            if (startDate.getDate().isAfter(endDate.getDate())) {
+                throw new ParseException(DateIsInRangePredicate.MESSAGE_CONSTRAINTS);
+            }
+            return new ExpiringCommand(new DateIsInRangePredicate(startDate.getDate(), endDate.getDate()));
         } else {
             // Expiry Date only
             ExpiryDate expiryDate = ParserUtil.parseExpiryDate(argMultiMap.getValue(PREFIX_EXPIRY_DATE).get());
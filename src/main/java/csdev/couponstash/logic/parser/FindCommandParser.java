@@ -1,17 +1,26 @@
 package csdev.couponstash.logic.parser;
 
 import static csdev.couponstash.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import csdev.couponstash.logic.commands.FindCommand;
 import csdev.couponstash.logic.parser.exceptions.ParseException;
 import csdev.couponstash.model.coupon.NameContainsKeywordsPredicate;
+import csdev.couponstash.model.tag.Tag;
+import csdev.couponstash.model.tag.TagQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
+    // marks a tag that a coupon must have
+    private static final char ALL_OF_MARKER = '+';
+    // marks a tag that a coupon must not have
+    private static final char NONE_OF_MARKER = '-';
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -19,14 +28,46 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        String trimmedArgs = argMultimap.getPreamble();
+        TagQuery tagQuery = parseTagQuery(argMultimap);
+        if (trimmedArgs.isEmpty() && tagQuery.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.isEmpty()) {
+            // find by tags only
+            return new FindCommand(null, tagQuery);
+        }
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)), tagQuery);
     }
 
+    /**
+     * Parses the values of the tag prefix into a {@code TagQuery}. A tag marked with
+     * {@code +} must be present, a tag marked with {@code -} must be absent, and
+     * a coupon must have any of the tags without a mark.
+     * @throws ParseException if any of the tags is invalid
+     */
+    private static TagQuery parseTagQuery(ArgumentMultimap argMultimap) throws ParseException {
+        Set<Tag> anyOf = new HashSet<>();
+        Set<Tag> allOf = new HashSet<>();
+        Set<Tag> noneOf = new HashSet<>();
+        for (String value : argMultimap.getAllValues(PREFIX_TAG)) {
+            String trimmedValue = value.trim();
+            if (trimmedValue.isEmpty()) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            char marker = trimmedValue.charAt(0);
+            if (marker == ALL_OF_MARKER) {
+                allOf.add(ParserUtil.parseTag(trimmedValue.substring(1)));
+            } else if (marker == NONE_OF_MARKER) {
+                noneOf.add(ParserUtil.parseTag(trimmedValue.substring(1)));
+            } else {
+                anyOf.add(ParserUtil.parseTag(trimmedValue));
+            }
+        }
+        return new TagQuery(anyOf, allOf, noneOf);
+    }
 }
@@ -2,12 +2,20 @@ package csdev.couponstash.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import csdev.couponstash.model.coupon.Coupon;
 import csdev.couponstash.model.coupon.UniqueCouponList;
+import csdev.couponstash.model.coupon.exceptions.CouponNotFoundException;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.history.CouponStashDelta;
+import csdev.couponstash.model.history.CouponStashDelta.Change;
+import csdev.couponstash.model.history.CouponStashSnapshot;
 
 import javafx.collections.ObservableList;
 
@@ -17,8 +25,21 @@ import javafx.collections.ObservableList;
  */
 public class CouponStash implements ReadOnlyCouponStash {
 
+    // Source of version stamps shared by all instances, so that
+    // a stamp never refers to the state of two different instances
+    private static final AtomicLong versionStamps = new AtomicLong();
+
     private final UniqueCouponList coupons;
 
+    private long version = versionStamps.incrementAndGet();
+
+    // Kept in sync with coupons on every mutation, so that
+    // taking a snapshot of this CouponStash is free
+    private CouponStashSnapshot snapshot = CouponStashSnapshot.EMPTY;
+
+    // Changes made since the last call to takeChanges
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+
     // The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
     // between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
     //
@@ -47,7 +68,11 @@ public class CouponStash implements ReadOnlyCouponStash {
      * {@code coupons} must not contain duplicate coupons.
      */
     public void setCoupons(List<Coupon> coupons) {
+        CouponStashSnapshot oldSnapshot = snapshot;
         this.coupons.setCoupons(coupons);
+        this.snapshot = CouponStashSnapshot.of(coupons);
+        uncommittedChanges.add(Change.reset(oldSnapshot, snapshot));
+        bumpVersion();
     }
 
     /**
@@ -75,6 +100,9 @@ public class CouponStash implements ReadOnlyCouponStash {
      */
     public void addCoupon(Coupon p) {
         coupons.add(p);
+        snapshot = snapshot.append(p);
+        uncommittedChanges.add(Change.add(snapshot.size() - 1, p));
+        bumpVersion();
     }
 
     /**
@@ -85,7 +113,11 @@ public class CouponStash implements ReadOnlyCouponStash {
     public void setCoupon(Coupon target, Coupon editedCoupon) {
         requireNonNull(editedCoupon);
 
-        coupons.setCoupon(target, editedCoupon);
+        int index = indexOf(target);
+        coupons.setCoupon(index, editedCoupon);
+        uncommittedChanges.add(Change.set(index, snapshot.get(index), editedCoupon));
+        snapshot = snapshot.set(index, editedCoupon);
+        bumpVersion();
     }
 
     /**
@@ -93,7 +125,90 @@ public class CouponStash implements ReadOnlyCouponStash {
      * {@code key} must exist in the CouponStash.
      */
     public void removeCoupon(Coupon key) {
-        coupons.remove(key);
+        int index = indexOf(key);
+        coupons.remove(index);
+        uncommittedChanges.add(Change.remove(index, snapshot.get(index)));
+        snapshot = snapshot.remove(index);
+        bumpVersion();
+    }
+
+    //// history operations
+
+    /**
+     * Collects all changes made to this {@code CouponStash} since the
+     * last call to this method into a single {@code CouponStashDelta}.
+     *
+     * @param commandText The command that made the changes.
+     * @return The changes made since the last call.
+     */
+    public CouponStashDelta takeChanges(String commandText) {
+        CouponStashDelta delta = new CouponStashDelta(uncommittedChanges, commandText);
+        uncommittedChanges.clear();
+        return delta;
+    }
+
+    /**
+     * Makes the changes in {@code delta} again, in order.
+     * These changes will not be collected by {@code takeChanges}.
+     */
+    public void apply(CouponStashDelta delta) {
+        requireNonNull(delta);
+        for (Change change : delta.getChanges()) {
+            switch (change.getType()) {
+            case ADD:
+                coupons.add(change.getIndex(), change.getNewCoupon());
+                snapshot = snapshot.insert(change.getIndex(), change.getNewCoupon());
+                break;
+            case REMOVE:
+                coupons.remove(change.getIndex());
+                snapshot = snapshot.remove(change.getIndex());
+                break;
+            case SET:
+                coupons.setCoupon(change.getIndex(), change.getNewCoupon());
+                snapshot = snapshot.set(change.getIndex(), change.getNewCoupon());
+                break;
+            case RESET:
+                coupons.setCoupons(change.getNewSnapshot().toList());
+                snapshot = change.getNewSnapshot();
+                break;
+            default:
+                throw new IllegalStateException("Unknown type of change: " + change.getType());
+            }
+        }
+        bumpVersion();
+    }
+
+    /**
+     * Reverses the changes in {@code delta}, starting from the last change.
+     * These changes will not be collected by {@code takeChanges}.
+     */
+    public void revert(CouponStashDelta delta) {
+        requireNonNull(delta);
+        List<Change> changes = delta.getChanges();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            Change change = changes.get(i);
+            switch (change.getType()) {
+            case ADD:
+                coupons.remove(change.getIndex());
+                snapshot = snapshot.remove(change.getIndex());
+                break;
+            case REMOVE:
+                coupons.add(change.getIndex(), change.getOldCoupon());
+                snapshot = snapshot.insert(change.getIndex(), change.getOldCoupon());
+                break;
+            case SET:
+                coupons.setCoupon(change.getIndex(), change.getOldCoupon());
+                snapshot = snapshot.set(change.getIndex(), change.getOldCoupon());
+                break;
+            case RESET:
+                coupons.setCoupons(change.getOldSnapshot().toList());
+                snapshot = change.getOldSnapshot();
+                break;
+            default:
+                throw new IllegalStateException("Unknown type of change: " + change.getType());
+            }
+        }
+        bumpVersion();
     }
 
     /**
@@ -111,18 +226,52 @@ public class CouponStash implements ReadOnlyCouponStash {
     }
 
     /**
-     * Copies all the contents of this {@code CouponStash} to another {@code CouponStash}.
-     *
-     * @return A copied {@code CouponStash}
+     * Returns an immutable snapshot of the coupons currently in this {@code CouponStash}.
+     * The snapshot shares its coupons with this {@code CouponStash}, and is not
+     * affected by any later changes to this {@code CouponStash}.
+     */
+    @Override
+    public CouponStashSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the sum of the savings of all coupons from {@code startDate} to {@code endDate},
+     * inclusive, using an index that is kept up to date as coupons change.
      */
-    public CouponStash copy() {
-        CouponStash copy = new CouponStash();
+    @Override
+    public PureMonetarySavings getSavingsBetween(LocalDate startDate, LocalDate endDate) {
+        return coupons.getSavingsBetween(startDate, endDate);
+    }
 
-        for (Coupon coupon : coupons) {
-            copy.addCoupon(coupon.copy());
+    /**
+     * Returns the index of {@code coupon} in the list. The very same object is looked for first,
+     * so that the right one of two equal coupons is found, such as two equal archived coupons.
+     *
+     * @throws CouponNotFoundException if no coupon in the list is equal to {@code coupon}.
+     */
+    private int indexOf(Coupon coupon) {
+        requireNonNull(coupon);
+        List<Coupon> couponList = getCouponList();
+        for (int i = 0; i < couponList.size(); i++) {
+            if (couponList.get(i) == coupon) {
+                return i;
+            }
         }
+        int index = couponList.indexOf(coupon);
+        if (index == -1) {
+            throw new CouponNotFoundException();
+        }
+        return index;
+    }
 
-        return copy;
+    private void bumpVersion() {
+        version = versionStamps.incrementAndGet();
     }
 
     //// util methods
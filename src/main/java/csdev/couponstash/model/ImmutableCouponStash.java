@@ -0,0 +1,55 @@
+package csdev.couponstash.model;
+
+import static java.util.Objects.requireNonNull;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.history.CouponStashSnapshot;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A view of a CouponStash as it was at a single version. Later changes
+ * to the original CouponStash do not affect it, so it can safely be
+ * handed over to another thread.
+ */
+public class ImmutableCouponStash implements ReadOnlyCouponStash {
+
+    private final CouponStashSnapshot snapshot;
+    private final long version;
+    private ObservableList<Coupon> couponList;
+
+    /**
+     * Captures the current coupons and version of {@code source}.
+     */
+    public ImmutableCouponStash(ReadOnlyCouponStash source) {
+        requireNonNull(source);
+        this.snapshot = source.getSnapshot();
+        this.version = source.getVersion();
+    }
+
+    @Override
+    public synchronized ObservableList<Coupon> getCouponList() {
+        // only built when needed, as some storages only need the snapshot
+        if (couponList == null) {
+            couponList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(snapshot.toList()));
+        }
+        return couponList;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public CouponStashSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return snapshot.size() + " coupons";
+    }
+}
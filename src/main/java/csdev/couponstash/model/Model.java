@@ -8,6 +8,9 @@ import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.StashSettings;
 import csdev.couponstash.model.coupon.Coupon;
 
+import csdev.couponstash.model.element.CouponDateIndex;
+import csdev.couponstash.model.element.CouponTagIndex;
+import csdev.couponstash.model.element.CouponTokenIndex;
 import csdev.couponstash.model.element.ObservableMonthView;
 import javafx.collections.ObservableList;
 
@@ -141,6 +144,21 @@ public interface Model {
     void updateFilteredCouponList(Predicate<? super Coupon> predicate);
 
 
+    /**
+     * Returns an index of all the coupons by the lower case words in their names
+     */
+    CouponTokenIndex getNameIndex();
+
+    /**
+     * Returns an index of all the coupons by their tags
+     */
+    CouponTagIndex getTagIndex();
+
+    /**
+     * Returns an index of all the coupons by expiry date
+     */
+    CouponDateIndex getExpiryIndex();
+
     /**
      * Returns an unmodifiable view of the MonthView
      */
@@ -189,6 +207,39 @@ public interface Model {
      */
     boolean canRedoCouponStash();
 
+    /**
+     * Gets an estimate of the memory taken up by the coupon stash history.
+     *
+     * @return Estimated number of bytes used by the history
+     */
+    long getHistoryFootprint();
+
+    /**
+     * Starts a batch of changes to the coupon stash. Until the batch is committed or
+     * rolled back, commits do not add to the history, so that the whole batch is
+     * undone as a single command, and there is nothing to undo or redo to.
+     *
+     * @throws IllegalStateException if a batch has already been started.
+     */
+    void beginBatch();
+
+    /**
+     * Saves the changes made since the batch was started in the coupon stash history
+     * as a single state, and ends the batch.
+     *
+     * @param command The command that made the batch of changes.
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void commitBatch(String command);
+
+    /**
+     * Reverses the changes made to the coupons since the batch was started, shows
+     * the coupons that were shown when it was started in the same order, and ends the batch.
+     *
+     * @throws IllegalStateException if no batch has been started.
+     */
+    void rollbackBatch();
+
     /**
      * Sorts coupons in the coupon stash according to the field specified
      * by the prefix.
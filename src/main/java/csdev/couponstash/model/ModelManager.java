@@ -11,11 +11,15 @@ import java.util.logging.Logger;
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.LogsCenter;
 import csdev.couponstash.commons.core.StashSettings;
+import csdev.couponstash.commons.util.StringUtil;
 import csdev.couponstash.model.coupon.Coupon;
 
+import csdev.couponstash.model.element.CouponDateIndex;
+import csdev.couponstash.model.element.CouponTagIndex;
+import csdev.couponstash.model.element.CouponTokenIndex;
 import csdev.couponstash.model.element.ObservableMonthView;
+import csdev.couponstash.model.history.CouponStashDelta;
 import csdev.couponstash.model.history.HistoryManager;
-import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -24,14 +28,24 @@ import javafx.collections.transformation.SortedList;
  * Represents the in-memory model of the CouponStash data.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_BATCH_ALREADY_STARTED = "A batch of changes has already been started";
+    public static final String MESSAGE_NO_BATCH_STARTED = "No batch of changes has been started";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final CouponStash couponStash;
     private final UserPrefs userPrefs;
     private final FilteredList<Coupon> filteredCoupons;
     private final ObservableMonthView monthView;
+    private final CouponTokenIndex nameIndex;
+    private final CouponTagIndex tagIndex;
+    private final CouponDateIndex expiryIndex;
     private final SortedList<Coupon> sortedCoupons;
     private HistoryManager history;
+    private boolean isInBatch = false;
+    // the coupons shown and their order when the batch was started
+    private Predicate<? super Coupon> batchStartPredicate;
+    private Comparator<? super Coupon> batchStartComparator;
 
     /**
      * Initializes a ModelManager with the given couponStash and userPrefs.
@@ -45,12 +59,20 @@ public class ModelManager implements Model {
         this.couponStash = new CouponStash(couponStash).archiveExpiredCoupons();
         this.userPrefs = new UserPrefs(userPrefs);
 
+        // created before the filtered list, so that they are updated before the filtered list uses them
+        nameIndex = new CouponTokenIndex(this.couponStash.getCouponList(),
+                coupon -> StringUtil.getLowerCaseWords(coupon.getName().fullName));
+        tagIndex = new CouponTagIndex(this.couponStash.getCouponList());
+        expiryIndex = new CouponDateIndex(this.couponStash.getCouponList(),
+                coupon -> coupon.getExpiryDate().getDate());
         sortedCoupons = new SortedList<>(this.couponStash.getCouponList());
         filteredCoupons = new FilteredList<>(sortedCoupons,
                 PREDICATE_SHOW_ALL_ACTIVE_COUPONS);
 
         monthView = new ObservableMonthView();
-        history = new HistoryManager(this.couponStash.copy());
+        history = new HistoryManager(this.userPrefs.getStashSettings().getHistoryMemoryBudget());
+        // the loaded coupons are the initial state, which cannot be undone
+        this.couponStash.takeChanges("");
     }
 
     public ModelManager() {
@@ -63,6 +85,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setMemoryBudget(this.userPrefs.getStashSettings().getHistoryMemoryBudget());
     }
 
     @Override
@@ -90,6 +113,7 @@ public class ModelManager implements Model {
     public void setStashSettings(StashSettings ss) {
         requireNonNull(ss);
         userPrefs.setStashSettings(ss);
+        history.setMemoryBudget(ss.getHistoryMemoryBudget());
     }
 
     @Override
@@ -106,20 +130,7 @@ public class ModelManager implements Model {
     @Override
     public String setMoneySymbol(String moneySymbol) {
         logger.info("Currency symbol changed to " + moneySymbol);
-        String oldSymbol = this.getStashSettings().getMoneySymbol().setString(moneySymbol);
-        // force refresh of the JavaFX list so Coupons will show the new symbol
-        Predicate<? super Coupon> pred = this.filteredCoupons.getPredicate();
-        updateFilteredCouponList(coupon -> false);
-        // restore the old list after a short moment
-        try {
-            Platform.runLater(() -> {
-                updateFilteredCouponList(pred);
-                logger.info("Coupon list refreshed to show new symbol " + moneySymbol);
-            });
-        } catch (IllegalStateException e) {
-            logger.warning(e.getMessage());
-        }
-        return oldSymbol;
+        return this.getStashSettings().getMoneySymbol().setString(moneySymbol);
     }
 
     //=========== CouponStash ================================================================================
@@ -199,6 +210,21 @@ public class ModelManager implements Model {
         filteredCoupons.setPredicate(predicate);
     }
 
+    @Override
+    public CouponTokenIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    @Override
+    public CouponTagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    @Override
+    public CouponDateIndex getExpiryIndex() {
+        return expiryIndex;
+    }
+
     //=========== MonthView of Calendar Accessors =============================================================
 
     /**
@@ -219,30 +245,77 @@ public class ModelManager implements Model {
     //=========== Undo/Redo functionality =============================================================
     @Override
     public void commitCouponStash(String commandText) {
-        history.commitState(couponStash.copy(), commandText);
+        if (isInBatch) {
+            // the changes are committed together when the batch is committed
+            return;
+        }
+        history.commitState(couponStash.takeChanges(commandText));
     }
 
     @Override
     public String undoCouponStash() {
-        couponStash.resetData(history.undo());
+        couponStash.revert(history.undo());
         return history.getNextCommandText();
     }
 
     @Override
     public String redoCouponStash() {
         String nextCommand = history.getNextCommandText();
-        couponStash.resetData(history.redo());
+        couponStash.apply(history.redo());
         return nextCommand;
     }
 
     @Override
     public boolean canUndoCouponStash() {
-        return history.canUndo();
+        return !isInBatch && history.canUndo();
     }
 
     @Override
     public boolean canRedoCouponStash() {
-        return history.canRedo();
+        return !isInBatch && history.canRedo();
+    }
+
+    @Override
+    public long getHistoryFootprint() {
+        return history.getFootprint();
+    }
+
+    @Override
+    public void beginBatch() {
+        if (isInBatch) {
+            throw new IllegalStateException(MESSAGE_BATCH_ALREADY_STARTED);
+        }
+        isInBatch = true;
+        batchStartPredicate = filteredCoupons.getPredicate();
+        batchStartComparator = sortedCoupons.getComparator();
+    }
+
+    @Override
+    public void commitBatch(String commandText) {
+        endBatch();
+        CouponStashDelta delta = couponStash.takeChanges(commandText);
+        if (!delta.getChanges().isEmpty()) {
+            history.commitState(delta);
+        }
+    }
+
+    @Override
+    public void rollbackBatch() {
+        Predicate<? super Coupon> predicate = batchStartPredicate;
+        Comparator<? super Coupon> comparator = batchStartComparator;
+        endBatch();
+        couponStash.revert(couponStash.takeChanges(""));
+        filteredCoupons.setPredicate(predicate);
+        sortedCoupons.setComparator(comparator);
+    }
+
+    private void endBatch() {
+        if (!isInBatch) {
+            throw new IllegalStateException(MESSAGE_NO_BATCH_STARTED);
+        }
+        isInBatch = false;
+        batchStartPredicate = null;
+        batchStartComparator = null;
     }
 
     //=========== End of Undo/Redo functionality =============================================================
@@ -1,6 +1,11 @@
 package csdev.couponstash.model;
 
+import java.time.LocalDate;
+
 import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.SavingsAccumulator;
+import csdev.couponstash.model.history.CouponStashSnapshot;
 
 import javafx.collections.ObservableList;
 
@@ -15,4 +20,27 @@ public interface ReadOnlyCouponStash {
      */
     ObservableList<Coupon> getCouponList();
 
+    /**
+     * Returns a version stamp that changes whenever the coupons change.
+     * No two different states of any CouponStash share the same stamp.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable snapshot of the coupons, in the same
+     * order as {@link #getCouponList()}.
+     */
+    CouponStashSnapshot getSnapshot();
+
+    /**
+     * Returns the sum of the savings of all coupons from {@code startDate} to {@code endDate}, inclusive.
+     */
+    default PureMonetarySavings getSavingsBetween(LocalDate startDate, LocalDate endDate) {
+        SavingsAccumulator total = new SavingsAccumulator();
+        for (Coupon coupon : getCouponList()) {
+            total.addBetween(coupon.getSavingsHistory(), startDate, endDate);
+        }
+        return total.toPureMonetarySavings();
+    }
+
 }
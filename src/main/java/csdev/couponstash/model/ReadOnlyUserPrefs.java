@@ -2,6 +2,7 @@ package csdev.couponstash.model;
 
 import java.nio.file.Path;
 
+import csdev.couponstash.commons.core.CouponStashFormat;
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.StashSettings;
 
@@ -22,4 +23,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getCouponStashFilePath();
 
+    CouponStashFormat getCouponStashFormat();
+
 }
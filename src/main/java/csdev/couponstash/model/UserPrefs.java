@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import csdev.couponstash.commons.core.CouponStashFormat;
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.StashSettings;
 
@@ -17,6 +18,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private StashSettings stashSettings = new StashSettings();
     private Path couponStashFilePath = Paths.get("data" , "couponStash.json");
+    private CouponStashFormat couponStashFormat = CouponStashFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStashSettings(newUserPrefs.getStashSettings());
         setCouponStashFilePath(newUserPrefs.getCouponStashFilePath());
+        setCouponStashFormat(newUserPrefs.getCouponStashFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -75,6 +78,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.couponStashFilePath = couponStashFilePath;
     }
 
+    @Override
+    public CouponStashFormat getCouponStashFormat() {
+        return couponStashFormat;
+    }
+
+    public void setCouponStashFormat(CouponStashFormat couponStashFormat) {
+        requireNonNull(couponStashFormat);
+        this.couponStashFormat = couponStashFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -88,12 +101,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && stashSettings.equals(o.stashSettings)
-                && couponStashFilePath.equals(o.couponStashFilePath);
+                && couponStashFilePath.equals(o.couponStashFilePath)
+                && couponStashFormat == o.couponStashFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, stashSettings, couponStashFilePath);
+        return Objects.hash(guiSettings, stashSettings, couponStashFilePath, couponStashFormat);
     }
 
     @Override
@@ -102,6 +116,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nStash Settings : " + stashSettings);
         sb.append("\nLocal data file location : " + couponStashFilePath);
+        sb.append("\nLocal data file format : " + couponStashFormat);
         return sb.toString();
     }
 
@@ -5,12 +5,14 @@ import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
 import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
 import csdev.couponstash.model.coupon.savings.Savings;
+import csdev.couponstash.model.coupon.savings.SavingsHistory;
 import csdev.couponstash.model.tag.Tag;
 
 /**
@@ -37,7 +39,7 @@ public class Coupon {
     // ("mutable" properties of Coupon that will change,
     // for implementation of certain commands)
     private final Usage usage;
-    private final DateSavingsSumMap totalSavings;
+    private final SavingsHistory totalSavings;
     private final Archived archived;
 
 
@@ -61,7 +63,7 @@ public class Coupon {
                   Usage usage, Limit limit, Set<Tag> tags, RemindDate remindDate, Condition condition) {
 
         this(name, promoCode, savingsForEachUse, expiryDate, startDate, usage,
-                limit, tags, new DateSavingsSumMap(), remindDate, condition, new Archived());
+                limit, tags, SavingsHistory.EMPTY, remindDate, condition, new Archived());
     }
 
     /**
@@ -77,7 +79,7 @@ public class Coupon {
      * @param usage The Usage for this Coupon.
      * @param limit The usage Limit for this Coupon.
      * @param tags The List of tags for this Coupon.
-     * @param totalSavings DateSavingsSumMap representing
+     * @param totalSavings SavingsHistory representing
      *                     the total savings accumulated.
      * @param remind Remind representing a reminder for
      *               this Coupon.
@@ -91,7 +93,7 @@ public class Coupon {
             Usage usage,
             Limit limit,
             Set<Tag> tags,
-            DateSavingsSumMap totalSavings,
+            SavingsHistory totalSavings,
             RemindDate remind,
             Condition condition,
             Archived archived) {
@@ -113,6 +115,18 @@ public class Coupon {
         this.condition = condition;
     }
 
+    /**
+     * Similar to the constructor that takes a {@link SavingsHistory},
+     * but takes the total savings accumulated as a DateSavingsSumMap.
+     * Later changes to {@code totalSavings} do not affect this Coupon.
+     */
+    public Coupon(Name name, PromoCode promoCode, Savings savingsForEachUse, ExpiryDate expiryDate, StartDate startDate,
+                  Usage usage, Limit limit, Set<Tag> tags, DateSavingsSumMap totalSavings, RemindDate remind,
+                  Condition condition, Archived archived) {
+        this(name, promoCode, savingsForEachUse, expiryDate, startDate, usage, limit, tags,
+                SavingsHistory.of(totalSavings), remind, condition, archived);
+    }
+
     public Condition getCondition() {
         return condition;
     }
@@ -149,19 +163,52 @@ public class Coupon {
      *     items (Saveables) earned.
      */
     public PureMonetarySavings getTotalSavings() {
-        return this.totalSavings.values().stream()
-                .reduce(new PureMonetarySavings(), PureMonetarySavings::add);
+        return this.totalSavings.getTotal();
+    }
+
+    /**
+     * Gets the total money saved from using this Coupon.
+     * This is only worked out once for each Coupon, so it
+     * is cheap to sum up over many Coupons.
+     * @return Long representing the total amount of money
+     *     saved from using this Coupon, in cents.
+     */
+    public long getTotalSavingsCents() {
+        return this.totalSavings.getTotalCents();
+    }
+
+    /**
+     * Gets the total count of each Saveable earned from
+     * using this Coupon. This is only worked out once for
+     * each Coupon.
+     * @return Unmodifiable map from the name of each
+     *     Saveable earned to its total count.
+     */
+    public Map<String, Integer> getTotalSaveableCounts() {
+        return this.totalSavings.getTotalSaveableCounts();
     }
 
     /**
-     * Gets a shallow clone of the date and savings map
-     * that is associated with this Coupon. LocalDate
-     * and PureMonetarySavings are immutable, however.
-     * @return DateSavingsSumMap representing the savings
+     * Gets the savings earned by this Coupon on each date.
+     * As SavingsHistory is immutable, it is not copied.
+     * @return SavingsHistory representing the savings
      *     earned for specific dates.
      */
-    public DateSavingsSumMap getSavingsMap() {
-        return (DateSavingsSumMap) this.totalSavings.clone();
+    public SavingsHistory getSavingsHistory() {
+        return this.totalSavings;
+    }
+
+    /**
+     * Gets a read-only view of the savings earned by this
+     * Coupon on each date, in the form of a map, as the
+     * DateSavingsSumMap of this Coupon used to be given.
+     * The view is backed by the SavingsHistory, so nothing
+     * is copied.
+     * @return Unmodifiable map representing the savings
+     *     earned for specific dates.
+     */
+    public Map<LocalDate, PureMonetarySavings> getSavingsMap() {
+        return this.totalSavings.asMap();
     }
 
     public ExpiryDate getExpiryDate() {
@@ -203,11 +250,10 @@ public class Coupon {
      * @return A new Coupon with total savings modified.
      */
     public Coupon addToTotalSavings(LocalDate ld, PureMonetarySavings pms) {
-        DateSavingsSumMap updatedMap = (DateSavingsSumMap) this.totalSavings.clone();
-        updatedMap.add(ld, pms);
+        SavingsHistory updatedSavings = this.totalSavings.add(ld, pms);
         return new Coupon(this.name, this.promoCode, this.savingsForEachUse,
                 this.expiryDate, this.startDate, this.usage, this.limit,
-                this.tags, updatedMap, this.remind, this.condition, this.archived);
+                this.tags, updatedSavings, this.remind, this.condition, this.archived);
     }
 
     /**
@@ -365,24 +411,4 @@ public class Coupon {
         return builder.toString();
     }
 
-    /**
-     * Deep copy of a coupon.
-     * @return The copy of the coupon
-     */
-    public Coupon copy() {
-        // Copy all the tags
-        Set<Tag> copiedTags = new HashSet<>(tags);
-
-        Coupon copy = new Coupon(
-                new Name(name.toString()), new PromoCode(promoCode.toString()),
-                savingsForEachUse.copy(), new ExpiryDate(expiryDate.value),
-                new StartDate(startDate.value),
-                new Usage(usage.value), new Limit(limit.value), copiedTags,
-                totalSavings.copy(), remind.copy(), new Condition(condition.toString()),
-                new Archived(archived.state)
-        );
-
-        return copy;
-    }
-
 }
@@ -0,0 +1,63 @@
+package csdev.couponstash.model.coupon;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import csdev.couponstash.model.coupon.savings.Savings;
+
+/**
+ * Hashable key representing the identity of a Coupon, as defined
+ * by {@link Coupon#isSameCoupon(Coupon)}. Two keys are equal if and
+ * only if their coupons are the same coupon.
+ *
+ * <p>Since an archived Coupon is never the same coupon as any other
+ * Coupon, keys of archived Coupons only compare equal to keys of
+ * the exact same Coupon object.
+ */
+public final class CouponIdentity {
+    private final Coupon coupon;
+    private final int hash;
+
+    /**
+     * Constructs a CouponIdentity for the given Coupon.
+     *
+     * @param coupon The Coupon whose identity is represented.
+     */
+    public CouponIdentity(Coupon coupon) {
+        requireNonNull(coupon);
+        this.coupon = coupon;
+        this.hash = coupon.isArchived()
+                ? System.identityHashCode(coupon)
+                : CouponIdentity.hashIdentityFields(coupon);
+    }
+
+    public Coupon getCoupon() {
+        return this.coupon;
+    }
+
+    /**
+     * Computes a hash using only the identity fields of a Coupon.
+     * The Saveables of the savings are left out of the hash, as
+     * Savings do not take the order of Saveables into account
+     * when checking for equality.
+     */
+    private static int hashIdentityFields(Coupon coupon) {
+        Savings savings = coupon.getSavingsForEachUse();
+        return Objects.hash(coupon.getName(), coupon.getPromoCode(), coupon.getExpiryDate().date,
+                savings.getMonetaryAmount(), savings.getPercentageAmount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CouponIdentity // instanceof handles nulls
+                && this.hash == ((CouponIdentity) other).hash
+                && this.coupon.isSameCoupon(((CouponIdentity) other).coupon));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
@@ -1,31 +1,24 @@
 package csdev.couponstash.model.coupon;
 
-import java.time.LocalDate;
-import java.util.function.Predicate;
-
 import csdev.couponstash.commons.util.DateUtil;
 
 /**
  * Tests that a {@code Coupon}'s {@code ExpiryDate} is equals the specified date.
  */
-public class DateIsEqualsPredicate implements Predicate<Coupon> {
+public class DateIsEqualsPredicate extends DateIsInRangePredicate {
     private final String date;
 
     public DateIsEqualsPredicate(String date) {
+        // the date is only parsed once, instead of for every coupon tested
+        super(DateUtil.parseStringToDate(date), DateUtil.parseStringToDate(date));
         this.date = date;
     }
 
+    @Override
     public String getDate() {
         return this.date;
     }
 
-    @Override
-    public boolean test(Coupon coupon) {
-        LocalDate ed = coupon.getExpiryDate().getDate();
-        LocalDate givenDate = DateUtil.parseStringToDate(date);
-        return ed.isEqual(givenDate);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -34,4 +27,3 @@ public class DateIsEqualsPredicate implements Predicate<Coupon> {
     }
 }
 
-
@@ -1,32 +1,26 @@
 package csdev.couponstash.model.coupon;
 
 import java.time.YearMonth;
-import java.util.function.Predicate;
 
 import csdev.couponstash.commons.util.DateUtil;
 
 /**
  * Tests that a {@code Coupon}'s {@code ExpiryDate} is in the specified YearMonth.
  */
-public class DateIsInMonthYearPredicate implements Predicate<Coupon> {
+public class DateIsInMonthYearPredicate extends DateIsInRangePredicate {
     private final YearMonth date;
 
     public DateIsInMonthYearPredicate (YearMonth date) {
+        // tested as the range of days in the month, instead of creating a YearMonth for every coupon
+        super(date.atDay(1), date.atEndOfMonth());
         this.date = date;
     }
 
+    @Override
     public String getDate() {
         return this.date.format(DateUtil.YEAR_MONTH_FORMATTER);
     }
 
-    @Override
-    public boolean test(Coupon coupon) {
-        int month = coupon.getExpiryDate().getDate().getMonthValue();
-        int year = coupon.getExpiryDate().getDate().getYear();
-        YearMonth ym = YearMonth.of(year, month);
-        return date.equals(ym);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -34,5 +28,3 @@ public class DateIsInMonthYearPredicate implements Predicate<Coupon> {
                 && date.equals(((DateIsInMonthYearPredicate) other).date)); // state check
     }
 }
-
-
@@ -0,0 +1,64 @@
+package csdev.couponstash.model.coupon;
+
+import static csdev.couponstash.commons.util.AppUtil.checkArgument;
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import csdev.couponstash.commons.util.DateUtil;
+
+/**
+ * Tests that a {@code Coupon}'s {@code ExpiryDate} is from the specified start date to the
+ * specified end date, inclusive. The dates are compared as epoch days, so that testing a
+ * Coupon does not create any new objects.
+ */
+public class DateIsInRangePredicate implements Predicate<Coupon> {
+    public static final String MESSAGE_CONSTRAINTS = "Start date should not be after the end date.";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long startEpochDay;
+    private final long endEpochDay;
+
+    /**
+     * Constructs a {@code DateIsInRangePredicate} from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public DateIsInRangePredicate(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!startDate.isAfter(endDate), MESSAGE_CONSTRAINTS);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startEpochDay = startDate.toEpochDay();
+        this.endEpochDay = endDate.toEpochDay();
+    }
+
+    public LocalDate getStartDate() {
+        return this.startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return this.endDate;
+    }
+
+    /**
+     * Returns the range of dates, such as "1-1-2021 to 31-3-2021".
+     */
+    public String getDate() {
+        return DateUtil.formatDateToString(startDate) + " to " + DateUtil.formatDateToString(endDate);
+    }
+
+    @Override
+    public boolean test(Coupon coupon) {
+        long ed = coupon.getExpiryDate().getDate().toEpochDay();
+        return ed >= startEpochDay && ed <= endEpochDay;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == DateIsInRangePredicate.class // handles nulls
+                && startDate.equals(((DateIsInRangePredicate) other).startDate)
+                && endDate.equals(((DateIsInRangePredicate) other).endDate)); // state check
+    }
+}
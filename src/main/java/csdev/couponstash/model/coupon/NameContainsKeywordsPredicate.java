@@ -1,6 +1,9 @@
 package csdev.couponstash.model.coupon;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import csdev.couponstash.commons.util.StringUtil;
@@ -10,15 +13,25 @@ import csdev.couponstash.commons.util.StringUtil;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Coupon> {
     private final List<String> keywords;
+    // the keywords are only put in lower case once, instead of for every coupon tested
+    private final Set<String> lowerCaseKeywords = new LinkedHashSet<>();
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        keywords.forEach(keyword -> lowerCaseKeywords.addAll(StringUtil.getLowerCaseWords(keyword)));
+    }
+
+    /**
+     * Returns the distinct keywords in lower case.
+     */
+    public List<String> getLowerCaseKeywords() {
+        return new ArrayList<>(lowerCaseKeywords);
     }
 
     @Override
     public boolean test(Coupon coupon) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(coupon.getName().fullName, keyword));
+        return StringUtil.getLowerCaseWords(coupon.getName().fullName).stream()
+                .anyMatch(lowerCaseKeywords::contains);
     }
 
     @Override
@@ -3,11 +3,16 @@ package csdev.couponstash.model.coupon;
 import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import csdev.couponstash.model.coupon.exceptions.CouponNotFoundException;
 import csdev.couponstash.model.coupon.exceptions.DuplicateCouponException;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.SavingsIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -18,6 +23,10 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueCouponList. However, the removal of a coupon uses Coupon#equals(Object) so
  * as to ensure that the coupon with exactly the same fields will be removed.
  *
+ * An index of the {@code CouponIdentity} of every coupon in the list is kept in sync with the list, so that
+ * checking for duplicates does not require a scan over the whole list. The savings of every coupon are
+ * likewise kept in a {@code SavingsIndex}, so that the savings between two dates can be summed up quickly.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Coupon#isSameCoupon(Coupon)
@@ -27,13 +36,15 @@ public class UniqueCouponList implements Iterable<Coupon> {
     private final ObservableList<Coupon> internalList = FXCollections.observableArrayList();
     private final ObservableList<Coupon> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<CouponIdentity> identityIndex = new HashSet<>();
+    private final SavingsIndex savingsIndex = new SavingsIndex();
 
     /**
      * Returns true if the list contains an equivalent coupon as the given argument.
      */
     public boolean contains(Coupon toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCoupon);
+        return identityIndex.contains(new CouponIdentity(toCheck));
     }
 
     /**
@@ -45,9 +56,25 @@ public class UniqueCouponList implements Iterable<Coupon> {
         if (contains(toAdd)) {
             throw new DuplicateCouponException();
         }
+        identityIndex.add(new CouponIdentity(toAdd));
+        savingsIndex.add(toAdd.getSavingsHistory());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a coupon at the specified position in the list.
+     * The coupon must not already exist in the list.
+     */
+    public void add(int index, Coupon toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateCouponException();
+        }
+        internalList.add(index, toAdd);
+        identityIndex.add(new CouponIdentity(toAdd));
+        savingsIndex.add(toAdd.getSavingsHistory());
+    }
+
     /**
      * Replaces the coupon {@code target} in the list with {@code editedCoupon}.
      * {@code target} must exist in the list.
@@ -60,11 +87,26 @@ public class UniqueCouponList implements Iterable<Coupon> {
         if (index == -1) {
             throw new CouponNotFoundException();
         }
+        setCoupon(index, editedCoupon);
+    }
 
-        if (!target.isSameCoupon(editedCoupon) && contains(editedCoupon)) {
+    /**
+     * Replaces the coupon at {@code index} in the list with {@code editedCoupon}.
+     * The coupon identity of {@code editedCoupon} must not be the same as another existing coupon in the list.
+     */
+    public void setCoupon(int index, Coupon editedCoupon) {
+        requireNonNull(editedCoupon);
+        Coupon oldCoupon = internalList.get(index);
+        if (!oldCoupon.isSameCoupon(editedCoupon) && contains(editedCoupon)) {
             throw new DuplicateCouponException();
         }
 
+        identityIndex.remove(new CouponIdentity(oldCoupon));
+        identityIndex.add(new CouponIdentity(editedCoupon));
+        if (oldCoupon.getSavingsHistory() != editedCoupon.getSavingsHistory()) {
+            savingsIndex.remove(oldCoupon.getSavingsHistory());
+            savingsIndex.add(editedCoupon.getSavingsHistory());
+        }
         internalList.set(index, editedCoupon);
     }
 
@@ -74,13 +116,30 @@ public class UniqueCouponList implements Iterable<Coupon> {
      */
     public void remove(Coupon toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new CouponNotFoundException();
         }
+        remove(index);
     }
 
+    /**
+     * Removes the coupon at {@code index} from the list.
+     */
+    public void remove(int index) {
+        Coupon removedCoupon = internalList.remove(index);
+        identityIndex.remove(new CouponIdentity(removedCoupon));
+        savingsIndex.remove(removedCoupon.getSavingsHistory());
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setCoupons(UniqueCouponList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.addAll(replacement.identityIndex);
+        rebuildSavingsIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +149,24 @@ public class UniqueCouponList implements Iterable<Coupon> {
      */
     public void setCoupons(List<Coupon> coupons) {
         requireAllNonNull(coupons);
-        if (!couponsAreUnique(coupons)) {
+        Set<CouponIdentity> replacementIndex = buildIdentityIndex(coupons);
+        if (replacementIndex == null) {
             throw new DuplicateCouponException();
         }
 
+        identityIndex.clear();
+        identityIndex.addAll(replacementIndex);
+        rebuildSavingsIndex(coupons);
         internalList.setAll(coupons);
     }
 
+    /**
+     * Returns the sum of the savings of all coupons from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public PureMonetarySavings getSavingsBetween(LocalDate startDate, LocalDate endDate) {
+        return savingsIndex.getSavingsBetween(startDate, endDate);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -121,17 +191,26 @@ public class UniqueCouponList implements Iterable<Coupon> {
         return internalList.hashCode();
     }
 
+    private void rebuildSavingsIndex(List<Coupon> coupons) {
+        savingsIndex.clear();
+        for (Coupon coupon : coupons) {
+            savingsIndex.add(coupon.getSavingsHistory());
+        }
+    }
+
     /**
-     * Returns true if {@code coupons} contains only unique coupons.
+     * Builds the identity index of {@code coupons} in a single pass.
+     *
+     * @return The index of {@code coupons}, or null if {@code coupons}
+     *     contains coupons that are not unique.
      */
-    private boolean couponsAreUnique(List<Coupon> coupons) {
-        for (int i = 0; i < coupons.size() - 1; i++) {
-            for (int j = i + 1; j < coupons.size(); j++) {
-                if (coupons.get(i).isSameCoupon(coupons.get(j))) {
-                    return false;
-                }
+    private static Set<CouponIdentity> buildIdentityIndex(List<Coupon> coupons) {
+        Set<CouponIdentity> index = new HashSet<>();
+        for (Coupon coupon : coupons) {
+            if (!index.add(new CouponIdentity(coupon))) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
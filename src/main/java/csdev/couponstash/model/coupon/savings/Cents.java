@@ -0,0 +1,91 @@
+package csdev.couponstash.model.coupon.savings;
+
+/**
+ * Helper functions for monetary amounts held as a primitive
+ * {@code long} number of cents. Sums of many amounts can be
+ * accumulated in a single {@code long}, without creating a new
+ * MonetaryAmount for every addition, and are only turned into a
+ * MonetaryAmount once the final sum is known.
+ */
+public final class Cents {
+    // the largest amount that a MonetaryAmount can hold
+    public static final long MAX_VALUE = Integer.MAX_VALUE * 100L + 99;
+
+    private Cents() {} // prevents instantiation
+
+    /**
+     * Returns the number of cents in the given integer and decimal amounts.
+     */
+    public static long of(int integerAmount, int decimalAmount) {
+        return integerAmount * 100L + decimalAmount;
+    }
+
+    /**
+     * Returns true if {@code cents} is an amount that a MonetaryAmount can hold.
+     */
+    public static boolean isValid(long cents) {
+        return cents >= 0 && cents <= MAX_VALUE;
+    }
+
+    /**
+     * Returns the sum of {@code first} and {@code second}.
+     *
+     * @throws ArithmeticException if the sum is larger than {@link #MAX_VALUE}.
+     */
+    public static long add(long first, long second) {
+        long sum = Math.addExact(first, second);
+        if (sum > MAX_VALUE) {
+            throw new ArithmeticException("Monetary amount is too large: " + first + " + " + second + " cents");
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the whole units of currency (e.g. dollars) in {@code cents}.
+     */
+    public static int getIntegerAmount(long cents) {
+        return (int) (cents / 100);
+    }
+
+    /**
+     * Returns the fractional units of currency (e.g. cents) in {@code cents}.
+     */
+    public static int getDecimalAmount(long cents) {
+        return (int) (cents % 100);
+    }
+
+    /**
+     * Returns {@code cents} as a double, such as 12.05 for 1205 cents.
+     * As both numbers are exact, the result is the closest double to the
+     * amount, which is the same double that parsing "12.05" would give.
+     */
+    public static double toDouble(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Returns {@code cents} formatted to exactly 2 decimal places, such as "12.05".
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(), cents).toString();
+    }
+
+    /**
+     * Appends {@code cents} to {@code sb}, formatted to exactly 2 decimal places.
+     *
+     * @return {@code sb}, so that calls can be chained.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, long cents) {
+        long integerAmount = cents / 100;
+        int decimalAmount = (int) Math.abs(cents % 100);
+        if (cents < 0 && integerAmount == 0) {
+            // the sign would otherwise be lost, as there is no -0
+            sb.append('-');
+        }
+        sb.append(integerAmount).append('.');
+        if (decimalAmount < 10) {
+            sb.append('0');
+        }
+        return sb.append(decimalAmount);
+    }
+}
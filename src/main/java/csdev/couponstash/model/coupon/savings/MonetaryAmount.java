@@ -2,19 +2,19 @@ package csdev.couponstash.model.coupon.savings;
 
 import static csdev.couponstash.commons.util.AppUtil.checkArgument;
 
-import java.util.Objects;
-
-
 /**
  * Represents a monetary amount that
  * can be saved by a coupon.
  * Immutable.
+ *
+ * <p>The amount is held as a whole number of cents,
+ * so comparing and adding amounts is exact, and
+ * never goes through doubles or Strings.
  */
 public class MonetaryAmount implements Comparable<MonetaryAmount> {
     public static final String MESSAGE_CONSTRAINTS = "Invalid format for monetary amount! "
             + "Monetary amount should be positive, and accurate to at most 2 decimal places";
-    private final int integerAmount;
-    private final int decimalAmount;
+    private final long cents;
 
     /**
      * Constructs a MonetaryAmount, only if the integer amount
@@ -32,8 +32,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
     public MonetaryAmount(int integerAmount, int decimalAmount) {
         checkArgument(MonetaryAmount.isValidMonetaryAmount(integerAmount, decimalAmount),
                 MonetaryAmount.MESSAGE_CONSTRAINTS);
-        this.integerAmount = integerAmount;
-        this.decimalAmount = decimalAmount;
+        this.cents = Cents.of(integerAmount, decimalAmount);
     }
 
     /**
@@ -51,8 +50,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
         int decAmount = ((int) Math.round(monetaryAmount * 100)) % 100;
         checkArgument(MonetaryAmount.isValidMonetaryAmount(intAmount, decAmount),
                 MonetaryAmount.MESSAGE_CONSTRAINTS);
-        this.integerAmount = intAmount;
-        this.decimalAmount = decAmount;
+        this.cents = Cents.of(intAmount, decAmount);
     }
 
     /**
@@ -91,8 +89,22 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 
         checkArgument(MonetaryAmount.isValidMonetaryAmount(intAmount, decAmount),
                 MonetaryAmount.MESSAGE_CONSTRAINTS);
-        this.integerAmount = intAmount;
-        this.decimalAmount = decAmount;
+        this.cents = Cents.of(intAmount, decAmount);
+    }
+
+    private MonetaryAmount(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Constructs a MonetaryAmount from a whole number of cents.
+     *
+     * @param cents The number of cents, which must be
+     *              valid according to {@link Cents#isValid}.
+     */
+    public static MonetaryAmount ofCents(long cents) {
+        checkArgument(Cents.isValid(cents), MonetaryAmount.MESSAGE_CONSTRAINTS);
+        return new MonetaryAmount(cents);
     }
 
     /**
@@ -101,8 +113,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      * @param ma The MonetaryAmount to be cloned.
      */
     public MonetaryAmount(MonetaryAmount ma) {
-        this.integerAmount = ma.integerAmount;
-        this.decimalAmount = ma.decimalAmount;
+        this.cents = ma.cents;
     }
 
     /**
@@ -113,11 +124,18 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      * @return Double representing MonetaryAmount.
      */
     public double getValue() {
-        if (this.decimalAmount < 10) {
-            return Double.parseDouble(this.integerAmount + ".0" + this.decimalAmount);
-        } else {
-            return Double.parseDouble(this.integerAmount + "." + this.decimalAmount);
-        }
+        return Cents.toDouble(this.cents);
+    }
+
+    /**
+     * Gets the value of this MonetaryAmount as
+     * a whole number of cents (e.g. 1205 for 12.05).
+     *
+     * @return Long representing the number of cents
+     *         stored in this MonetaryAmount.
+     */
+    public long getCents() {
+        return this.cents;
     }
 
     /**
@@ -129,7 +147,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      *         stored in this MonetaryAmount.
      */
     public int getRawIntegerValue() {
-        return this.integerAmount;
+        return Cents.getIntegerAmount(this.cents);
     }
 
     /**
@@ -141,7 +159,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      *         stored in this MonetaryAmount.
      */
     public int getRawDecimalValue() {
-        return this.decimalAmount;
+        return Cents.getDecimalAmount(this.cents);
     }
 
     /**
@@ -165,8 +183,8 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      * resulting in a new MonetaryAmount with value
      * greater than the original two.
      *
-     * If this results in integer overflow, return this
-     * monetary amount, unchanged.
+     * If the sum is too large for a MonetaryAmount to
+     * hold, return this monetary amount, unchanged.
      *
      * @param ma The other MonetaryAmount to add to.
      * @return Returns a new MonetaryAmount with
@@ -174,19 +192,13 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      *     original MonetaryAmounts.
      */
     public MonetaryAmount add(MonetaryAmount ma) {
-        int newIntAmount = this.integerAmount + ma.integerAmount;
-        int newDecimalAmount = this.decimalAmount + ma.decimalAmount;
-        // check for overflow
-        if (newIntAmount < 0) {
+        // cannot overflow a long, as both amounts are at most Cents.MAX_VALUE
+        long newCents = this.cents + ma.cents;
+        if (!Cents.isValid(newCents)) {
             return this;
         }
 
-        if (newDecimalAmount >= 100) {
-            newIntAmount = newIntAmount + newDecimalAmount / 100;
-            newDecimalAmount = newDecimalAmount % 100;
-        }
-
-        return new MonetaryAmount(newIntAmount, newDecimalAmount);
+        return new MonetaryAmount(newCents);
     }
 
     /**
@@ -200,12 +212,12 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
      *     the given money symbol in String symbol.
      */
     public String getStringWithMoneySymbol(String symbol) {
-        return symbol + String.format("%.2f", this.getValue());
+        return Cents.appendTo(new StringBuilder(symbol), this.cents).toString();
     }
 
     @Override
     public int compareTo(MonetaryAmount m) {
-        return (int) Math.signum(this.getValue() - m.getValue());
+        return Long.compare(this.cents, m.cents);
     }
 
     @Override
@@ -214,8 +226,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
             return true;
         } else if (o instanceof MonetaryAmount) {
             MonetaryAmount ma = (MonetaryAmount) o;
-            return this.integerAmount == ma.integerAmount
-                    && this.decimalAmount == ma.decimalAmount;
+            return this.cents == ma.cents;
         } else {
             return false;
         }
@@ -223,7 +234,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.integerAmount, this.decimalAmount);
+        return Long.hashCode(this.cents);
     }
 
     @Override
@@ -136,6 +136,23 @@ public class PureMonetarySavings extends Savings {
         }
     }
 
+    /**
+     * Gets the monetary savings that is represented
+     * by this PureMonetarySavings, as a number of cents.
+     *
+     * @return Long representing all the money saved
+     * in this PureMonetarySavings, in cents.
+     */
+    public long getMonetaryAmountAsCents() {
+        if (!super.hasMonetaryAmount()) {
+            // should never throw this as all PureMonetarySavings
+            // can only be created with MonetaryAmounts
+            throw new InvalidSavingsException("PureMonetarySavings without MonetaryAmount");
+        } else {
+            return super.getMonetaryAmount().get().getCents();
+        }
+    }
+
     /**
      * Gets the List of all Saveables represented in
      * this PureMonetarySavings. If there are no items,
@@ -0,0 +1,129 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A mutable sum of many PureMonetarySavings. Unlike adding up
+ * PureMonetarySavings one pair at a time, which creates a new
+ * PureMonetarySavings and a new map of Saveables on every add,
+ * the money is added to a single {@code long} number of cents
+ * and the Saveables to a single map of counts. The sum is only
+ * turned into a PureMonetarySavings once, at the end.
+ *
+ * <p>A SavingsAccumulator is not thread-safe.
+ */
+public class SavingsAccumulator {
+
+    private long cents = 0;
+    private final Map<String, Integer> saveableCounts = new LinkedHashMap<>();
+
+    /**
+     * Adds {@code pms} to the sum.
+     */
+    public SavingsAccumulator add(PureMonetarySavings pms) {
+        requireNonNull(pms);
+        pms.getMonetaryAmount().ifPresent(monetaryAmount -> addCents(monetaryAmount.getCents()));
+        pms.getSaveables().ifPresent(this::addSaveables);
+        return this;
+    }
+
+    /**
+     * Adds the savings on every date in {@code map} to the sum.
+     */
+    public SavingsAccumulator addAll(Map<LocalDate, ? extends PureMonetarySavings> map) {
+        requireNonNull(map);
+        map.values().forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Adds the savings on every date in {@code savingsHistory} to the sum.
+     * This takes constant time if {@code savingsHistory} has no Saveables,
+     * as the total of a SavingsHistory is only worked out once.
+     */
+    public SavingsAccumulator addAll(SavingsHistory savingsHistory) {
+        requireNonNull(savingsHistory);
+        cents += savingsHistory.getTotalCents();
+        return addSaveableCounts(savingsHistory.getTotalSaveableCounts());
+    }
+
+    /**
+     * Adds the savings in {@code savingsHistory} from {@code startDate}
+     * to {@code endDate}, inclusive, to the sum.
+     */
+    public SavingsAccumulator addBetween(SavingsHistory savingsHistory, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(savingsHistory, startDate, endDate);
+        int from = savingsHistory.indexOf(startDate);
+        int to = savingsHistory.indexOf(endDate);
+        // both ends are turned into the range of indexes from (inclusive) to (exclusive)
+        from = from < 0 ? -from - 1 : from;
+        to = to < 0 ? -to - 1 : to + 1;
+        return addRange(savingsHistory, from, to);
+    }
+
+    /**
+     * Adds {@code cents} to the money in the sum.
+     */
+    public SavingsAccumulator addCents(long cents) {
+        this.cents += cents;
+        return this;
+    }
+
+    /**
+     * Adds each of {@code saveables} to the counts of Saveables in the sum.
+     */
+    public SavingsAccumulator addSaveables(List<Saveable> saveables) {
+        requireNonNull(saveables);
+        for (Saveable saveable : saveables) {
+            saveableCounts.merge(saveable.getValue(), saveable.getCount(), Integer::sum);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the given count of each Saveable, by the name of the Saveable, to the counts in the sum.
+     */
+    public SavingsAccumulator addSaveableCounts(Map<String, Integer> counts) {
+        requireNonNull(counts);
+        counts.forEach((value, count) -> saveableCounts.merge(value, count, Integer::sum));
+        return this;
+    }
+
+    /**
+     * Returns the money in the sum, in cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the sum as a new PureMonetarySavings. Money beyond the largest
+     * amount a MonetaryAmount can hold is dropped, in the same way as when
+     * adding up MonetaryAmounts one by one.
+     */
+    public PureMonetarySavings toPureMonetarySavings() {
+        MonetaryAmount monetaryAmount = MonetaryAmount.ofCents(Math.min(cents, Cents.MAX_VALUE));
+        if (saveableCounts.isEmpty()) {
+            return new PureMonetarySavings(monetaryAmount);
+        }
+
+        List<Saveable> saveables = new ArrayList<>(saveableCounts.size());
+        saveableCounts.forEach((value, count) -> saveables.add(new Saveable(value, count)));
+        return new PureMonetarySavings(monetaryAmount, saveables);
+    }
+
+    private SavingsAccumulator addRange(SavingsHistory savingsHistory, int from, int to) {
+        for (int i = from; i < to; i++) {
+            cents += savingsHistory.getCents(i);
+            savingsHistory.getSaveables(i).ifPresent(this::addSaveables);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,314 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The savings earned by a Coupon on each date, kept compactly as
+ * a sorted array of epoch days with a parallel array of amounts
+ * in cents. The rare Saveables earned are kept in a separate table,
+ * keyed by epoch day, so that entries without Saveables take up no
+ * more than the two array slots.
+ *
+ * <p>A SavingsHistory is immutable, so it can be shared between
+ * Coupons and handed out without being copied. Adding savings
+ * returns a new SavingsHistory instead. For the same reason, the
+ * total savings over all dates is worked out only once.
+ */
+public final class SavingsHistory {
+    public static final SavingsHistory EMPTY = new SavingsHistory(new int[0], new long[0], Map.of());
+
+    private final int[] epochDays;
+    private final long[] cents;
+    private final Map<Integer, List<Saveable>> saveables;
+    private final long totalCents;
+    // only worked out when first needed, as most histories have no Saveables
+    private volatile Map<String, Integer> totalSaveableCounts;
+
+    private SavingsHistory(int[] epochDays, long[] cents, Map<Integer, List<Saveable>> saveables) {
+        this.epochDays = epochDays;
+        this.cents = cents;
+        this.saveables = saveables;
+
+        long sum = 0;
+        for (long amount : cents) {
+            sum += amount;
+        }
+        this.totalCents = sum;
+    }
+
+    /**
+     * Creates a SavingsHistory with the same savings on each date as {@code map}.
+     */
+    public static SavingsHistory of(Map<LocalDate, ? extends PureMonetarySavings> map) {
+        requireNonNull(map);
+        if (map.isEmpty()) {
+            return EMPTY;
+        }
+
+        LocalDate[] dates = map.keySet().toArray(new LocalDate[0]);
+        Arrays.sort(dates);
+        int[] epochDays = new int[dates.length];
+        long[] cents = new long[dates.length];
+        Map<Integer, List<Saveable>> saveables = new HashMap<>();
+        for (int i = 0; i < dates.length; i++) {
+            PureMonetarySavings pms = map.get(dates[i]);
+            epochDays[i] = toEpochDay(dates[i]);
+            cents[i] = toCents(pms);
+            int epochDay = epochDays[i];
+            pms.getSaveables().ifPresent(list -> saveables.put(epochDay, List.copyOf(list)));
+        }
+        return new SavingsHistory(epochDays, cents, saveables);
+    }
+
+    /**
+     * Returns a new SavingsHistory with {@code pms} added to the savings
+     * on {@code date}, in the same way as {@link DateSavingsSumMap#add}.
+     */
+    public SavingsHistory add(LocalDate date, PureMonetarySavings pms) {
+        requireAllNonNull(date, pms);
+        int epochDay = toEpochDay(date);
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        Map<Integer, List<Saveable>> newSaveables = new HashMap<>(saveables);
+
+        if (index >= 0) {
+            PureMonetarySavings sum = getSavings(index).add(pms);
+            long[] newCents = cents.clone();
+            newCents[index] = toCents(sum);
+            putSaveables(newSaveables, epochDay, sum);
+            return new SavingsHistory(epochDays, newCents, newSaveables);
+        }
+
+        int insertionPoint = -index - 1;
+        int[] newEpochDays = new int[epochDays.length + 1];
+        long[] newCents = new long[cents.length + 1];
+        System.arraycopy(epochDays, 0, newEpochDays, 0, insertionPoint);
+        System.arraycopy(cents, 0, newCents, 0, insertionPoint);
+        newEpochDays[insertionPoint] = epochDay;
+        newCents[insertionPoint] = toCents(pms);
+        System.arraycopy(epochDays, insertionPoint, newEpochDays, insertionPoint + 1,
+                epochDays.length - insertionPoint);
+        System.arraycopy(cents, insertionPoint, newCents, insertionPoint + 1, cents.length - insertionPoint);
+        putSaveables(newSaveables, epochDay, pms);
+        return new SavingsHistory(newEpochDays, newCents, newSaveables);
+    }
+
+    /**
+     * Returns the number of dates with savings.
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    /**
+     * Returns the epoch day of the {@code index}-th earliest date with savings.
+     */
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * Returns the {@code index}-th earliest date with savings.
+     */
+    public LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * Returns the money saved on the {@code index}-th earliest date with savings, in cents.
+     */
+    public long getCents(int index) {
+        return cents[index];
+    }
+
+    /**
+     * Returns the Saveables earned on the {@code index}-th earliest date with savings, if there are any.
+     */
+    public Optional<List<Saveable>> getSaveables(int index) {
+        return Optional.ofNullable(saveables.get(epochDays[index]));
+    }
+
+    /**
+     * Returns the savings on the {@code index}-th earliest date with savings.
+     */
+    public PureMonetarySavings getSavings(int index) {
+        MonetaryAmount monetaryAmount = MonetaryAmount.ofCents(cents[index]);
+        List<Saveable> saveablesOnDate = saveables.get(epochDays[index]);
+        return saveablesOnDate == null
+                ? new PureMonetarySavings(monetaryAmount)
+                : new PureMonetarySavings(monetaryAmount, saveablesOnDate);
+    }
+
+    /**
+     * Returns the savings on {@code date}, if there are any.
+     */
+    public Optional<PureMonetarySavings> get(LocalDate date) {
+        requireNonNull(date);
+        int index = indexOf(date);
+        return index < 0 ? Optional.empty() : Optional.of(getSavings(index));
+    }
+
+    /**
+     * Returns the index of {@code date}, or a negative number if there are no savings
+     * on it. Follows the same convention as {@link Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(LocalDate date) {
+        // dates too far away to have savings are clamped, which keeps the insertion point right
+        long epochDay = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+        return Arrays.binarySearch(epochDays, (int) epochDay);
+    }
+
+    /**
+     * Returns the sum of the savings from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public PureMonetarySavings getSavingsBetween(LocalDate startDate, LocalDate endDate) {
+        return new SavingsAccumulator().addBetween(this, startDate, endDate).toPureMonetarySavings();
+    }
+
+    /**
+     * Returns the sum of the savings on all dates.
+     */
+    public PureMonetarySavings getTotal() {
+        return new SavingsAccumulator().addAll(this).toPureMonetarySavings();
+    }
+
+    /**
+     * Returns the sum of the money saved on all dates, in cents.
+     */
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Returns the total count of each Saveable earned on all dates, by the name of the Saveable.
+     * The returned map is unmodifiable.
+     */
+    public Map<String, Integer> getTotalSaveableCounts() {
+        Map<String, Integer> counts = totalSaveableCounts;
+        if (counts == null) {
+            // racing threads would work out equal maps, so there is no need to lock
+            Map<String, Integer> sum = new HashMap<>();
+            for (List<Saveable> saveablesOnDate : saveables.values()) {
+                for (Saveable saveable : saveablesOnDate) {
+                    sum.merge(saveable.getValue(), saveable.getCount(), Integer::sum);
+                }
+            }
+            counts = Map.copyOf(sum);
+            totalSaveableCounts = counts;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns an unmodifiable view of the savings on each date as a map, for code
+     * that still works with a {@link DateSavingsSumMap}. Nothing is copied, and the
+     * dates are iterated over from the earliest.
+     */
+    public Map<LocalDate, PureMonetarySavings> asMap() {
+        return new MapView();
+    }
+
+    private static void putSaveables(Map<Integer, List<Saveable>> saveables, int epochDay,
+                                     PureMonetarySavings pms) {
+        pms.getSaveables().ifPresentOrElse(list -> saveables.put(epochDay, List.copyOf(list)), () ->
+                saveables.remove(epochDay));
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    private static long toCents(PureMonetarySavings pms) {
+        return pms.getMonetaryAmount().map(MonetaryAmount::getCents).orElse(0L);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SavingsHistory // instanceof handles nulls
+                && Arrays.equals(epochDays, ((SavingsHistory) other).epochDays)
+                && Arrays.equals(cents, ((SavingsHistory) other).cents)
+                && saveables.equals(((SavingsHistory) other).saveables));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(epochDays), Arrays.hashCode(cents), saveables);
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * A read-only map view of a SavingsHistory, which looks dates up by binary search
+     * and makes the entries as they are iterated over.
+     */
+    private class MapView extends AbstractMap<LocalDate, PureMonetarySavings> {
+        @Override
+        public int size() {
+            return epochDays.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof LocalDate && indexOf((LocalDate) key) >= 0;
+        }
+
+        @Override
+        public PureMonetarySavings get(Object key) {
+            return key instanceof LocalDate ? SavingsHistory.this.get((LocalDate) key).orElse(null) : null;
+        }
+
+        @Override
+        public Set<Entry<LocalDate, PureMonetarySavings>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return epochDays.length;
+                }
+
+                @Override
+                public Iterator<Entry<LocalDate, PureMonetarySavings>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < epochDays.length;
+                        }
+
+                        @Override
+                        public Entry<LocalDate, PureMonetarySavings> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<LocalDate, PureMonetarySavings> entry =
+                                    new SimpleImmutableEntry<>(getDate(index), getSavings(index));
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
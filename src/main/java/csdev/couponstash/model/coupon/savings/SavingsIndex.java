@@ -0,0 +1,185 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of the savings of many Coupons, summed up by date, that
+ * can give the total savings between any two dates without looking
+ * at each date in between.
+ *
+ * <p>The money saved on each date is kept in a Fenwick tree over a
+ * range of epoch days, which grows as savings on earlier or later
+ * dates are added. Both adding savings and summing up a range of
+ * dates then take O(log D) time, where D is the number of days in
+ * the range. Saveables are rare, so they are simply counted per
+ * date, and only the dates with Saveables are visited by a query.
+ */
+public class SavingsIndex {
+
+    // the number of days covered when the first savings are added
+    private static final int INITIAL_DAYS = 1024;
+
+    // epoch day of the first day covered by the tree
+    private int firstEpochDay = 0;
+    // money saved on each covered day, in cents
+    private long[] dayCents = new long[0];
+    // dayCents as a Fenwick tree, where tree[i] holds the sum of
+    // the (i & -i) days ending at day i - 1, counting from 1
+    private long[] tree = new long[1];
+    private final TreeMap<Integer, Map<String, Integer>> saveableCounts = new TreeMap<>();
+
+    /**
+     * Adds every savings in {@code savingsHistory} to this index.
+     */
+    public void add(SavingsHistory savingsHistory) {
+        requireNonNull(savingsHistory);
+        update(savingsHistory, 1);
+    }
+
+    /**
+     * Removes every savings in {@code savingsHistory} from this index.
+     * The same savings must have been added before.
+     */
+    public void remove(SavingsHistory savingsHistory) {
+        requireNonNull(savingsHistory);
+        update(savingsHistory, -1);
+    }
+
+    /**
+     * Removes all savings from this index.
+     */
+    public void clear() {
+        firstEpochDay = 0;
+        dayCents = new long[0];
+        tree = new long[1];
+        saveableCounts.clear();
+    }
+
+    /**
+     * Returns the sum of the savings from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public PureMonetarySavings getSavingsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        long cents = prefixSum(end) - prefixSum(start - 1);
+        // capped in the same way as adding up MonetaryAmounts one by one
+        MonetaryAmount monetaryAmount = MonetaryAmount.ofCents(Math.min(cents, Cents.MAX_VALUE));
+
+        Map<String, Integer> counts = new HashMap<>();
+        if (start <= end && !saveableCounts.isEmpty()) {
+            for (Map<String, Integer> countsOnDay
+                    : saveableCounts.subMap(clamp(start), true, clamp(end), true).values()) {
+                countsOnDay.forEach((value, count) -> counts.merge(value, count, Integer::sum));
+            }
+        }
+        if (counts.isEmpty()) {
+            return new PureMonetarySavings(monetaryAmount);
+        }
+
+        List<Saveable> saveables = new ArrayList<>();
+        counts.forEach((value, count) -> saveables.add(new Saveable(value, count)));
+        return new PureMonetarySavings(monetaryAmount, saveables);
+    }
+
+    private void update(SavingsHistory savingsHistory, int sign) {
+        if (savingsHistory.isEmpty()) {
+            return;
+        }
+        ensureCovered(savingsHistory.getEpochDay(0), savingsHistory.getEpochDay(savingsHistory.size() - 1));
+
+        for (int i = 0; i < savingsHistory.size(); i++) {
+            int epochDay = savingsHistory.getEpochDay(i);
+            long cents = sign * savingsHistory.getCents(i);
+            dayCents[epochDay - firstEpochDay] += cents;
+            for (int j = epochDay - firstEpochDay + 1; j < tree.length; j += j & -j) {
+                tree[j] += cents;
+            }
+            savingsHistory.getSaveables(i).ifPresent(saveables -> updateSaveables(epochDay, saveables, sign));
+        }
+    }
+
+    private void updateSaveables(int epochDay, List<Saveable> saveables, int sign) {
+        Map<String, Integer> counts = saveableCounts.computeIfAbsent(epochDay, day -> new HashMap<>());
+        for (Saveable saveable : saveables) {
+            // counts that reach zero are removed, so that they do not show up in a query
+            counts.merge(saveable.getValue(), sign * saveable.getCount(),
+                    (oldCount, change) -> oldCount + change == 0 ? null : oldCount + change);
+        }
+        if (counts.isEmpty()) {
+            saveableCounts.remove(epochDay);
+        }
+    }
+
+    /**
+     * Returns the money saved from the first covered day to {@code epochDay}, inclusive, in cents.
+     */
+    private long prefixSum(long epochDay) {
+        long position = Math.min(epochDay - firstEpochDay + 1, dayCents.length);
+        long sum = 0;
+        for (int j = (int) Math.max(position, 0); j > 0; j -= j & -j) {
+            sum += tree[j];
+        }
+        return sum;
+    }
+
+    /**
+     * Grows the range of covered days to include {@code from} to {@code to}, by at least doubling
+     * it, so that the tree only has to be rebuilt a few times as more savings are added.
+     */
+    private void ensureCovered(int from, int to) {
+        if (dayCents.length == 0) {
+            int length = Math.max(INITIAL_DAYS, to - from + 1);
+            // leave room on both sides of the first savings
+            firstEpochDay = from - (length - (to - from + 1)) / 2;
+            dayCents = new long[length];
+            tree = new long[length + 1];
+            return;
+        }
+
+        int lastEpochDay = firstEpochDay + dayCents.length - 1;
+        if (from >= firstEpochDay && to <= lastEpochDay) {
+            return;
+        }
+
+        int newFirstEpochDay = Math.min(from, firstEpochDay);
+        int newLastEpochDay = Math.max(to, lastEpochDay);
+        int newLength = Math.max(newLastEpochDay - newFirstEpochDay + 1, dayCents.length * 2);
+        if (from < firstEpochDay) {
+            // grow towards the earlier dates being added
+            newFirstEpochDay = newLastEpochDay - newLength + 1;
+        }
+
+        long[] newDayCents = new long[newLength];
+        System.arraycopy(dayCents, 0, newDayCents, firstEpochDay - newFirstEpochDay, dayCents.length);
+        firstEpochDay = newFirstEpochDay;
+        dayCents = newDayCents;
+        buildTree();
+    }
+
+    /**
+     * Builds the Fenwick tree from {@code dayCents} in linear time.
+     */
+    private void buildTree() {
+        tree = new long[dayCents.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += dayCents[i - 1];
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private static int clamp(long epochDay) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, epochDay));
+    }
+}
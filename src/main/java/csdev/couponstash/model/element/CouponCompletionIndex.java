@@ -0,0 +1,91 @@
+package csdev.couponstash.model.element;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+
+import csdev.couponstash.commons.util.PrefixTrie;
+import csdev.couponstash.commons.util.StringUtil;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.tag.Tag;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the names and Tags of the Coupons in a list, so that the
+ * names, words in names and Tags that start with what the user has typed
+ * can be found without looking at every Coupon in the list.
+ *
+ * <p>The names, words and Tags are kept in prefix tries. Names and words are
+ * looked up regardless of case, while Tags are looked up by their exact case,
+ * as Tags are case sensitive. The index listens to changes to the list, and
+ * only updates the tries with the Coupons that were added to or removed from
+ * the list, so that nothing has to be rebuilt while the user is typing.
+ */
+public class CouponCompletionIndex {
+
+    private final PrefixTrie names = new PrefixTrie(word -> word.toLowerCase(Locale.ROOT));
+    private final PrefixTrie nameWords = new PrefixTrie();
+    private final PrefixTrie tags = new PrefixTrie();
+
+    /**
+     * Constructs a {@code CouponCompletionIndex} of {@code coupons}, which is kept
+     * up to date as {@code coupons} changes.
+     */
+    public CouponCompletionIndex(ObservableList<Coupon> coupons) {
+        requireNonNull(coupons);
+        coupons.forEach(this::add);
+        coupons.addListener((ListChangeListener<? super Coupon>) this::onCouponsChanged);
+    }
+
+    /**
+     * Returns up to {@code limit} names of Coupons that start with {@code prefix}, in any case.
+     */
+    public List<String> getNameCompletions(String prefix, int limit) {
+        return names.getCompletions(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} lower case words in the names of Coupons that start
+     * with {@code prefix}, in any case.
+     */
+    public List<String> getNameWordCompletions(String prefix, int limit) {
+        return nameWords.getCompletions(prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
+    /**
+     * Returns up to {@code limit} names of Tags that start with {@code prefix}.
+     */
+    public List<String> getTagCompletions(String prefix, int limit) {
+        return tags.getCompletions(prefix, limit);
+    }
+
+    private void onCouponsChanged(ListChangeListener.Change<? extends Coupon> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the same coupons, so the tries are the same
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Coupon coupon) {
+        names.add(coupon.getName().fullName);
+        StringUtil.getLowerCaseWords(coupon.getName().fullName).forEach(nameWords::add);
+        for (Tag tag : coupon.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void remove(Coupon coupon) {
+        names.remove(coupon.getName().fullName);
+        StringUtil.getLowerCaseWords(coupon.getName().fullName).forEach(nameWords::remove);
+        for (Tag tag : coupon.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package csdev.couponstash.model.element;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import csdev.couponstash.model.coupon.Coupon;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the Coupons in a list by a date of each Coupon, such as its
+ * expiry date, so that the Coupons on a range of dates can be found without
+ * looking at every Coupon in the list.
+ *
+ * <p>The Coupons are kept in buckets by the epoch day of their date. The index
+ * listens to changes to the list, and only moves the Coupons that were added
+ * to or removed from the list. Within a bucket, Coupons are kept in the order
+ * that they were added to the index.
+ */
+public class CouponDateIndex {
+
+    private final TreeMap<Integer, List<Coupon>> couponsByEpochDay = new TreeMap<>();
+    private final Function<Coupon, LocalDate> dateOfCoupon;
+    // incremented on every change, so that results worked out from this index can be checked
+    private int version = 0;
+
+    /**
+     * Constructs a {@code CouponDateIndex} of {@code coupons} by the date given by
+     * {@code dateOfCoupon}, which is kept up to date as {@code coupons} changes.
+     */
+    public CouponDateIndex(ObservableList<Coupon> coupons, Function<Coupon, LocalDate> dateOfCoupon) {
+        requireAllNonNull(coupons, dateOfCoupon);
+        this.dateOfCoupon = dateOfCoupon;
+        coupons.forEach(this::add);
+        coupons.addListener((ListChangeListener<? super Coupon>) this::onCouponsChanged);
+    }
+
+    /**
+     * Returns the Coupons on {@code date}. The returned list is a copy.
+     */
+    public List<Coupon> getCouponsOn(LocalDate date) {
+        requireNonNull(date);
+        List<Coupon> coupons = couponsByEpochDay.get(toIndexKey(date));
+        return coupons == null ? new ArrayList<>() : new ArrayList<>(coupons);
+    }
+
+    /**
+     * Returns the Coupons on any date from {@code startDate} to {@code endDate}, inclusive,
+     * told apart by reference. This takes time in proportion to the number of dates and
+     * Coupons in the range, instead of the number of Coupons in the list.
+     */
+    public Set<Coupon> getCouponsBetween(LocalDate startDate, LocalDate endDate) {
+        Set<Coupon> coupons = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachBetween(startDate, endDate, (date, couponsOnDate) -> coupons.addAll(couponsOnDate));
+        return coupons;
+    }
+
+    /**
+     * Calls {@code action} with the date and the Coupons on that date, for every
+     * date from {@code startDate} to {@code endDate}, inclusive, that has any
+     * Coupons, from the earliest date to the latest. The lists passed to
+     * {@code action} must not be modified.
+     */
+    public void forEachBetween(LocalDate startDate, LocalDate endDate, BiConsumer<LocalDate, List<Coupon>> action) {
+        requireAllNonNull(startDate, endDate, action);
+        int start = toIndexKey(startDate);
+        int end = toIndexKey(endDate);
+        if (start > end) {
+            return;
+        }
+        for (Map.Entry<Integer, List<Coupon>> entry : couponsByEpochDay.subMap(start, true, end, true).entrySet()) {
+            action.accept(LocalDate.ofEpochDay(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the number of changes made to this index so far. Anything worked
+     * out from this index is still correct if this number has not changed.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private void onCouponsChanged(ListChangeListener.Change<? extends Coupon> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the same coupons, so the buckets are the same
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        version++;
+    }
+
+    private void add(Coupon coupon) {
+        couponsByEpochDay.computeIfAbsent(toIndexKey(dateOfCoupon.apply(coupon)), day -> new ArrayList<>())
+                .add(coupon);
+    }
+
+    private void remove(Coupon coupon) {
+        int epochDay = toIndexKey(dateOfCoupon.apply(coupon));
+        List<Coupon> coupons = couponsByEpochDay.get(epochDay);
+        if (coupons != null && coupons.remove(coupon) && coupons.isEmpty()) {
+            couponsByEpochDay.remove(epochDay);
+        }
+    }
+
+    /**
+     * Returns the epoch day of {@code date}, clamped to the range of an {@code int}.
+     */
+    private static int toIndexKey(LocalDate date) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+    }
+}
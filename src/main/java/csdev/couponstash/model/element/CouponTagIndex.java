@@ -0,0 +1,178 @@
+package csdev.couponstash.model.element;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.tag.Tag;
+import csdev.couponstash.model.tag.TagQuery;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index of the Coupons in a list by their Tags, so that queries
+ * combining Tags with OR, AND and NOT can be answered with set operations on
+ * bit sets, instead of looking at the Tags of every Coupon.
+ *
+ * <p>Each Coupon in the list is given a small ordinal, and each Tag maps to a
+ * bit set of the ordinals of the Coupons with that Tag. A query is worked out
+ * once as a bit set, and the Coupons are then looked up by their ordinals. The
+ * ordinals of removed Coupons are given to new Coupons, so that the bit sets
+ * stay dense. The index listens to changes to the list, and only updates the
+ * bits of the Coupons that were added to or removed from the list. Coupons are
+ * told apart by reference, as a Coupon in the list is always the same object
+ * as the one that was added to the index.
+ */
+public class CouponTagIndex {
+
+    private final Map<Coupon, Integer> ordinals = new IdentityHashMap<>();
+    // null at the ordinals of removed coupons
+    private final List<Coupon> couponsByOrdinal = new ArrayList<>();
+    // ordinals of removed coupons, to be given to new coupons first
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet allCoupons = new BitSet();
+    private final Map<Tag, BitSet> couponsByTag = new HashMap<>();
+    // incremented on every change, so that results worked out from this index can be checked
+    private int version = 0;
+
+    /**
+     * Constructs a {@code CouponTagIndex} of {@code coupons}, which is kept up to date as
+     * {@code coupons} changes. The index should be constructed before any other listeners
+     * of {@code coupons} that use it, so that it is updated before they are told of a change.
+     */
+    public CouponTagIndex(ObservableList<Coupon> coupons) {
+        requireNonNull(coupons);
+        coupons.forEach(this::add);
+        coupons.addListener((ListChangeListener<? super Coupon>) this::onCouponsChanged);
+    }
+
+    /**
+     * Returns the number of Coupons with {@code tag}.
+     */
+    public int getCount(Tag tag) {
+        requireNonNull(tag);
+        BitSet coupons = couponsByTag.get(tag);
+        return coupons == null ? 0 : coupons.cardinality();
+    }
+
+    /**
+     * Returns the Coupons that match {@code query}, told apart by reference. The query is
+     * worked out once as a bit set, so this takes time in proportion to the number of Tags
+     * in the query and the size of the bit sets, instead of testing the Tags of every Coupon.
+     */
+    public Set<Coupon> getCouponsMatching(TagQuery query) {
+        requireNonNull(query);
+        BitSet matches = query(query);
+        Set<Coupon> coupons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            coupons.add(couponsByOrdinal.get(ordinal));
+        }
+        return coupons;
+    }
+
+    /**
+     * Returns the number of changes made to this index so far. Anything worked
+     * out from this index is still correct if this number has not changed.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ordinals of the Coupons that match {@code query}, worked out from
+     * the union of the bit sets of {@code anyOf}, intersected with the bit sets of
+     * {@code allOf}, less the bit sets of {@code noneOf}.
+     */
+    private BitSet query(TagQuery query) {
+        // the rarest Tags are intersected first, as they shrink the result the most
+        List<Tag> allOf = new ArrayList<>(query.getAllOf());
+        allOf.sort(Comparator.comparingInt(this::getCount));
+
+        BitSet result;
+        if (!query.getAnyOf().isEmpty()) {
+            result = new BitSet();
+            for (Tag tag : query.getAnyOf()) {
+                result.or(getCouponsWithTag(tag));
+            }
+        } else if (!allOf.isEmpty()) {
+            // start from the rarest Tag instead of every Coupon
+            result = (BitSet) getCouponsWithTag(allOf.remove(0)).clone();
+        } else {
+            result = (BitSet) allCoupons.clone();
+        }
+        for (Tag tag : allOf) {
+            if (result.isEmpty()) {
+                return result;
+            }
+            result.and(getCouponsWithTag(tag));
+        }
+        for (Tag tag : query.getNoneOf()) {
+            if (result.isEmpty()) {
+                return result;
+            }
+            result.andNot(getCouponsWithTag(tag));
+        }
+        return result;
+    }
+
+    private BitSet getCouponsWithTag(Tag tag) {
+        return couponsByTag.getOrDefault(tag, new BitSet());
+    }
+
+    private void onCouponsChanged(ListChangeListener.Change<? extends Coupon> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the same coupons, so the bits are the same
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        version++;
+    }
+
+    private void add(Coupon coupon) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = couponsByOrdinal.size();
+            couponsByOrdinal.add(coupon);
+        } else {
+            ordinal = freeOrdinals.pop();
+            couponsByOrdinal.set(ordinal, coupon);
+        }
+        ordinals.put(coupon, ordinal);
+        allCoupons.set(ordinal);
+        for (Tag tag : coupon.getTags()) {
+            couponsByTag.computeIfAbsent(tag, key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void remove(Coupon coupon) {
+        Integer ordinal = ordinals.remove(coupon);
+        if (ordinal == null) {
+            return;
+        }
+        allCoupons.clear(ordinal);
+        couponsByOrdinal.set(ordinal, null);
+        for (Tag tag : coupon.getTags()) {
+            BitSet coupons = couponsByTag.get(tag);
+            coupons.clear(ordinal);
+            if (coupons.isEmpty()) {
+                couponsByTag.remove(tag);
+            }
+        }
+        freeOrdinals.push(ordinal);
+    }
+}
@@ -0,0 +1,99 @@
+package csdev.couponstash.model.element;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import csdev.couponstash.model.coupon.Coupon;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index of the Coupons in a list by the tokens of each Coupon, such
+ * as the lower case words in its name, so that the Coupons with any of a few
+ * tokens can be found without looking at every Coupon in the list.
+ *
+ * <p>Each token maps to the set of Coupons that have the token. The index listens
+ * to changes to the list, and only updates the sets of the Coupons that were added
+ * to or removed from the list. Coupons are told apart by reference, as a Coupon
+ * in the list is always the same object as the one that was added to the index.
+ */
+public class CouponTokenIndex {
+
+    private final Map<String, Set<Coupon>> couponsByToken = new HashMap<>();
+    private final Function<Coupon, Collection<String>> tokensOfCoupon;
+    // incremented on every change, so that results worked out from this index can be checked
+    private int version = 0;
+
+    /**
+     * Constructs a {@code CouponTokenIndex} of {@code coupons} by the tokens given by
+     * {@code tokensOfCoupon}, which is kept up to date as {@code coupons} changes.
+     * The index should be constructed before any other listeners of {@code coupons}
+     * that use it, so that it is updated before they are told of a change.
+     */
+    public CouponTokenIndex(ObservableList<Coupon> coupons, Function<Coupon, Collection<String>> tokensOfCoupon) {
+        requireAllNonNull(coupons, tokensOfCoupon);
+        this.tokensOfCoupon = tokensOfCoupon;
+        coupons.forEach(this::add);
+        coupons.addListener((ListChangeListener<? super Coupon>) this::onCouponsChanged);
+    }
+
+    /**
+     * Returns the Coupons that have any of {@code tokens}, as the union of the sets of
+     * Coupons of each token. This takes time in proportion to the number of matches,
+     * instead of the number of Coupons in the list.
+     */
+    public Set<Coupon> getCouponsWithAnyToken(List<String> tokens) {
+        requireNonNull(tokens);
+        Set<Coupon> coupons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens) {
+            coupons.addAll(couponsByToken.getOrDefault(token, Collections.emptySet()));
+        }
+        return coupons;
+    }
+
+    /**
+     * Returns the number of changes made to this index so far. Anything worked
+     * out from this index is still correct if this number has not changed.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private void onCouponsChanged(ListChangeListener.Change<? extends Coupon> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the same coupons, so the sets are the same
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        version++;
+    }
+
+    private void add(Coupon coupon) {
+        for (String token : tokensOfCoupon.apply(coupon)) {
+            couponsByToken.computeIfAbsent(token, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(coupon);
+        }
+    }
+
+    private void remove(Coupon coupon) {
+        for (String token : tokensOfCoupon.apply(coupon)) {
+            Set<Coupon> coupons = couponsByToken.get(token);
+            if (coupons != null && coupons.remove(coupon) && coupons.isEmpty()) {
+                couponsByToken.remove(token);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package csdev.couponstash.model.element;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+import csdev.couponstash.model.coupon.Coupon;
+
+/**
+ * Tests if a Coupon is one of the Coupons that an index found to match a query,
+ * so that filtering a list by the query only looks each Coupon up in a set.
+ *
+ * <p>The found Coupons are only correct while the index is unchanged. A filtered
+ * list keeps its predicate after a command, so once the index has changed, for
+ * example because a Coupon was added or restored by undo, Coupons are tested
+ * with the query itself instead.
+ */
+public class FoundCouponsPredicate implements Predicate<Coupon> {
+
+    private final Set<Coupon> foundCoupons;
+    private final IntSupplier indexVersion;
+    private final int foundVersion;
+    private final Predicate<? super Coupon> query;
+
+    /**
+     * Constructs a {@code FoundCouponsPredicate}. {@code foundCoupons} must be the Coupons,
+     * told apart by reference, that match {@code query} in the index whose current version
+     * is given by {@code indexVersion}.
+     */
+    public FoundCouponsPredicate(Set<Coupon> foundCoupons, IntSupplier indexVersion,
+                                 Predicate<? super Coupon> query) {
+        requireAllNonNull(foundCoupons, indexVersion, query);
+        this.foundCoupons = foundCoupons;
+        this.indexVersion = indexVersion;
+        this.foundVersion = indexVersion.getAsInt();
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Coupon coupon) {
+        return indexVersion.getAsInt() == foundVersion
+                ? foundCoupons.contains(coupon)
+                : query.test(coupon);
+    }
+}
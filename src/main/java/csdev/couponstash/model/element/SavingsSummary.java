@@ -0,0 +1,125 @@
+package csdev.couponstash.model.element;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.SavingsAccumulator;
+import csdev.couponstash.model.coupon.savings.SavingsHistory;
+
+import javafx.beans.value.ObservableValueBase;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Represents a summary of the savings of every Coupon in a list: the money saved
+ * in each week, the total money saved, and the total count of each Saveable.
+ *
+ * <p>The summary listens to changes to the list, and only adds or takes away the
+ * savings of the Coupons that were added to or removed from the list, instead of
+ * summing up every Coupon again. Listeners are invalidated after every change.
+ */
+public class SavingsSummary extends ObservableValueBase<SavingsSummary> {
+
+    private final TreeMap<LocalDate, Long> centsByWeek = new TreeMap<>();
+    // number of dates with savings in each week, as some savings have no money
+    private final Map<LocalDate, Integer> datesByWeek = new HashMap<>();
+    private final Map<String, Integer> saveableCounts = new HashMap<>();
+    private long totalCents = 0;
+
+    /**
+     * Constructs a {@code SavingsSummary} of {@code coupons}, which is kept up to date as {@code coupons} changes.
+     */
+    public SavingsSummary(ObservableList<Coupon> coupons) {
+        requireNonNull(coupons);
+        coupons.forEach(coupon -> update(coupon, 1));
+        coupons.addListener((ListChangeListener<? super Coupon>) this::onCouponsChanged);
+    }
+
+    /**
+     * Returns the Monday of the week that {@code date} is in.
+     * If {@code date} is already a Monday, the same date is returned.
+     */
+    public static LocalDate getWeekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Returns the money saved in each week that has any savings, in cents,
+     * by the Monday of the week. Weeks in which only Saveables were earned
+     * are included as well. The returned map is unmodifiable.
+     */
+    public NavigableMap<LocalDate, Long> getCentsByWeek() {
+        return Collections.unmodifiableNavigableMap(centsByWeek);
+    }
+
+    /**
+     * Returns the total money saved, in cents.
+     */
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Returns the total count of each Saveable earned, by the name of
+     * the Saveable. The returned map is unmodifiable.
+     */
+    public Map<String, Integer> getSaveableCounts() {
+        return Collections.unmodifiableMap(saveableCounts);
+    }
+
+    /**
+     * Returns the total savings as a new PureMonetarySavings.
+     */
+    public PureMonetarySavings getTotal() {
+        return new SavingsAccumulator()
+                .addCents(totalCents)
+                .addSaveableCounts(saveableCounts)
+                .toPureMonetarySavings();
+    }
+
+    @Override
+    public SavingsSummary getValue() {
+        return this;
+    }
+
+    private void onCouponsChanged(ListChangeListener.Change<? extends Coupon> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the same coupons, so the savings are the same
+                continue;
+            }
+            change.getRemoved().forEach(coupon -> update(coupon, -1));
+            List<? extends Coupon> added = change.getAddedSubList();
+            added.forEach(coupon -> update(coupon, 1));
+        }
+        fireValueChangedEvent();
+    }
+
+    private void update(Coupon coupon, int sign) {
+        SavingsHistory savingsHistory = coupon.getSavingsHistory();
+        for (int i = 0; i < savingsHistory.size(); i++) {
+            LocalDate week = getWeekOf(savingsHistory.getDate(i));
+            if (datesByWeek.merge(week, sign, Integer::sum) == 0) {
+                // no more savings in this week
+                datesByWeek.remove(week);
+                centsByWeek.remove(week);
+            } else {
+                centsByWeek.merge(week, sign * savingsHistory.getCents(i), Long::sum);
+            }
+        }
+        totalCents += sign * coupon.getTotalSavingsCents();
+        coupon.getTotalSaveableCounts().forEach((value, count) -> saveableCounts.merge(value, sign * count,
+                (oldCount, change) -> oldCount + change == 0 ? null : oldCount + change));
+    }
+}
@@ -0,0 +1,177 @@
+package csdev.couponstash.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import csdev.couponstash.model.coupon.Coupon;
+
+/**
+ * Represents the changes made to a CouponStash by a single
+ * command, in the order that they were made. Every change
+ * remembers enough of the state before it to be reversed.
+ * Immutable.
+ */
+public class CouponStashDelta {
+    // Rough estimate of the memory taken up by a Coupon, together
+    // with its value objects and savings map
+    public static final long ESTIMATED_COUPON_SIZE = 1024;
+    // Estimate of the memory taken up by a reference or a small header
+    public static final long ESTIMATED_REFERENCE_SIZE = 16;
+
+    private final List<Change> changes;
+    private final String commandText;
+    private final long estimatedSize;
+
+    /**
+     * Constructs a new CouponStashDelta.
+     *
+     * @param changes The changes made by the command, in order.
+     * @param commandText The command that made the changes.
+     */
+    public CouponStashDelta(List<Change> changes, String commandText) {
+        requireNonNull(changes);
+        requireNonNull(commandText);
+        this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+        this.commandText = commandText;
+
+        long size = ESTIMATED_REFERENCE_SIZE + 2L * commandText.length();
+        for (Change change : changes) {
+            size += change.getEstimatedSize();
+        }
+        this.estimatedSize = size;
+    }
+
+    /**
+     * Gets the changes in this delta, in the order
+     * that they were made.
+     */
+    public List<Change> getChanges() {
+        return this.changes;
+    }
+
+    public String getCommandText() {
+        return this.commandText;
+    }
+
+    /**
+     * Gets an estimate of the number of bytes of memory
+     * that are kept alive by storing this delta. Coupons
+     * that were removed or replaced by this delta are
+     * counted in full, as the delta may be the only thing
+     * that still refers to them.
+     */
+    public long getEstimatedSize() {
+        return this.estimatedSize;
+    }
+
+    /**
+     * Represents a single change to the list of coupons in a CouponStash.
+     */
+    public static class Change {
+        /**
+         * The different kinds of changes to the list of coupons.
+         */
+        public enum Type {
+            ADD, REMOVE, SET, RESET
+        }
+
+        private final Type type;
+        private final int index;
+        private final Coupon oldCoupon;
+        private final Coupon newCoupon;
+        private final CouponStashSnapshot oldSnapshot;
+        private final CouponStashSnapshot newSnapshot;
+
+        private Change(Type type, int index, Coupon oldCoupon, Coupon newCoupon,
+                       CouponStashSnapshot oldSnapshot, CouponStashSnapshot newSnapshot) {
+            this.type = type;
+            this.index = index;
+            this.oldCoupon = oldCoupon;
+            this.newCoupon = newCoupon;
+            this.oldSnapshot = oldSnapshot;
+            this.newSnapshot = newSnapshot;
+        }
+
+        /**
+         * Returns a change where {@code coupon} was inserted at {@code index}.
+         */
+        public static Change add(int index, Coupon coupon) {
+            requireNonNull(coupon);
+            return new Change(Type.ADD, index, null, coupon, null, null);
+        }
+
+        /**
+         * Returns a change where {@code coupon} was removed from {@code index}.
+         */
+        public static Change remove(int index, Coupon coupon) {
+            requireNonNull(coupon);
+            return new Change(Type.REMOVE, index, coupon, null, null, null);
+        }
+
+        /**
+         * Returns a change where {@code oldCoupon} at {@code index} was replaced by {@code newCoupon}.
+         */
+        public static Change set(int index, Coupon oldCoupon, Coupon newCoupon) {
+            requireNonNull(oldCoupon);
+            requireNonNull(newCoupon);
+            return new Change(Type.SET, index, oldCoupon, newCoupon, null, null);
+        }
+
+        /**
+         * Returns a change where all coupons in {@code oldSnapshot} were replaced
+         * by all coupons in {@code newSnapshot}.
+         */
+        public static Change reset(CouponStashSnapshot oldSnapshot, CouponStashSnapshot newSnapshot) {
+            requireNonNull(oldSnapshot);
+            requireNonNull(newSnapshot);
+            return new Change(Type.RESET, -1, null, null, oldSnapshot, newSnapshot);
+        }
+
+        public Type getType() {
+            return this.type;
+        }
+
+        public int getIndex() {
+            return this.index;
+        }
+
+        public Coupon getOldCoupon() {
+            return this.oldCoupon;
+        }
+
+        public Coupon getNewCoupon() {
+            return this.newCoupon;
+        }
+
+        public CouponStashSnapshot getOldSnapshot() {
+            return this.oldSnapshot;
+        }
+
+        public CouponStashSnapshot getNewSnapshot() {
+            return this.newSnapshot;
+        }
+
+        /**
+         * Gets an estimate of the number of bytes of memory
+         * kept alive by this change.
+         */
+        long getEstimatedSize() {
+            switch (type) {
+            case ADD:
+                return 2 * ESTIMATED_REFERENCE_SIZE;
+            case REMOVE:
+            case SET:
+                return 2 * ESTIMATED_REFERENCE_SIZE + ESTIMATED_COUPON_SIZE;
+            case RESET:
+                return 2 * ESTIMATED_REFERENCE_SIZE
+                        + oldSnapshot.size() * ESTIMATED_COUPON_SIZE
+                        + newSnapshot.size() * ESTIMATED_REFERENCE_SIZE;
+            default:
+                throw new IllegalStateException("Unknown type of change: " + type);
+            }
+        }
+    }
+}
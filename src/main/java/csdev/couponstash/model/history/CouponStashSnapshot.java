@@ -0,0 +1,451 @@
+package csdev.couponstash.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import csdev.couponstash.model.coupon.Coupon;
+
+/**
+ * An immutable snapshot of the coupons in a CouponStash, in order.
+ *
+ * <p>The coupons are stored in chunks of up to {@code 2 * CHUNK_SIZE - 1} coupons,
+ * which are the leaves of a tree whose nodes know how many coupons they hold. Every
+ * update returns a new snapshot that shares all unchanged nodes with the old one,
+ * and copies only the chunk changed and the nodes on the path from the root to it.
+ * Getting, adding, replacing or removing a coupon thus takes O(log n) time, and
+ * copies O(CHUNK_SIZE + BRANCHING * log n) references, for a snapshot of n coupons.
+ * Building a snapshot from a list with {@link #of(List)} takes O(n) time. Coupons
+ * themselves are never copied, as their fields are immutable.
+ */
+public final class CouponStashSnapshot {
+    public static final CouponStashSnapshot EMPTY = new CouponStashSnapshot(null);
+
+    private static final int CHUNK_SIZE = 64;
+    // the number of children of a node built by of(List); nodes are split at twice this
+    private static final int BRANCHING = 32;
+
+    // null if the snapshot is empty
+    private final Node root;
+
+    private CouponStashSnapshot(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a snapshot containing the given coupons, in order.
+     *
+     * @param coupons The coupons to be contained in the snapshot.
+     * @return A new CouponStashSnapshot.
+     */
+    public static CouponStashSnapshot of(List<Coupon> coupons) {
+        requireNonNull(coupons);
+        if (coupons.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Node> nodes = new ArrayList<>((coupons.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int from = 0; from < coupons.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, coupons.size());
+            nodes.add(Node.leaf(coupons.subList(from, to).toArray(new Coupon[0])));
+        }
+        while (nodes.size() > 1) {
+            List<Node> parents = new ArrayList<>((nodes.size() + BRANCHING - 1) / BRANCHING);
+            for (int from = 0; from < nodes.size(); from += BRANCHING) {
+                int to = Math.min(from + BRANCHING, nodes.size());
+                parents.add(Node.branch(nodes.subList(from, to).toArray(new Node[0])));
+            }
+            nodes = parents;
+        }
+        return new CouponStashSnapshot(nodes.get(0));
+    }
+
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Gets the coupon at the given position of this snapshot.
+     *
+     * @param index Zero-based position of the coupon.
+     * @return The coupon at {@code index}.
+     */
+    public Coupon get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (!node.isLeaf()) {
+            int childIndex = 0;
+            while (index >= node.children[childIndex].size) {
+                index -= node.children[childIndex].size;
+                childIndex++;
+            }
+            node = node.children[childIndex];
+        }
+        return node.coupons[index];
+    }
+
+    /**
+     * Returns a snapshot with {@code coupon} added to the end.
+     */
+    public CouponStashSnapshot append(Coupon coupon) {
+        return insert(size(), coupon);
+    }
+
+    /**
+     * Returns a snapshot with {@code coupon} inserted at {@code index}.
+     * A chunk or node that grows to twice its usual size is split in half.
+     */
+    public CouponStashSnapshot insert(int index, Coupon coupon) {
+        requireNonNull(coupon);
+        checkIndex(index, size() + 1);
+        if (root == null) {
+            return new CouponStashSnapshot(Node.leaf(new Coupon[] {coupon}));
+        }
+
+        Node[] inserted = insert(root, index, coupon);
+        return new CouponStashSnapshot(inserted.length == 1 ? inserted[0] : Node.branch(inserted));
+    }
+
+    /**
+     * Returns the node, or the two halves of the node if it has grown too large,
+     * that is {@code node} with {@code coupon} inserted at {@code index}.
+     */
+    private static Node[] insert(Node node, int index, Coupon coupon) {
+        if (node.isLeaf()) {
+            Coupon[] oldChunk = node.coupons;
+            Coupon[] newChunk = new Coupon[oldChunk.length + 1];
+            System.arraycopy(oldChunk, 0, newChunk, 0, index);
+            newChunk[index] = coupon;
+            System.arraycopy(oldChunk, index, newChunk, index + 1, oldChunk.length - index);
+            if (newChunk.length < 2 * CHUNK_SIZE) {
+                return new Node[] {Node.leaf(newChunk)};
+            }
+            return new Node[] {Node.leaf(Arrays.copyOfRange(newChunk, 0, CHUNK_SIZE)),
+                Node.leaf(Arrays.copyOfRange(newChunk, CHUNK_SIZE, newChunk.length))};
+        }
+
+        // a coupon inserted between two children is added to the end of the first one
+        int childIndex = 0;
+        while (index > node.children[childIndex].size) {
+            index -= node.children[childIndex].size;
+            childIndex++;
+        }
+        Node[] insertedChild = insert(node.children[childIndex], index, coupon);
+
+        Node[] oldChildren = node.children;
+        Node[] newChildren = new Node[oldChildren.length + insertedChild.length - 1];
+        System.arraycopy(oldChildren, 0, newChildren, 0, childIndex);
+        System.arraycopy(insertedChild, 0, newChildren, childIndex, insertedChild.length);
+        System.arraycopy(oldChildren, childIndex + 1, newChildren, childIndex + insertedChild.length,
+                oldChildren.length - childIndex - 1);
+        if (newChildren.length < 2 * BRANCHING) {
+            return new Node[] {Node.branch(newChildren)};
+        }
+        return new Node[] {Node.branch(Arrays.copyOfRange(newChildren, 0, BRANCHING)),
+            Node.branch(Arrays.copyOfRange(newChildren, BRANCHING, newChildren.length))};
+    }
+
+    /**
+     * Returns a snapshot with the coupon at {@code index} replaced by {@code coupon}.
+     */
+    public CouponStashSnapshot set(int index, Coupon coupon) {
+        requireNonNull(coupon);
+        checkIndex(index, size());
+        return new CouponStashSnapshot(set(root, index, coupon));
+    }
+
+    private static Node set(Node node, int index, Coupon coupon) {
+        if (node.isLeaf()) {
+            Coupon[] newChunk = node.coupons.clone();
+            newChunk[index] = coupon;
+            return Node.leaf(newChunk);
+        }
+
+        int childIndex = 0;
+        while (index >= node.children[childIndex].size) {
+            index -= node.children[childIndex].size;
+            childIndex++;
+        }
+        Node[] newChildren = node.children.clone();
+        newChildren[childIndex] = set(node.children[childIndex], index, coupon);
+        return Node.branch(newChildren);
+    }
+
+    /**
+     * Returns a snapshot with the coupon at {@code index} removed.
+     */
+    public CouponStashSnapshot remove(int index) {
+        checkIndex(index, size());
+        Node newRoot = remove(root, index);
+        // a root left with a single child is replaced by the child, so that the tree gets shallower again
+        while (newRoot != null && !newRoot.isLeaf() && newRoot.children.length == 1) {
+            newRoot = newRoot.children[0];
+        }
+        return newRoot == null ? EMPTY : new CouponStashSnapshot(newRoot);
+    }
+
+    /**
+     * Returns {@code node} with the coupon at {@code index} removed,
+     * or null if the node is left empty, so that no node is ever empty.
+     */
+    private static Node remove(Node node, int index) {
+        if (node.isLeaf()) {
+            Coupon[] oldChunk = node.coupons;
+            if (oldChunk.length == 1) {
+                return null;
+            }
+            Coupon[] newChunk = new Coupon[oldChunk.length - 1];
+            System.arraycopy(oldChunk, 0, newChunk, 0, index);
+            System.arraycopy(oldChunk, index + 1, newChunk, index, oldChunk.length - index - 1);
+            return Node.leaf(newChunk);
+        }
+
+        int childIndex = 0;
+        while (index >= node.children[childIndex].size) {
+            index -= node.children[childIndex].size;
+            childIndex++;
+        }
+        Node removedChild = remove(node.children[childIndex], index);
+
+        Node[] oldChildren = node.children;
+        if (removedChild != null) {
+            Node[] newChildren = oldChildren.clone();
+            newChildren[childIndex] = removedChild;
+            return Node.branch(newChildren);
+        }
+        if (oldChildren.length == 1) {
+            return null;
+        }
+        Node[] newChildren = new Node[oldChildren.length - 1];
+        System.arraycopy(oldChildren, 0, newChildren, 0, childIndex);
+        System.arraycopy(oldChildren, childIndex + 1, newChildren, childIndex, oldChildren.length - childIndex - 1);
+        return Node.branch(newChildren);
+    }
+
+    /**
+     * Returns the coupons of this snapshot, in order, as a new list.
+     */
+    public List<Coupon> toList() {
+        List<Coupon> coupons = new ArrayList<>(size());
+        if (root != null) {
+            root.addTo(coupons);
+        }
+        return coupons;
+    }
+
+    /**
+     * Counts the coupons at the start of this snapshot that are the very
+     * same objects as the coupons at the start of {@code other}. Nodes
+     * shared by both snapshots are skipped over without comparing coupons.
+     */
+    public int commonPrefixLength(CouponStashSnapshot other) {
+        requireNonNull(other);
+        int maxLength = Math.min(size(), other.size());
+        int length = 0;
+        while (length < maxLength) {
+            Path mine = new Path(root, length);
+            Path theirs = new Path(other.root, length);
+            Node shared = mine.findSharedNodeStartingHere(theirs);
+            if (shared != null) {
+                length += shared.size;
+                continue;
+            }
+
+            // compares the rest of both chunks
+            Coupon[] myChunk = mine.getLeaf().coupons;
+            Coupon[] theirChunk = theirs.getLeaf().coupons;
+            int myOffset = mine.getOffsetInLeaf();
+            int theirOffset = theirs.getOffsetInLeaf();
+            int count = Math.min(myChunk.length - myOffset, theirChunk.length - theirOffset);
+            for (int i = 0; i < count; i++) {
+                if (myChunk[myOffset + i] != theirChunk[theirOffset + i]) {
+                    return length + i;
+                }
+            }
+            length += count;
+        }
+        return length;
+    }
+
+    /**
+     * Counts the coupons at the end of this snapshot that are the very
+     * same objects as the coupons at the end of {@code other}, up to
+     * {@code maxLength}. Nodes shared by both snapshots are skipped
+     * over without comparing coupons.
+     */
+    public int commonSuffixLength(CouponStashSnapshot other, int maxLength) {
+        requireNonNull(other);
+        maxLength = Math.min(maxLength, Math.min(size(), other.size()));
+        int length = 0;
+        while (length < maxLength) {
+            Path mine = new Path(root, size() - 1 - length);
+            Path theirs = new Path(other.root, other.size() - 1 - length);
+            Node shared = mine.findSharedNodeEndingHere(theirs);
+            if (shared != null && length + shared.size <= maxLength) {
+                length += shared.size;
+                continue;
+            }
+
+            // compares the chunks before the coupons already counted, back to their start
+            Coupon[] myChunk = mine.getLeaf().coupons;
+            Coupon[] theirChunk = theirs.getLeaf().coupons;
+            int myOffset = mine.getOffsetInLeaf();
+            int theirOffset = theirs.getOffsetInLeaf();
+            int count = Math.min(maxLength - length, Math.min(myOffset, theirOffset) + 1);
+            for (int i = 0; i < count; i++) {
+                if (myChunk[myOffset - i] != theirChunk[theirOffset - i]) {
+                    return length + i;
+                }
+            }
+            length += count;
+        }
+        return length;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CouponStashSnapshot // instanceof handles nulls
+                && toList().equals(((CouponStashSnapshot) other).toList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    /**
+     * A node of the tree of a snapshot, which is either a leaf holding a chunk of
+     * coupons, or a branch holding other nodes. Nodes are never changed once built.
+     */
+    private static final class Node {
+        // null in a leaf
+        private final Node[] children;
+        // null in a branch
+        private final Coupon[] coupons;
+        // the number of coupons in this node and all the nodes below it
+        private final int size;
+
+        private Node(Node[] children, Coupon[] coupons, int size) {
+            this.children = children;
+            this.coupons = coupons;
+            this.size = size;
+        }
+
+        private static Node leaf(Coupon[] coupons) {
+            return new Node(null, coupons, coupons.length);
+        }
+
+        private static Node branch(Node[] children) {
+            int size = 0;
+            for (Node child : children) {
+                size += child.size;
+            }
+            return new Node(children, null, size);
+        }
+
+        private boolean isLeaf() {
+            return children == null;
+        }
+
+        private void addTo(List<Coupon> list) {
+            if (isLeaf()) {
+                list.addAll(Arrays.asList(coupons));
+                return;
+            }
+            for (Node child : children) {
+                child.addTo(list);
+            }
+        }
+    }
+
+    /**
+     * The nodes on the way from the root of a snapshot down to the chunk holding
+     * the coupon at an index, along with the index at which each node starts.
+     */
+    private static final class Path {
+        private final List<Node> nodes = new ArrayList<>();
+        private final List<Integer> starts = new ArrayList<>();
+        private final int index;
+
+        private Path(Node root, int index) {
+            this.index = index;
+            Node node = root;
+            int start = 0;
+            nodes.add(node);
+            starts.add(start);
+            while (!node.isLeaf()) {
+                int childIndex = 0;
+                while (index >= start + node.children[childIndex].size) {
+                    start += node.children[childIndex].size;
+                    childIndex++;
+                }
+                node = node.children[childIndex];
+                nodes.add(node);
+                starts.add(start);
+            }
+        }
+
+        private Node getLeaf() {
+            return nodes.get(nodes.size() - 1);
+        }
+
+        private int getOffsetInLeaf() {
+            return index - starts.get(starts.size() - 1);
+        }
+
+        /**
+         * Returns the largest node that starts at the index of both paths, or null if there is none.
+         */
+        private Node findSharedNodeStartingHere(Path other) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (starts.get(i) == index && other.hasNodeStartingHere(nodes.get(i))) {
+                    return nodes.get(i);
+                }
+            }
+            return null;
+        }
+
+        private boolean hasNodeStartingHere(Node node) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i) == node && starts.get(i) == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the largest node that ends at the index of both paths, or null if there is none.
+         */
+        private Node findSharedNodeEndingHere(Path other) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (isEndingHere(i) && other.hasNodeEndingHere(nodes.get(i))) {
+                    return nodes.get(i);
+                }
+            }
+            return null;
+        }
+
+        private boolean hasNodeEndingHere(Node node) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i) == node && isEndingHere(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isEndingHere(int i) {
+            return starts.get(i) + nodes.get(i).size == index + 1;
+        }
+    }
+}
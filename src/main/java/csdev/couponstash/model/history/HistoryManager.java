@@ -1,51 +1,60 @@
 package csdev.couponstash.model.history;
 
+import static csdev.couponstash.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
 
-import csdev.couponstash.model.CouponStash;
-
 /**
- * Stores the historic state of the coupons.
+ * Stores the historic state of the coupons. Instead of storing every
+ * state in full, each commit is stored as a {@code CouponStashDelta}
+ * that can be reversed to go back to the previous state.
+ *
+ * <p>The oldest deltas are evicted once the estimated memory taken up
+ * by the history grows beyond the memory budget. The delta of the
+ * latest commit is never evicted, so the latest command can always
+ * be undone.
  */
 public class HistoryManager {
-    private List<CouponStash> couponStashStateList;
-    private List<String> commandTextHistory;
+    public static final String MESSAGE_INVALID_MEMORY_BUDGET = "Memory budget for history should be positive!";
+
+    private List<CouponStashDelta> deltas;
     private int currStateIndex;
+    private long memoryBudget;
+    private long footprint;
 
-    public HistoryManager(CouponStash initialState) {
+    /**
+     * Constructs a new HistoryManager, with no states to undo or redo to.
+     *
+     * @param memoryBudget Estimated number of bytes of memory that
+     *                     the history is allowed to take up.
+     */
+    public HistoryManager(long memoryBudget) {
+        checkArgument(memoryBudget > 0, MESSAGE_INVALID_MEMORY_BUDGET);
         this.currStateIndex = 0;
-
-        this.couponStashStateList = new ArrayList<>();
-        this.commandTextHistory = new ArrayList<>();
-        this.couponStashStateList.add(initialState);
-        // Empty string as initial state had no commands
-        this.commandTextHistory.add("");
+        this.deltas = new ArrayList<>();
+        this.memoryBudget = memoryBudget;
+        this.footprint = 0;
     }
 
     /**
-     * Add {@code newState} to {@code couponStashList}.
-     * {@code command} is the command that triggered the commit.
+     * Add {@code delta} to the history. {@code delta} contains the
+     * changes made by the command that triggered the commit.
      * Increments {@code currStateIndex} subsequently.
-     * If {@code currentStatePointer} is not pointing at the end of the
-     * {@code couponStashStateList}, all coupon stash states after the
-     * {@code currentStatePointer} will be purged.
-     * @param newState State to add to {@code couponStashList}
+     * If {@code currStateIndex} is not pointing at the end of the
+     * history, all deltas after the {@code currStateIndex} will be purged.
+     * @param delta Changes to add to the history
      */
-    public void commitState(CouponStash newState, String command) {
-        int stateSize = couponStashStateList.size();
-        if (currStateIndex != stateSize - 1) {
-
-            // Purging all coupon stash states and commandText histories after the currentStatePointer.
-            for (int i = currStateIndex + 1; i < stateSize; i++) {
-                couponStashStateList.remove(couponStashStateList.size() - 1);
-                commandTextHistory.remove(commandTextHistory.size() - 1);
-            }
+    public void commitState(CouponStashDelta delta) {
+        // Purging all deltas after the currStateIndex.
+        while (deltas.size() > currStateIndex) {
+            footprint -= deltas.remove(deltas.size() - 1).getEstimatedSize();
         }
 
-        this.couponStashStateList.add(newState);
-        this.commandTextHistory.add(command);
+        this.deltas.add(delta);
+        footprint += delta.getEstimatedSize();
         currStateIndex++;
+        evictOldestStates();
     }
 
     /**
@@ -53,23 +62,23 @@ public class HistoryManager {
      * @return Next command string
      */
     public String getNextCommandText() {
-        return this.commandTextHistory.get(currStateIndex + 1);
+        return this.deltas.get(currStateIndex).getCommandText();
     }
 
     /**
      * Revert to previous state. Decrements {@code currStateIndex} subsequently.
-     * @return Previous state
+     * @return Delta that has to be reverted to get to the previous state
      */
-    public CouponStash undo() {
-        return this.couponStashStateList.get(--currStateIndex).copy();
+    public CouponStashDelta undo() {
+        return this.deltas.get(--currStateIndex);
     }
 
     /**
      * Revert to state before undo. Increments {@code currStateIndex} subsequently.
-     * @return State before undo
+     * @return Delta that has to be applied to get to the state before undo
      */
-    public CouponStash redo() {
-        return this.couponStashStateList.get(++currStateIndex).copy();
+    public CouponStashDelta redo() {
+        return this.deltas.get(currStateIndex++);
     }
 
     /**
@@ -85,6 +94,43 @@ public class HistoryManager {
      * @return True if there is a state to redo to, false otherwise
      */
     public boolean canRedo() {
-        return currStateIndex != couponStashStateList.size() - 1;
+        return currStateIndex != deltas.size();
+    }
+
+    /**
+     * Gets the estimated number of bytes of memory taken up by the history.
+     */
+    public long getFootprint() {
+        return this.footprint;
+    }
+
+    public long getMemoryBudget() {
+        return this.memoryBudget;
+    }
+
+    /**
+     * Sets a new memory budget for the history, evicting
+     * the oldest states if the history no longer fits.
+     * @param memoryBudget Estimated number of bytes of memory that
+     *                     the history is allowed to take up.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        checkArgument(memoryBudget > 0, MESSAGE_INVALID_MEMORY_BUDGET);
+        this.memoryBudget = memoryBudget;
+        evictOldestStates();
+    }
+
+    /**
+     * Evicts the oldest deltas until the history fits in the memory budget,
+     * while keeping the delta of the current state.
+     */
+    private void evictOldestStates() {
+        int evicted = 0;
+        while (footprint > memoryBudget && evicted < currStateIndex - 1) {
+            footprint -= deltas.get(evicted).getEstimatedSize();
+            evicted++;
+        }
+        deltas.subList(0, evicted).clear();
+        currStateIndex -= evicted;
     }
 }
@@ -0,0 +1,85 @@
+package csdev.couponstash.model.tag;
+
+import static csdev.couponstash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import csdev.couponstash.model.coupon.Coupon;
+
+/**
+ * Represents a query on the Tags of a Coupon, which combines Tags with OR, AND and NOT.
+ * A Coupon matches the query if it has any of the Tags in {@code anyOf} (or {@code anyOf}
+ * is empty), has all of the Tags in {@code allOf}, and has none of the Tags in {@code noneOf}.
+ * Guarantees: immutable
+ */
+public class TagQuery implements Predicate<Coupon> {
+    public static final TagQuery EMPTY = new TagQuery(Set.of(), Set.of(), Set.of());
+
+    private final Set<Tag> anyOf;
+    private final Set<Tag> allOf;
+    private final Set<Tag> noneOf;
+
+    /**
+     * Constructs a {@code TagQuery}. Every field must be present and not null.
+     */
+    public TagQuery(Set<Tag> anyOf, Set<Tag> allOf, Set<Tag> noneOf) {
+        requireAllNonNull(anyOf, allOf, noneOf);
+        this.anyOf = Collections.unmodifiableSet(new LinkedHashSet<>(anyOf));
+        this.allOf = Collections.unmodifiableSet(new LinkedHashSet<>(allOf));
+        this.noneOf = Collections.unmodifiableSet(new LinkedHashSet<>(noneOf));
+    }
+
+    public Set<Tag> getAnyOf() {
+        return anyOf;
+    }
+
+    public Set<Tag> getAllOf() {
+        return allOf;
+    }
+
+    public Set<Tag> getNoneOf() {
+        return noneOf;
+    }
+
+    /**
+     * Returns true if this query has no Tags at all, so that every Coupon matches it.
+     */
+    public boolean isEmpty() {
+        return anyOf.isEmpty() && allOf.isEmpty() && noneOf.isEmpty();
+    }
+
+    /**
+     * Tests the Tags of {@code coupon} one by one. Use a {@code CouponTagIndex}
+     * to match many Coupons at once instead.
+     */
+    @Override
+    public boolean test(Coupon coupon) {
+        Set<Tag> tags = coupon.getTags();
+        return (anyOf.isEmpty() || anyOf.stream().anyMatch(tags::contains))
+                && tags.containsAll(allOf)
+                && noneOf.stream().noneMatch(tags::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagQuery // instanceof handles nulls
+                && anyOf.equals(((TagQuery) other).anyOf)
+                && allOf.equals(((TagQuery) other).allOf)
+                && noneOf.equals(((TagQuery) other).noneOf)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(anyOf, allOf, noneOf);
+    }
+
+    @Override
+    public String toString() {
+        return "any of " + anyOf + ", all of " + allOf + ", none of " + noneOf;
+    }
+}
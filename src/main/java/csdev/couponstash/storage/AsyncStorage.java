@@ -0,0 +1,173 @@
+package csdev.couponstash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import csdev.couponstash.commons.core.LogsCenter;
+import csdev.couponstash.commons.exceptions.DataConversionException;
+import csdev.couponstash.model.ImmutableCouponStash;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+import csdev.couponstash.model.ReadOnlyUserPrefs;
+import csdev.couponstash.model.UserPrefs;
+
+/**
+ * Saves CouponStash data on a background thread, so that callers never
+ * wait for the disk. Each save hands an immutable copy of the coupons to
+ * a single writer thread. Saves requested while the writer is busy are
+ * coalesced, so that only the latest of them is written.
+ *
+ * <p>As saves return before anything is written, failed saves are
+ * reported to the save error handler instead of being thrown.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+    private final Object lock = new Object();
+
+    // The latest coupons waiting to be written, or null if there are none
+    private ReadOnlyCouponStash pendingCouponStash;
+    private Future<?> pendingWrite;
+    private Consumer<IOException> saveErrorHandler = ioe -> { };
+
+    /**
+     * Constructs a new AsyncStorage that writes through {@code storage}.
+     */
+    public AsyncStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ CouponStash methods ==============================
+
+    @Override
+    public Path getCouponStashFilePath() {
+        return storage.getCouponStashFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCouponStash> readCouponStash() throws DataConversionException, IOException {
+        flush();
+        return storage.readCouponStash();
+    }
+
+    @Override
+    public Optional<ReadOnlyCouponStash> readCouponStash(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readCouponStash(filePath);
+    }
+
+    @Override
+    public void saveCouponStash(ReadOnlyCouponStash couponStash) {
+        requireNonNull(couponStash);
+        ImmutableCouponStash immutableCouponStash = new ImmutableCouponStash(couponStash);
+
+        synchronized (lock) {
+            boolean isWriteScheduled = pendingCouponStash != null;
+            pendingCouponStash = immutableCouponStash;
+            if (!isWriteScheduled) {
+                pendingWrite = writer.submit(this::writePendingCouponStash);
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link #saveCouponStash(ReadOnlyCouponStash)}, but writes
+     * the coupons to {@code filePath} before returning.
+     */
+    @Override
+    public void saveCouponStash(ReadOnlyCouponStash couponStash, Path filePath) throws IOException {
+        flush();
+        storage.saveCouponStash(couponStash, filePath);
+    }
+
+    @Override
+    public long getSavesPerformed() {
+        return storage.getSavesPerformed();
+    }
+
+    @Override
+    public long getSavesSkipped() {
+        return storage.getSavesSkipped();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        synchronized (lock) {
+            this.saveErrorHandler = saveErrorHandler;
+        }
+    }
+
+    @Override
+    public void flush() {
+        Future<?> write;
+        synchronized (lock) {
+            write = pendingWrite;
+        }
+        if (write == null) {
+            return;
+        }
+
+        try {
+            write.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Unexpected error while writing data file: " + ee.getCause());
+        }
+    }
+
+    /**
+     * Writes the latest coupons waiting to be written. Runs on the writer thread.
+     */
+    private void writePendingCouponStash() {
+        ReadOnlyCouponStash couponStash;
+        Consumer<IOException> errorHandler;
+        synchronized (lock) {
+            couponStash = pendingCouponStash;
+            pendingCouponStash = null;
+            errorHandler = saveErrorHandler;
+        }
+
+        try {
+            storage.saveCouponStash(couponStash);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data file: " + ioe);
+            errorHandler.accept(ioe);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package csdev.couponstash.storage;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import csdev.couponstash.commons.exceptions.IllegalValueException;
+import csdev.couponstash.commons.util.DateUtil;
+import csdev.couponstash.model.coupon.Archived;
+import csdev.couponstash.model.coupon.Condition;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.ExpiryDate;
+import csdev.couponstash.model.coupon.Limit;
+import csdev.couponstash.model.coupon.Name;
+import csdev.couponstash.model.coupon.PromoCode;
+import csdev.couponstash.model.coupon.RemindDate;
+import csdev.couponstash.model.coupon.StartDate;
+import csdev.couponstash.model.coupon.Usage;
+import csdev.couponstash.model.coupon.savings.Cents;
+import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
+import csdev.couponstash.model.coupon.savings.MonetaryAmount;
+import csdev.couponstash.model.coupon.savings.PercentageAmount;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.Saveable;
+import csdev.couponstash.model.coupon.savings.Savings;
+import csdev.couponstash.model.tag.Tag;
+
+/**
+ * Reads coupons written by {@link BinaryCouponWriter}. Strings, tags and
+ * dates that appear in many coupons are only converted once, and the
+ * resulting objects are shared between the coupons.
+ */
+class BinaryCouponReader {
+
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Coupon refers to a string that does not exist!";
+    public static final String MESSAGE_INVALID_NUMBER = "Number in coupon data is too large!";
+
+    // far longer than any field of a coupon, to fail fast on corrupted lengths
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    private final String[] strings;
+    private final Tag[] tags;
+    private final Map<Long, ExpiryDate> expiryDates = new HashMap<>();
+    private final Map<Long, StartDate> startDates = new HashMap<>();
+    private final Map<Long, RemindDate> remindDates = new HashMap<>();
+
+    /**
+     * Reads the string table, which holds {@code stringCount} strings.
+     */
+    public BinaryCouponReader(DataInput in, int stringCount) throws IOException {
+        strings = new String[stringCount];
+        tags = new Tag[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = readVarInt(in);
+            if (length > MAX_STRING_LENGTH) {
+                throw new IOException(MESSAGE_INVALID_NUMBER);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads the next coupon.
+     *
+     * @throws IOException if the coupon data is malformed.
+     * @throws IllegalValueException if there were any data constraints violated in the coupon.
+     */
+    public Coupon readCoupon(DataInput in) throws IOException, IllegalValueException {
+        try {
+            return readCouponFields(in);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // thrown by the constructors of the model classes
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private Coupon readCouponFields(DataInput in) throws IOException, IllegalValueException {
+        int flags = in.readUnsignedByte();
+        String name = readString(in);
+        String promoCode = readString(in);
+        String condition = readString(in);
+
+        MonetaryAmount monetaryAmount = (flags & BinaryCouponWriter.FLAG_HAS_MONETARY_AMOUNT) != 0
+                ? readMonetaryAmount(in)
+                : null;
+        Double percentage = (flags & BinaryCouponWriter.FLAG_HAS_PERCENTAGE_AMOUNT) != 0
+                ? in.readDouble()
+                : null;
+        List<Saveable> saveables = readSaveables(in);
+
+        long expiryDay = readVarLong(in);
+        long startDay = readVarLong(in);
+        long remindDay = readVarLong(in);
+        int usage = readVarInt(in);
+        int limit = readVarInt(in);
+
+        Set<Tag> couponTags = new HashSet<>();
+        int tagCount = readVarInt(in);
+        for (int i = 0; i < tagCount; i++) {
+            couponTags.add(readTag(in));
+        }
+
+        DateSavingsSumMap savingsMap = new DateSavingsSumMap();
+        int savingsMapSize = readVarInt(in);
+        long epochDay = 0;
+        for (int i = 0; i < savingsMapSize; i++) {
+            epochDay += readVarLong(in);
+            MonetaryAmount amountSaved = readMonetaryAmount(in);
+            List<Saveable> saveablesSaved = readSaveables(in);
+            savingsMap.add(LocalDate.ofEpochDay(epochDay), saveablesSaved == null
+                    ? new PureMonetarySavings(amountSaved)
+                    : new PureMonetarySavings(amountSaved, saveablesSaved));
+        }
+
+        if (monetaryAmount == null && percentage == null && saveables == null
+                || monetaryAmount != null && percentage != null) {
+            throw new IllegalValueException(Savings.MESSAGE_CONSTRAINTS);
+        }
+
+        return new Coupon(new Name(name), new PromoCode(promoCode),
+                toSavings(monetaryAmount, percentage, saveables),
+                expiryDates.computeIfAbsent(expiryDay, day -> new ExpiryDate(formatDate(day))),
+                startDates.computeIfAbsent(startDay, day -> new StartDate(formatDate(day))),
+                new Usage(usage), new Limit(limit), couponTags, savingsMap,
+                remindDates.computeIfAbsent(remindDay, day -> new RemindDate(formatDate(day))),
+                new Condition(condition), new Archived((flags & BinaryCouponWriter.FLAG_ARCHIVED) != 0));
+    }
+
+    /**
+     * Reads a number written by {@link BinaryCouponWriter#writeVarLong(java.io.DataOutput, long)}.
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_INVALID_NUMBER);
+    }
+
+    /**
+     * Similar to {@link #readVarLong(DataInput)}, but only accepts non-negative numbers that fit in an int.
+     */
+    static int readVarInt(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_INVALID_NUMBER);
+        }
+        return (int) value;
+    }
+
+    private String readString(DataInput in) throws IOException {
+        return strings[readStringIndex(in)];
+    }
+
+    private int readStringIndex(DataInput in) throws IOException {
+        int index = readVarInt(in);
+        if (index >= strings.length) {
+            throw new IOException(MESSAGE_INVALID_STRING_INDEX);
+        }
+        return index;
+    }
+
+    private Tag readTag(DataInput in) throws IOException, IllegalValueException {
+        int index = readStringIndex(in);
+        if (tags[index] == null) {
+            if (!Tag.isValidTagName(strings[index])) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[index] = new Tag(strings[index]);
+        }
+        return tags[index];
+    }
+
+    /**
+     * Reads a list of saveables, or returns null if the coupon has none.
+     */
+    private List<Saveable> readSaveables(DataInput in) throws IOException, IllegalValueException {
+        int sizePlusOne = readVarInt(in);
+        if (sizePlusOne == 0) {
+            return null;
+        }
+
+        List<Saveable> saveables = new ArrayList<>(sizePlusOne - 1);
+        for (int i = 1; i < sizePlusOne; i++) {
+            String value = readString(in);
+            int count = readVarInt(in);
+            if (!Saveable.isValidSaveableValue(value, count)) {
+                throw new IllegalValueException(Saveable.MESSAGE_CONSTRAINTS);
+            }
+            saveables.add(new Saveable(value, count));
+        }
+        return saveables;
+    }
+
+    private static MonetaryAmount readMonetaryAmount(DataInput in) throws IOException, IllegalValueException {
+        long cents = readVarLong(in);
+        if (!Cents.isValid(cents)) {
+            throw new IllegalValueException(MonetaryAmount.MESSAGE_CONSTRAINTS);
+        }
+        return MonetaryAmount.ofCents(cents);
+    }
+
+    private static Savings toSavings(MonetaryAmount monetaryAmount, Double percentage, List<Saveable> saveables) {
+        if (saveables != null) {
+            if (monetaryAmount != null) {
+                return new Savings(monetaryAmount, saveables);
+            } else if (percentage != null) {
+                return new Savings(new PercentageAmount(percentage), saveables);
+            } else {
+                return new Savings(saveables);
+            }
+        } else if (monetaryAmount != null) {
+            return new Savings(monetaryAmount);
+        } else {
+            return new Savings(new PercentageAmount(percentage));
+        }
+    }
+
+    private static String formatDate(long epochDay) {
+        return DateUtil.formatDateToString(LocalDate.ofEpochDay(epochDay));
+    }
+}
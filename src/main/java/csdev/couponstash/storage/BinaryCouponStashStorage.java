@@ -0,0 +1,235 @@
+package csdev.couponstash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import csdev.couponstash.commons.core.LogsCenter;
+import csdev.couponstash.commons.exceptions.DataConversionException;
+import csdev.couponstash.commons.exceptions.IllegalValueException;
+import csdev.couponstash.commons.util.FileUtil;
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.CouponIdentity;
+
+/**
+ * A class to access CouponStash data stored as a compact binary file on the hard disk.
+ *
+ * <p>The file starts with a header holding {@link #MAGIC_NUMBER}, the format version,
+ * the number of strings and the number of coupons, followed by a checksum of the header.
+ * Then come the string table and the coupons, as written by {@link BinaryCouponWriter},
+ * followed by a checksum of both.
+ *
+ * <p>A json file found where the binary file is expected is read as json instead,
+ * so that existing data is kept when switching from the json format. The binary
+ * file replaces it on the next save.
+ */
+public class BinaryCouponStashStorage implements CouponStashStorage {
+
+    /** The bytes "CSTB", which mark a binary CouponStash file. */
+    public static final int MAGIC_NUMBER = 0x43535442;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NEWER_FORMAT_VERSION = "Data file was written by a newer version "
+            + "of Coupon Stash (format version %d)!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file is corrupted, as its %s does not match "
+            + "its checksum!";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCouponStashStorage.class);
+
+    private Path filePath;
+
+    public BinaryCouponStashStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getCouponStashFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCouponStash> readCouponStash() throws DataConversionException {
+        return readCouponStash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCouponStash()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyCouponStash> readCouponStash(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                logger.info("Reading " + filePath + " as json, as it is not a binary file");
+                return new JsonCouponStashStorage(filePath).readCouponStash();
+            }
+            return Optional.of(readFrom(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCouponStash(ReadOnlyCouponStash couponStash) throws IOException {
+        saveCouponStash(couponStash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCouponStash(ReadOnlyCouponStash)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCouponStash(ReadOnlyCouponStash couponStash, Path filePath) throws IOException {
+        requireNonNull(couponStash);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        List<Coupon> coupons = couponStash.getSnapshot().toList();
+        FileUtil.writeToFileAtomically(filePath, out -> writeTo(out, coupons));
+    }
+
+    /**
+     * Converts the json file at {@code jsonFilePath} into this binary file.
+     *
+     * @throws DataConversionException if the json file is missing or not in the correct format.
+     */
+    public void importFromJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyCouponStash> couponStash = new JsonCouponStashStorage(jsonFilePath).readCouponStash();
+        if (couponStash.isEmpty()) {
+            throw new DataConversionException(new IOException("Json file " + jsonFilePath + " not found"));
+        }
+        saveCouponStash(couponStash.get());
+    }
+
+    /**
+     * Converts this binary file into an indented json file at {@code jsonFilePath},
+     * which can be read by {@link JsonCouponStashStorage}.
+     *
+     * @throws DataConversionException if this file is missing or not in the correct format.
+     */
+    public void exportToJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyCouponStash> couponStash = readCouponStash();
+        if (couponStash.isEmpty()) {
+            throw new DataConversionException(new IOException("Binary file " + filePath + " not found"));
+        }
+        new JsonCouponStashStorage(jsonFilePath, true).saveCouponStash(couponStash.get());
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC_NUMBER}.
+     */
+    private static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] start = in.readNBytes(Integer.BYTES);
+            return start.length == Integer.BYTES && ByteBuffer.wrap(start).getInt() == MAGIC_NUMBER;
+        }
+    }
+
+    private static CouponStash readFrom(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(filePath))) {
+            DataInputStream rawIn = new DataInputStream(fileIn);
+            CRC32 checksum = new CRC32();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(fileIn, checksum));
+
+            in.readInt(); // magic number, already checked
+            int formatVersion = in.readUnsignedShort();
+            if (formatVersion > FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_NEWER_FORMAT_VERSION, formatVersion));
+            }
+            int stringCount = BinaryCouponReader.readVarInt(in);
+            int couponCount = BinaryCouponReader.readVarInt(in);
+            verifyChecksum(rawIn, checksum, "header");
+
+            BinaryCouponReader couponReader = new BinaryCouponReader(in, stringCount);
+            // collected first, so that the CouponStash is built once rather than coupon by coupon
+            List<Coupon> coupons = new ArrayList<>(couponCount);
+            Set<CouponIdentity> identities = new HashSet<>(couponCount * 2);
+            for (int i = 0; i < couponCount; i++) {
+                Coupon coupon = couponReader.readCoupon(in);
+                if (!identities.add(new CouponIdentity(coupon))) {
+                    throw new IllegalValueException(JsonSerializableCouponStash.MESSAGE_DUPLICATE_COUPON);
+                }
+                coupons.add(coupon);
+            }
+            verifyChecksum(rawIn, checksum, "content");
+
+            CouponStash couponStash = new CouponStash();
+            couponStash.setCoupons(coupons);
+            return couponStash;
+        }
+    }
+
+    private static void writeTo(OutputStream out, List<Coupon> coupons) throws IOException {
+        BinaryCouponWriter couponWriter = new BinaryCouponWriter();
+        coupons.forEach(couponWriter::addStrings);
+
+        DataOutputStream rawOut = new DataOutputStream(out);
+        CRC32 checksum = new CRC32();
+        DataOutputStream checkedOut = new DataOutputStream(new CheckedOutputStream(out, checksum));
+
+        checkedOut.writeInt(MAGIC_NUMBER);
+        checkedOut.writeShort(FORMAT_VERSION);
+        BinaryCouponWriter.writeVarLong(checkedOut, couponWriter.getStringCount());
+        BinaryCouponWriter.writeVarLong(checkedOut, coupons.size());
+        writeChecksum(rawOut, checksum);
+
+        couponWriter.writeStringTable(checkedOut);
+        for (Coupon coupon : coupons) {
+            couponWriter.writeCoupon(checkedOut, coupon);
+        }
+        writeChecksum(rawOut, checksum);
+        rawOut.flush();
+    }
+
+    /**
+     * Writes the checksum of everything written since the last checksum, without including it in the next one.
+     */
+    private static void writeChecksum(DataOutputStream rawOut, CRC32 checksum) throws IOException {
+        rawOut.writeInt((int) checksum.getValue());
+        checksum.reset();
+    }
+
+    /**
+     * Reads a checksum written by {@link #writeChecksum(DataOutputStream, CRC32)}
+     * and checks it against everything read since the last checksum.
+     */
+    private static void verifyChecksum(DataInputStream rawIn, CRC32 checksum, String part) throws IOException {
+        int expected = (int) checksum.getValue();
+        if (rawIn.readInt() != expected) {
+            throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, part));
+        }
+        checksum.reset();
+    }
+}
@@ -0,0 +1,170 @@
+package csdev.couponstash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.savings.Saveable;
+import csdev.couponstash.model.coupon.savings.Savings;
+import csdev.couponstash.model.coupon.savings.SavingsHistory;
+import csdev.couponstash.model.tag.Tag;
+
+/**
+ * Writes coupons in the binary format used by {@link BinaryCouponStashStorage}.
+ * Every string used by the coupons is written once into a string table, after
+ * which the coupons refer to it by its index in the table. Dates are written
+ * as epoch days and monetary amounts as a number of cents.
+ *
+ * <p>All numbers other than percentages are written as variable-length
+ * integers, which take up a single byte for values below 128.
+ */
+class BinaryCouponWriter {
+
+    static final int FLAG_ARCHIVED = 1;
+    static final int FLAG_HAS_MONETARY_AMOUNT = 1 << 1;
+    static final int FLAG_HAS_PERCENTAGE_AMOUNT = 1 << 2;
+
+    private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+
+    /**
+     * Adds every string used by {@code coupon} to the string table.
+     * This must be done for all coupons before the string table is written.
+     */
+    public void addStrings(Coupon coupon) {
+        requireNonNull(coupon);
+        addString(coupon.getName().fullName);
+        addString(coupon.getPromoCode().value);
+        addString(coupon.getCondition().value);
+        coupon.getSavingsForEachUse().getSaveables().ifPresent(this::addStrings);
+        for (Tag tag : coupon.getTags()) {
+            addString(tag.tagName);
+        }
+        SavingsHistory savingsHistory = coupon.getSavingsHistory();
+        for (int i = 0; i < savingsHistory.size(); i++) {
+            savingsHistory.getSaveables(i).ifPresent(this::addStrings);
+        }
+    }
+
+    public int getStringCount() {
+        return stringIndexes.size();
+    }
+
+    /**
+     * Writes every string added so far, each as its length
+     * in bytes followed by its UTF-8 encoding.
+     */
+    public void writeStringTable(DataOutput out) throws IOException {
+        for (String string : stringIndexes.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Writes {@code coupon}, whose strings must have been added to the string table.
+     */
+    public void writeCoupon(DataOutput out, Coupon coupon) throws IOException {
+        Savings savings = coupon.getSavingsForEachUse();
+        int flags = (coupon.isArchived() ? FLAG_ARCHIVED : 0)
+                | (savings.hasMonetaryAmount() ? FLAG_HAS_MONETARY_AMOUNT : 0)
+                | (savings.hasPercentageAmount() ? FLAG_HAS_PERCENTAGE_AMOUNT : 0);
+        out.writeByte(flags);
+
+        writeString(out, coupon.getName().fullName);
+        writeString(out, coupon.getPromoCode().value);
+        writeString(out, coupon.getCondition().value);
+
+        if (savings.hasMonetaryAmount()) {
+            writeVarLong(out, savings.getMonetaryAmount().get().getCents());
+        }
+        if (savings.hasPercentageAmount()) {
+            out.writeDouble(savings.getPercentageAmount().get().getValue());
+        }
+        writeSaveables(out, savings.getSaveables());
+
+        writeDate(out, coupon.getExpiryDate().getDate());
+        writeDate(out, coupon.getStartDate().getDate());
+        writeDate(out, coupon.getRemindDate().getDate());
+        writeVarLong(out, coupon.getUsage().value);
+        writeVarLong(out, coupon.getLimit().value);
+
+        writeVarLong(out, coupon.getTags().size());
+        for (Tag tag : coupon.getTags()) {
+            writeString(out, tag.tagName);
+        }
+
+        // sorted by date, so that each date can be written as the
+        // small number of days since the date before it
+        SavingsHistory savingsHistory = coupon.getSavingsHistory();
+        writeVarLong(out, savingsHistory.size());
+        long previousEpochDay = 0;
+        for (int i = 0; i < savingsHistory.size(); i++) {
+            long epochDay = savingsHistory.getEpochDay(i);
+            writeVarLong(out, epochDay - previousEpochDay);
+            previousEpochDay = epochDay;
+
+            writeVarLong(out, savingsHistory.getCents(i));
+            writeSaveables(out, savingsHistory.getSaveables(i));
+        }
+    }
+
+    /**
+     * Writes {@code value} in groups of 7 bits, starting from the lowest bits.
+     * The highest bit of each byte is set if more bytes follow.
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private void addString(String string) {
+        stringIndexes.putIfAbsent(string, stringIndexes.size());
+    }
+
+    private void addStrings(List<Saveable> saveables) {
+        for (Saveable saveable : saveables) {
+            addString(saveable.getValue());
+        }
+    }
+
+    private void writeString(DataOutput out, String string) throws IOException {
+        Integer index = stringIndexes.get(string);
+        if (index == null) {
+            throw new IllegalStateException("String was not added to the string table: " + string);
+        }
+        writeVarLong(out, index);
+    }
+
+    /**
+     * Writes the number of saveables plus one, so that a missing
+     * list of saveables can be told apart from an empty one.
+     */
+    private void writeSaveables(DataOutput out, Optional<List<Saveable>> saveables) throws IOException {
+        if (saveables.isEmpty()) {
+            writeVarLong(out, 0);
+            return;
+        }
+
+        writeVarLong(out, saveables.get().size() + 1L);
+        for (Saveable saveable : saveables.get()) {
+            writeString(out, saveable.getValue());
+            writeVarLong(out, saveable.getCount());
+        }
+    }
+
+    private static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        writeVarLong(out, date.toEpochDay());
+    }
+}
@@ -0,0 +1,52 @@
+package csdev.couponstash.storage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import csdev.couponstash.commons.exceptions.IllegalValueException;
+
+/**
+ * Signals that some of the coupons being loaded do not fulfill their constraints.
+ * Holds the error found in each invalid coupon, by the position of the coupon.
+ */
+public class InvalidCouponsException extends IllegalValueException {
+    public static final String MESSAGE_COUPON_ERROR = "Coupon %d: %s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %d more invalid coupon(s)";
+
+    // the message only lists the first few errors, so that it stays readable
+    private static final int MAX_ERRORS_IN_MESSAGE = 10;
+
+    private final SortedMap<Integer, String> errors;
+
+    /**
+     * @param errors the error found in each invalid coupon, by the position
+     *               of the coupon, counting from 1. Cannot be empty.
+     */
+    public InvalidCouponsException(SortedMap<Integer, String> errors) {
+        super(buildMessage(errors));
+        this.errors = Collections.unmodifiableSortedMap(new TreeMap<>(errors));
+    }
+
+    public SortedMap<Integer, String> getErrors() {
+        return errors;
+    }
+
+    private static String buildMessage(SortedMap<Integer, String> errors) {
+        StringBuilder sb = new StringBuilder();
+        int errorsInMessage = 0;
+        for (Map.Entry<Integer, String> error : errors.entrySet()) {
+            if (errorsInMessage == MAX_ERRORS_IN_MESSAGE) {
+                sb.append("\n").append(String.format(MESSAGE_MORE_ERRORS, errors.size() - errorsInMessage));
+                break;
+            }
+            if (errorsInMessage > 0) {
+                sb.append("\n");
+            }
+            sb.append(String.format(MESSAGE_COUPON_ERROR, error.getKey(), error.getValue()));
+            errorsInMessage++;
+        }
+        return sb.toString();
+    }
+}
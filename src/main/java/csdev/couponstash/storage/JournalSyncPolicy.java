@@ -0,0 +1,14 @@
+package csdev.couponstash.storage;
+
+/**
+ * Controls how often records appended to a journal are forced
+ * onto the disk, trading durability for speed.
+ */
+public enum JournalSyncPolicy {
+    /** Forces every batch of records onto the disk before the save returns. */
+    ALWAYS,
+    /** Forces records onto the disk at most once a second, when records are appended. */
+    EVERY_SECOND,
+    /** Leaves it to the operating system to decide when records reach the disk. */
+    NEVER
+}
@@ -0,0 +1,384 @@
+package csdev.couponstash.storage;
+
+import static csdev.couponstash.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import csdev.couponstash.commons.core.LogsCenter;
+import csdev.couponstash.commons.exceptions.DataConversionException;
+import csdev.couponstash.commons.exceptions.IllegalValueException;
+import csdev.couponstash.commons.util.FileUtil;
+import csdev.couponstash.commons.util.JsonUtil;
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+import csdev.couponstash.model.coupon.exceptions.DuplicateCouponException;
+import csdev.couponstash.model.history.CouponStashSnapshot;
+
+/**
+ * A class to access CouponStash data stored on the hard disk as a json
+ * file, together with a journal of the changes made since that file was
+ * last written.
+ *
+ * <p>Instead of rewriting every coupon on every save, only the coupons
+ * that were added, replaced or removed since the last save are appended
+ * to the journal, one compact json record per line. At startup, the
+ * journal is replayed on top of the json file. Once the journal grows
+ * long enough, it is compacted in the background by writing all coupons
+ * into a fresh json file. The json file keeps the same layout as the one
+ * written by {@link JsonCouponStashStorage}, with an extra field holding
+ * the sequence number of the last journal record it contains.
+ */
+public class JournaledCouponStashStorage implements CouponStashStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_INVALID_COMPACTION_THRESHOLD = "Compaction threshold should be positive!";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledCouponStashStorage.class);
+    private static final long SYNC_INTERVAL_MILLIS = 1000;
+    // Field of the json file holding the sequence number of the last journal record it contains
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path compactingJournalPath;
+    private final JournalSyncPolicy syncPolicy;
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+    private final Object lock = new Object();
+
+    // Coupons as of the last save or read, or null if they are not known yet
+    private CouponStashSnapshot lastSaved;
+    private long sequence;
+    private int journalLength;
+    private long lastSyncMillis;
+    private FileChannel journal;
+    private Future<?> compaction;
+
+    public JournaledCouponStashStorage(Path filePath) {
+        this(filePath, JournalSyncPolicy.ALWAYS, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new JournaledCouponStashStorage.
+     *
+     * @param filePath Location of the json file. The journal is kept next to it.
+     * @param syncPolicy How often the journal is forced onto the disk.
+     * @param compactionThreshold Number of records in the journal that triggers a compaction.
+     */
+    public JournaledCouponStashStorage(Path filePath, JournalSyncPolicy syncPolicy, int compactionThreshold) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        checkArgument(compactionThreshold > 0, MESSAGE_INVALID_COMPACTION_THRESHOLD);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactingJournalPath = filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_FILE_SUFFIX);
+        this.syncPolicy = syncPolicy;
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getCouponStashFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCouponStash> readCouponStash() throws DataConversionException {
+        return readCouponStash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCouponStash()}. Only the file managed by this
+     * storage has a journal; other files are read as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyCouponStash> readCouponStash(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonCouponStashStorage(filePath).readCouponStash(filePath);
+        }
+
+        synchronized (lock) {
+            awaitCompaction();
+            boolean hasJsonFile = Files.exists(filePath);
+            if (!hasJsonFile && !Files.exists(journalPath) && !Files.exists(compactingJournalPath)) {
+                logger.info("Json file " + filePath + " not found");
+                return Optional.empty();
+            }
+
+            CouponStash couponStash = new CouponStash();
+            try {
+                CouponStashSnapshot snapshot = CouponStashSnapshot.EMPTY;
+                AtomicLong journalSequence = new AtomicLong();
+                if (hasJsonFile) {
+                    snapshot = JsonSerializableCouponStash.readFrom(filePath, (fieldName, parser) -> {
+                        if (JOURNAL_SEQUENCE_FIELD.equals(fieldName)) {
+                            journalSequence.set(parser.getLongValue());
+                        }
+                    }).getSnapshot();
+                }
+                long checkpointSequence = journalSequence.get();
+                sequence = checkpointSequence;
+                snapshot = replay(compactingJournalPath, snapshot, checkpointSequence);
+                snapshot = replay(journalPath, snapshot, checkpointSequence);
+
+                couponStash.setCoupons(snapshot.toList());
+                lastSaved = couponStash.getSnapshot();
+            } catch (IOException ioe) {
+                logger.warning("Error reading from json file " + filePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            } catch (IllegalValueException | DuplicateCouponException e) {
+                logger.info("Illegal values found in " + filePath + " or its journal: " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+
+            if (Files.exists(compactingJournalPath)) {
+                // an earlier compaction did not finish, so finish it before the journal is rotated again
+                try {
+                    writeCheckpoint();
+                } catch (IOException ioe) {
+                    logger.warning("Failed to compact journal of " + filePath + ": " + ioe);
+                }
+            }
+
+            return Optional.of(couponStash);
+        }
+    }
+
+    @Override
+    public void saveCouponStash(ReadOnlyCouponStash couponStash) throws IOException {
+        saveCouponStash(couponStash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCouponStash(ReadOnlyCouponStash)}. Only the file managed
+     * by this storage has a journal; other files are written as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCouponStash(ReadOnlyCouponStash couponStash, Path filePath) throws IOException {
+        requireNonNull(couponStash);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonCouponStashStorage(filePath).saveCouponStash(couponStash, filePath);
+            return;
+        }
+
+        CouponStashSnapshot snapshot = couponStash.getSnapshot();
+
+        synchronized (lock) {
+            if (snapshot == lastSaved) {
+                return;
+            }
+
+            if (lastSaved == null || !Files.exists(filePath)) {
+                lastSaved = snapshot;
+                writeCheckpoint();
+                return;
+            }
+
+            int prefix = lastSaved.commonPrefixLength(snapshot);
+            int suffix = lastSaved.commonSuffixLength(snapshot, Math.min(lastSaved.size(), snapshot.size()) - prefix);
+            int removed = lastSaved.size() - prefix - suffix;
+            int inserted = snapshot.size() - prefix - suffix;
+            if (Math.max(removed, inserted) >= snapshot.size()) {
+                // the journal records would take up more space than the coupons themselves
+                lastSaved = snapshot;
+                writeCheckpoint();
+                return;
+            }
+
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+            for (int i = 0; i < Math.min(removed, inserted); i++) {
+                records.add(JsonAdaptedJournalRecord.set(++sequence, prefix + i, snapshot.get(prefix + i)));
+            }
+            for (int i = inserted; i < removed; i++) {
+                records.add(JsonAdaptedJournalRecord.remove(++sequence, prefix + inserted));
+            }
+            for (int i = removed; i < inserted; i++) {
+                records.add(JsonAdaptedJournalRecord.add(++sequence, prefix + i, snapshot.get(prefix + i)));
+            }
+            append(records);
+            lastSaved = snapshot;
+
+            if (journalLength >= compactionThreshold && (compaction == null || compaction.isDone())) {
+                startCompaction();
+            }
+        }
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() {
+        synchronized (lock) {
+            if (compaction == null) {
+                return;
+            }
+
+            try {
+                compaction.get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ee) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + ee.getCause());
+            }
+            compaction = null;
+        }
+    }
+
+    /**
+     * Applies the records in {@code journalFile} with a sequence number
+     * greater than {@code checkpointSequence} to {@code snapshot}. An
+     * unreadable last line is assumed to be a record that was only partly
+     * written before the application stopped, and is ignored.
+     */
+    private CouponStashSnapshot replay(Path journalFile, CouponStashSnapshot snapshot, long checkpointSequence)
+            throws DataConversionException, IllegalValueException {
+        if (!Files.exists(journalFile)) {
+            return snapshot;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in journal file " + journalFile);
+                    break;
+                }
+                throw new DataConversionException(ioe);
+            }
+
+            if (record.getSequence() > checkpointSequence) {
+                snapshot = record.applyTo(snapshot);
+                sequence = Math.max(sequence, record.getSequence());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Appends {@code records} to the journal, one record per line,
+     * and forces them onto the disk as required by the sync policy.
+     */
+    private void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        if (journal == null) {
+            journal = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        journalLength += records.size();
+
+        long now = System.currentTimeMillis();
+        if (syncPolicy == JournalSyncPolicy.ALWAYS
+                || (syncPolicy == JournalSyncPolicy.EVERY_SECOND && now - lastSyncMillis >= SYNC_INTERVAL_MILLIS)) {
+            journal.force(false);
+            lastSyncMillis = now;
+        }
+    }
+
+    /**
+     * Moves the journal aside and writes the last saved coupons into
+     * a fresh json file in the background. Records saved in the meantime
+     * go into a new journal, to be replayed on top of the fresh json file.
+     */
+    private void startCompaction() throws IOException {
+        if (Files.exists(compactingJournalPath)) {
+            // an earlier compaction failed, so the journal cannot be moved aside
+            writeCheckpoint();
+            return;
+        }
+
+        closeJournal();
+        Files.move(journalPath, compactingJournalPath);
+        journalLength = 0;
+
+        CouponStashSnapshot snapshot = lastSaved;
+        long checkpointSequence = sequence;
+        compaction = compactor.submit(() -> {
+            writeJsonFile(snapshot, checkpointSequence);
+            Files.deleteIfExists(compactingJournalPath);
+            logger.fine("Compacted journal of " + filePath + " up to record " + checkpointSequence);
+            return null;
+        });
+    }
+
+    /**
+     * Writes all of the last saved coupons into a fresh json file,
+     * and clears the journal.
+     */
+    private void writeCheckpoint() throws IOException {
+        awaitCompaction();
+        closeJournal();
+        writeJsonFile(lastSaved, sequence);
+        Files.deleteIfExists(journalPath);
+        Files.deleteIfExists(compactingJournalPath);
+        journalLength = 0;
+    }
+
+    /**
+     * Writes {@code snapshot} into the json file, replacing it atomically.
+     */
+    private void writeJsonFile(CouponStashSnapshot snapshot, long checkpointSequence) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonSerializableCouponStash.writeTo(filePath, snapshot.toList(), false,
+                generator -> generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, checkpointSequence));
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+}
@@ -88,7 +88,7 @@ class JsonAdaptedCoupon {
         startDate = source.getStartDate().value;
         usage = source.getUsage().toString();
         limit = source.getLimit().toString();
-        totalSaved = new JsonAdaptedDssm(source.getSavingsMap());
+        totalSaved = new JsonAdaptedDssm(source.getSavingsHistory());
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
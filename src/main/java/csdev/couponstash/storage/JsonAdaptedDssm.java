@@ -10,6 +10,7 @@ import csdev.couponstash.commons.exceptions.IllegalValueException;
 import csdev.couponstash.commons.util.DateUtil;
 import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
 import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.SavingsHistory;
 
 /**
  * Jackson-friendly version of {@link DateSavingsSumMap}.
@@ -26,8 +27,15 @@ public class JsonAdaptedDssm {
         }
     }
 
-    public JsonAdaptedDssm(DateSavingsSumMap dssm) {
-        dssm.forEach((ld, pms) -> mappings.add(new JsonAdaptedDateSavingsPair(ld, pms)));
+    /**
+     * Converts the savings earned on each date in {@code savingsHistory},
+     * reading them from the SavingsHistory without first copying them
+     * into a DateSavingsSumMap.
+     */
+    public JsonAdaptedDssm(SavingsHistory savingsHistory) {
+        for (int i = 0; i < savingsHistory.size(); i++) {
+            mappings.add(new JsonAdaptedDateSavingsPair(savingsHistory.getDate(i), savingsHistory.getSavings(i)));
+        }
     }
 
     /**
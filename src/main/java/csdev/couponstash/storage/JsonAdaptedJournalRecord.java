@@ -0,0 +1,98 @@
+package csdev.couponstash.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import csdev.couponstash.commons.exceptions.IllegalValueException;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.history.CouponStashSnapshot;
+
+/**
+ * Jackson-friendly version of a single change to the coupons,
+ * as recorded in the journal of a {@link JournaledCouponStashStorage}.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %d is invalid!";
+
+    /**
+     * The different kinds of changes that can be recorded.
+     */
+    enum Operation {
+        ADD, SET, REMOVE
+    }
+
+    private final long sequence;
+    private final Operation operation;
+    private final int index;
+    private final JsonAdaptedCoupon coupon;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+                                    @JsonProperty("operation") Operation operation,
+                                    @JsonProperty("index") int index,
+                                    @JsonProperty("coupon") JsonAdaptedCoupon coupon) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.index = index;
+        this.coupon = coupon;
+    }
+
+    /**
+     * Returns a record of {@code coupon} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(long sequence, int index, Coupon coupon) {
+        return new JsonAdaptedJournalRecord(sequence, Operation.ADD, index, new JsonAdaptedCoupon(coupon));
+    }
+
+    /**
+     * Returns a record of the coupon at {@code index} being replaced by {@code coupon}.
+     */
+    public static JsonAdaptedJournalRecord set(long sequence, int index, Coupon coupon) {
+        return new JsonAdaptedJournalRecord(sequence, Operation.SET, index, new JsonAdaptedCoupon(coupon));
+    }
+
+    /**
+     * Returns a record of the coupon at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(long sequence, int index) {
+        return new JsonAdaptedJournalRecord(sequence, Operation.REMOVE, index, null);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies the recorded change to {@code snapshot}.
+     *
+     * @return The snapshot with the change applied.
+     * @throws IllegalValueException if the record is incomplete, does not fit
+     *     {@code snapshot}, or contains a coupon that violates data constraints.
+     */
+    public CouponStashSnapshot applyTo(CouponStashSnapshot snapshot) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+
+        int size = snapshot.size();
+        boolean isValidIndex = index >= 0 && (operation == Operation.ADD ? index <= size : index < size);
+        if (!isValidIndex || (operation != Operation.REMOVE && coupon == null)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+
+        switch (operation) {
+        case ADD:
+            return snapshot.insert(index, coupon.toModelType());
+        case SET:
+            return snapshot.set(index, coupon.toModelType());
+        case REMOVE:
+            return snapshot.remove(index);
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+    }
+}
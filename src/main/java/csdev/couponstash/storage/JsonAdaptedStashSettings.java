@@ -13,16 +13,22 @@ import csdev.couponstash.commons.moneysymbol.MoneySymbol;
  */
 public class JsonAdaptedStashSettings {
     private final String moneySymbol;
+    private final Long historyMemoryBudget;
 
     /**
      * Constructs a JsonAdaptedStashSettings using the
      * properties from the JSON file.
      * @param ms String representing money symbol.
+     * @param historyMemoryBudget Memory budget of the undo
+     *                            history, in bytes. May be
+     *                            missing from the JSON file.
      */
     @JsonCreator
-    public JsonAdaptedStashSettings(@JsonProperty("moneySymbol") String ms) {
+    public JsonAdaptedStashSettings(@JsonProperty("moneySymbol") String ms,
+                                    @JsonProperty("historyMemoryBudget") Long historyMemoryBudget) {
 
         this.moneySymbol = ms;
+        this.historyMemoryBudget = historyMemoryBudget;
     }
 
     /**
@@ -35,6 +41,7 @@ public class JsonAdaptedStashSettings {
      */
     public JsonAdaptedStashSettings(StashSettings ss) {
         this.moneySymbol = ss.getMoneySymbol().getString();
+        this.historyMemoryBudget = ss.getHistoryMemoryBudget();
     }
 
     /**
@@ -47,6 +54,9 @@ public class JsonAdaptedStashSettings {
         // ensure that money symbol is set to the String
         MoneySymbol ms = MoneySymbol.getMoneySymbol(moneySymbol);
         ms.setString(moneySymbol);
-        return new StashSettings(ms);
+        // fall back to the default budget for older files, or invalid budgets
+        return this.historyMemoryBudget == null || this.historyMemoryBudget <= 0
+                ? new StashSettings(ms)
+                : new StashSettings(ms, this.historyMemoryBudget);
     }
 }
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import csdev.couponstash.commons.core.CouponStashFormat;
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.model.ReadOnlyUserPrefs;
 import csdev.couponstash.model.UserPrefs;
@@ -17,6 +18,7 @@ public class JsonAdaptedUserPrefs {
     private GuiSettings guiSettings;
     private JsonAdaptedStashSettings stashSettings;
     private Path couponStashFilePath;
+    private CouponStashFormat couponStashFormat;
 
     /**
      * Constructs a JsonAdaptedStashSettings using the
@@ -24,10 +26,12 @@ public class JsonAdaptedUserPrefs {
      */
     public JsonAdaptedUserPrefs(@JsonProperty("guiSettings") GuiSettings guiSettings,
                                 @JsonProperty("stashSettings") JsonAdaptedStashSettings stashSettings,
-                                @JsonProperty("couponStashFilePath") Path couponStashFilePath) {
+                                @JsonProperty("couponStashFilePath") Path couponStashFilePath,
+                                @JsonProperty("couponStashFormat") CouponStashFormat couponStashFormat) {
         this.guiSettings = guiSettings;
         this.stashSettings = stashSettings;
         this.couponStashFilePath = couponStashFilePath;
+        this.couponStashFormat = couponStashFormat;
     }
 
     /**
@@ -42,6 +46,7 @@ public class JsonAdaptedUserPrefs {
         this.guiSettings = up.getGuiSettings();
         this.stashSettings = new JsonAdaptedStashSettings(up.getStashSettings());
         this.couponStashFilePath = up.getCouponStashFilePath();
+        this.couponStashFormat = up.getCouponStashFormat();
     }
 
     /**
@@ -61,6 +66,9 @@ public class JsonAdaptedUserPrefs {
         if (this.couponStashFilePath != null) {
             newUserPrefs.setCouponStashFilePath(this.couponStashFilePath);
         }
+        if (this.couponStashFormat != null) {
+            newUserPrefs.setCouponStashFormat(this.couponStashFormat);
+        }
         return newUserPrefs;
     }
 }
@@ -3,6 +3,7 @@ package csdev.couponstash.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +12,34 @@ import csdev.couponstash.commons.core.LogsCenter;
 import csdev.couponstash.commons.exceptions.DataConversionException;
 import csdev.couponstash.commons.exceptions.IllegalValueException;
 import csdev.couponstash.commons.util.FileUtil;
-import csdev.couponstash.commons.util.JsonUtil;
 import csdev.couponstash.model.ReadOnlyCouponStash;
 
 /**
  * A class to access CouponStash data stored as a json file on the hard disk.
+ * The file is read and written one coupon at a time, so that the whole
+ * file never has to be held in memory as a string.
  */
 public class JsonCouponStashStorage implements CouponStashStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonCouponStashStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonCouponStashStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a new JsonCouponStashStorage.
+     *
+     * @param filePath Location of the json file.
+     * @param isPrettyPrinted Whether to break the json file into indented lines,
+     *                        which makes it easier to read but larger.
+     */
+    public JsonCouponStashStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getCouponStashFilePath() {
@@ -45,14 +60,16 @@ public class JsonCouponStashStorage implements CouponStashStorage {
     public Optional<ReadOnlyCouponStash> readCouponStash(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCouponStash> jsonCouponStash = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCouponStash.class);
-        if (!jsonCouponStash.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonCouponStash.get().toModelType());
+            return Optional.of(JsonSerializableCouponStash.readFrom(filePath, (fieldName, parser) -> { }));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +91,8 @@ public class JsonCouponStashStorage implements CouponStashStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCouponStash(couponStash), filePath);
+        JsonSerializableCouponStash.writeTo(filePath, couponStash.getSnapshot().toList(), isPrettyPrinted,
+                generator -> { });
     }
 
 }
@@ -1,5 +1,9 @@
 package csdev.couponstash.storage;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,8 +11,13 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import csdev.couponstash.commons.exceptions.IllegalValueException;
+import csdev.couponstash.commons.util.FileUtil;
+import csdev.couponstash.commons.util.JsonUtil;
 import csdev.couponstash.model.CouponStash;
 import csdev.couponstash.model.ReadOnlyCouponStash;
 import csdev.couponstash.model.coupon.Coupon;
@@ -20,6 +29,9 @@ import csdev.couponstash.model.coupon.Coupon;
 class JsonSerializableCouponStash {
 
     public static final String MESSAGE_DUPLICATE_COUPON = "Coupons list contains duplicate coupon(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Coupon Stash data should be a json object!";
+
+    private static final String COUPONS_FIELD = "coupons";
 
     private final List<JsonAdaptedCoupon> coupons = new ArrayList<>();
 
@@ -42,19 +54,104 @@ class JsonSerializableCouponStash {
 
     /**
      * Converts this CouponStash into the model's {@code CouponStash} object.
+     * The coupons are converted in parallel.
+     *
+     * @throws InvalidCouponsException if there were any data constraints violated,
+     *     with the errors found in every invalid coupon.
+     */
+    public CouponStash toModelType() throws InvalidCouponsException {
+        ParallelCouponLoader loader = new ParallelCouponLoader();
+        coupons.forEach(loader::add);
+        return loader.finish();
+    }
+
+    /**
+     * Reads a CouponStash from the json file at {@code filePath}, reading one
+     * coupon at a time instead of reading the whole file into memory first.
+     * Coupons are converted in parallel while the rest of the file is read.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    public CouponStash toModelType() throws IllegalValueException {
-        CouponStash couponStash = new CouponStash();
-        for (JsonAdaptedCoupon jsonAdaptedCoupon : coupons) {
-            Coupon coupon = jsonAdaptedCoupon.toModelType();
-            if (couponStash.hasCoupon(coupon)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_COUPON);
+     * @param otherFieldReader reads any field other than the coupons.
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if the file does not hold a json object.
+     * @throws InvalidCouponsException if there were any data constraints violated,
+     *     with the errors found in every invalid coupon.
+     */
+    public static CouponStash readFrom(Path filePath, OtherFieldReader otherFieldReader)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+            }
+
+            ParallelCouponLoader loader = new ParallelCouponLoader();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (COUPONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    readCoupons(parser, loader);
+                } else {
+                    otherFieldReader.read(fieldName, parser);
+                    parser.skipChildren();
+                }
+            }
+            return loader.finish();
+        }
+    }
+
+    /**
+     * Reads the coupons in the json array that {@code parser} is positioned at into {@code loader}.
+     */
+    private static void readCoupons(JsonParser parser, ParallelCouponLoader loader) throws IOException {
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new IOException("Unexpected end of coupons list");
             }
-            couponStash.addCoupon(coupon);
+            loader.add(parser.readValueAs(JsonAdaptedCoupon.class));
         }
-        return couponStash;
+    }
+
+    /**
+     * Writes {@code coupons} into the json file at {@code filePath}, converting one
+     * coupon at a time instead of building the whole file in memory first.
+     * The file is replaced atomically.
+     *
+     * @param isPrettyPrinted whether to break the json data into indented lines.
+     * @param otherFieldWriter writes any fields to be stored next to the coupons.
+     */
+    public static void writeTo(Path filePath, List<Coupon> coupons, boolean isPrettyPrinted,
+                               OtherFieldWriter otherFieldWriter) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(COUPONS_FIELD);
+                for (Coupon coupon : coupons) {
+                    generator.writeObject(new JsonAdaptedCoupon(coupon));
+                }
+                generator.writeEndArray();
+                otherFieldWriter.write(generator);
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Reads a field other than the coupons, while a CouponStash is read from json.
+     */
+    @FunctionalInterface
+    interface OtherFieldReader {
+        /**
+         * Reads the value of the field called {@code fieldName},
+         * which {@code parser} is positioned at.
+         */
+        void read(String fieldName, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Writes fields other than the coupons, while a CouponStash is written to json.
+     */
+    @FunctionalInterface
+    interface OtherFieldWriter {
+        void write(JsonGenerator generator) throws IOException;
     }
 
 }
@@ -0,0 +1,178 @@
+package csdev.couponstash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import csdev.couponstash.commons.exceptions.IllegalValueException;
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.CouponIdentity;
+
+/**
+ * Loads adapted coupons into a CouponStash, converting and validating
+ * them on the threads of a {@link ForkJoinPool}. Coupons are handed in
+ * batches to the pool as they are added, without waiting for the batch
+ * to be converted, so that the next coupons can be read while earlier
+ * ones are being converted. Converted batches are added in order.
+ *
+ * <p>Instead of stopping at the first invalid coupon, every coupon is
+ * checked, and all errors are reported together once loading finishes.
+ * Duplicates are found through a concurrent map from the identity of each
+ * coupon to the position of its first occurrence, so the position of every
+ * duplicate is the same no matter the order the threads ran in.
+ */
+class ParallelCouponLoader {
+
+    static final int BATCH_SIZE = 4096;
+    // coupons converted by a single task before it stops splitting itself up
+    private static final int COUPONS_PER_TASK = 256;
+
+    private final ForkJoinPool pool;
+    // the valid coupons converted so far, in the order they were added
+    private final List<Coupon> validCoupons = new ArrayList<>();
+    private final ConcurrentHashMap<CouponIdentity, Integer> firstPositions = new ConcurrentHashMap<>();
+    private final SortedMap<Integer, String> errors = new TreeMap<>();
+    // the batches handed to the pool whose coupons have not been added yet, oldest first
+    private final ArrayDeque<ConvertTask> pendingTasks = new ArrayDeque<>();
+    private List<JsonAdaptedCoupon> batch = new ArrayList<>();
+    private int couponsSubmitted = 0;
+
+    ParallelCouponLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelCouponLoader(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Adds {@code coupon} to be loaded after the coupons added before it.
+     */
+    public void add(JsonAdaptedCoupon coupon) {
+        requireNonNull(coupon);
+        batch.add(coupon);
+        if (batch.size() == BATCH_SIZE) {
+            loadBatch();
+        }
+    }
+
+    /**
+     * Waits for all added coupons to be loaded, and returns them as a CouponStash.
+     *
+     * @throws InvalidCouponsException if any of the coupons is invalid or a duplicate.
+     */
+    public CouponStash finish() throws InvalidCouponsException {
+        loadBatch();
+        while (!pendingTasks.isEmpty()) {
+            addConverted(pendingTasks.removeFirst());
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidCouponsException(errors);
+        }
+
+        // built once, rather than coupon by coupon, so that loading takes linear time
+        CouponStash couponStash = new CouponStash();
+        couponStash.setCoupons(validCoupons);
+        return couponStash;
+    }
+
+    /**
+     * Hands the current batch to the pool to be converted, without waiting for it,
+     * and adds the coupons of the batches that have already been converted.
+     */
+    private void loadBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        ConvertTask task = new ConvertTask(batch, couponsSubmitted, 0, batch.size());
+        pool.execute(task);
+        pendingTasks.addLast(task);
+        couponsSubmitted += batch.size();
+        batch = new ArrayList<>();
+
+        // coupons are added in order, so only the oldest batches can be added
+        while (!pendingTasks.isEmpty() && pendingTasks.getFirst().isDone()) {
+            addConverted(pendingTasks.removeFirst());
+        }
+    }
+
+    /**
+     * Waits for {@code task} to finish converting its batch, then collects the valid
+     * coupons in order. Every batch before it must have been added already.
+     */
+    private void addConverted(ConvertTask task) {
+        task.join();
+        for (int i = 0; i < task.coupons.size(); i++) {
+            // positions count from 1, to match how coupons are numbered to the user
+            int position = task.firstPosition + i;
+            if (task.errors[i] != null) {
+                errors.put(position, task.errors[i]);
+            } else if (firstPositions.get(task.identities[i]) != position) {
+                // later batches can only add larger positions, so the first position is already known
+                errors.put(position, JsonSerializableCouponStash.MESSAGE_DUPLICATE_COUPON);
+            } else if (errors.isEmpty()) {
+                // once any coupon is invalid, no CouponStash is built anyway
+                validCoupons.add(task.identities[i].getCoupon());
+            }
+        }
+    }
+
+    /**
+     * Converts a range of coupons in a batch, splitting the range up between
+     * further tasks until it is small enough. Results are written into arrays
+     * shared by all tasks of the same batch, at the index of each coupon.
+     */
+    private class ConvertTask extends RecursiveAction {
+        private final List<JsonAdaptedCoupon> coupons;
+        private final int firstPosition;
+        private final int from;
+        private final int to;
+        private final CouponIdentity[] identities;
+        private final String[] errors;
+
+        ConvertTask(List<JsonAdaptedCoupon> coupons, int couponsBefore, int from, int to) {
+            this(coupons, couponsBefore + 1, from, to,
+                    new CouponIdentity[coupons.size()], new String[coupons.size()]);
+        }
+
+        private ConvertTask(List<JsonAdaptedCoupon> coupons, int firstPosition, int from, int to,
+                            CouponIdentity[] identities, String[] errors) {
+            this.coupons = coupons;
+            this.firstPosition = firstPosition;
+            this.from = from;
+            this.to = to;
+            this.identities = identities;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > COUPONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConvertTask(coupons, firstPosition, from, middle, identities, errors),
+                        new ConvertTask(coupons, firstPosition, middle, to, identities, errors));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    Coupon coupon = coupons.get(i).toModelType();
+                    identities[i] = new CouponIdentity(coupon);
+                    firstPositions.merge(identities[i], firstPosition + i, Math::min);
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package csdev.couponstash.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import csdev.couponstash.commons.exceptions.DataConversionException;
 import csdev.couponstash.model.ReadOnlyCouponStash;
@@ -26,7 +27,36 @@ public interface Storage extends CouponStashStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyCouponStash> readCouponStash() throws DataConversionException, IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyCouponStash} to the storage, unless it is
+     * in the same state as when it was last saved successfully.
+     * @param couponStash cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
     @Override
     void saveCouponStash(ReadOnlyCouponStash couponStash) throws IOException;
 
+    /**
+     * Returns the number of times {@link #saveCouponStash(ReadOnlyCouponStash)}
+     * wrote the coupons to the storage.
+     */
+    long getSavesPerformed();
+
+    /**
+     * Returns the number of times {@link #saveCouponStash(ReadOnlyCouponStash)}
+     * was skipped, as the coupons had not changed since they were last saved.
+     */
+    long getSavesSkipped();
+
+    /**
+     * Sets the handler to be notified of saves that failed after
+     * {@link #saveCouponStash(ReadOnlyCouponStash)} had already returned.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Blocks until every save requested so far has been written.
+     */
+    void flush();
+
 }
@@ -3,6 +3,7 @@ package csdev.couponstash.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import csdev.couponstash.commons.core.LogsCenter;
@@ -20,6 +21,10 @@ public class StorageManager implements Storage {
     private CouponStashStorage couponStashStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Version of the CouponStash as of the last successful save
+    private long lastSavedVersion = -1;
+    private long savesPerformed = 0;
+    private long savesSkipped = 0;
 
     public StorageManager(CouponStashStorage couponStashStorage, UserPrefsStorage userPrefsStorage) {
         super();
@@ -65,7 +70,16 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveCouponStash(ReadOnlyCouponStash couponStash) throws IOException {
+        long version = couponStash.getVersion();
+        if (version == lastSavedVersion) {
+            logger.fine("Skipping write to data file, as there are no changes to save");
+            savesSkipped++;
+            return;
+        }
+
         saveCouponStash(couponStash, couponStashStorage.getCouponStashFilePath());
+        lastSavedVersion = version;
+        savesPerformed++;
     }
 
     @Override
@@ -74,4 +88,24 @@ public class StorageManager implements Storage {
         couponStashStorage.saveCouponStash(couponStash, filePath);
     }
 
+    @Override
+    public long getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    @Override
+    public long getSavesSkipped() {
+        return savesSkipped;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        // saves are written before saveCouponStash returns, so failures are always thrown instead
+    }
+
+    @Override
+    public void flush() {
+        // saves are written before saveCouponStash returns, so there is nothing left to write
+    }
+
 }
@@ -3,13 +3,17 @@ package csdev.couponstash.ui;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
 
 import csdev.couponstash.commons.core.LogsCenter;
 import csdev.couponstash.commons.exceptions.IllegalValueException;
 import csdev.couponstash.commons.util.DateUtil;
-import csdev.couponstash.logic.Logic;
+import csdev.couponstash.commons.util.LruCache;
+import csdev.couponstash.logic.ModelMirror;
 import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.element.CouponDateIndex;
 import csdev.couponstash.model.element.MonthView;
 import csdev.couponstash.model.element.ObservableMonthView;
 import javafx.beans.value.ChangeListener;
@@ -36,10 +40,16 @@ public class CalendarPane extends UiPart<Region> {
     private static final int NUMBER_OF_DAYS_IN_A_WEEK = 7;
     private static final String MAX_YEAR_MESSAGE = "You have reached the maximum calendar year.";
     private static final String MIN_YEAR_MESSAGE = "You have reached the minimum calendar year.";
+    // number of months of expiring coupons kept, so that going back to a recent month is fast
+    private static final int MONTH_CACHE_SIZE = 12;
     private ArrayList<DateCell> dateCells;
     private YearMonth currentYearMonth;
     private ObservableList<Coupon> coupons;
+    private CouponDateIndex expiryIndex;
     private ObservableMonthView monthView;
+    // coupons expiring on each date shown for a month, by the month shown
+    private final LruCache<YearMonth, List<List<Coupon>>> expiringCouponsCache = new LruCache<>(MONTH_CACHE_SIZE);
+    private int expiryIndexVersion;
 
     @FXML
     private Text calendarPaneHeader;
@@ -53,12 +63,14 @@ public class CalendarPane extends UiPart<Region> {
     /**
      * Creates a new CalendarPane.
      */
-    public CalendarPane(Logic logic) {
+    public CalendarPane(ModelMirror modelMirror) {
         super(FXML);
         currentYearMonth = YearMonth.now();
         dateCells = new ArrayList<>();
-        this.coupons = logic.getFilteredCouponList();
-        this.monthView = logic.getMonthView();
+        this.coupons = modelMirror.getFilteredCouponList();
+        this.expiryIndex = modelMirror.getFilteredExpiryIndex();
+        this.expiryIndexVersion = expiryIndex.getVersion();
+        this.monthView = modelMirror.getMonthView();
         coupons.addListener((ListChangeListener<? super Coupon>) change -> fillUpCalendar());
         monthView.addListener((ChangeListener<? super MonthView>) (observable, oldValue, newValue) ->
                 updateCalendarWithYearMonth(newValue.getYearMonth()));
@@ -94,13 +106,39 @@ public class CalendarPane extends UiPart<Region> {
         updateCalendarTitle();
 
         LocalDate date = getDateOfFirstMonday();
-        for (DateCell dateCell : dateCells) {
-            setDateCell(dateCell, date); // sets DateCell's date, text, coupons and circle
+        List<List<Coupon>> expiringCoupons = getExpiringCoupons();
+        for (int i = 0; i < dateCells.size(); i++) {
+            DateCell dateCell = dateCells.get(i);
+            // sets DateCell's date, text, coupons and circle
+            setDateCell(dateCell, date, expiringCoupons.get(i));
             dateCell.addChildren();
             date = date.plusDays(1);
         }
     }
 
+    /**
+     * Returns the coupons expiring on each date shown for the current month, in the same order
+     * as the {@code DateCell}s. Recently shown months are cached until the coupons change.
+     *
+     * @return A {@code List} of the coupons expiring on each date shown.
+     */
+    private List<List<Coupon>> getExpiringCoupons() {
+        if (expiryIndex.getVersion() != expiryIndexVersion) {
+            // the coupons have changed since the months were cached
+            expiringCouponsCache.clear();
+            expiryIndexVersion = expiryIndex.getVersion();
+        }
+        return expiringCouponsCache.computeIfAbsent(currentYearMonth, yearMonth -> {
+            LocalDate dateOfFirstMonday = getDateOfFirstMonday();
+            List<List<Coupon>> expiringCoupons = new ArrayList<>(
+                    Collections.nCopies(dateCells.size(), Collections.<Coupon>emptyList()));
+            expiryIndex.forEachBetween(dateOfFirstMonday, dateOfFirstMonday.plusDays(dateCells.size() - 1),
+                    (date, couponsOnDate) -> expiringCoupons.set(
+                            (int) (date.toEpochDay() - dateOfFirstMonday.toEpochDay()), List.copyOf(couponsOnDate)));
+            return expiringCoupons;
+        });
+    }
+
     /**
      * Updates the calendar's title to the current month and year.
      */
@@ -125,15 +163,16 @@ public class CalendarPane extends UiPart<Region> {
     /**
      * Sets the display date of the specified {@code DateCell} to the specified {@code LocalDate}.
      *
-     * @param dateCell The specified {@code DateCell}.
-     * @param date     The specified {@code LocalDate}.
+     * @param dateCell        The specified {@code DateCell}.
+     * @param date            The specified {@code LocalDate}.
+     * @param expiringCoupons The coupons expiring on the specified {@code LocalDate}.
      */
-    private void setDateCell(DateCell dateCell, LocalDate date) {
+    private void setDateCell(DateCell dateCell, LocalDate date, List<Coupon> expiringCoupons) {
         StackPane dateStackPane = dateCell.getCalendarDateStackPane();
         dateStackPane.getChildren().clear();
 
         setDateCellDate(dateCell, date); //set DateCell's date
-        addExpiringCoupons(dateCell); //add coupons expiring on the date
+        addExpiringCoupons(dateCell, expiringCoupons); //add coupons expiring on the date
         setDateCellText(dateCell, date);
         setDateCellCircle(dateCell, date); //set DateCell's circle's color
     }
@@ -149,19 +188,15 @@ public class CalendarPane extends UiPart<Region> {
     }
 
     /**
-     * Adds all coupons expiring on the specified {@code LocalDate} to the list in the specified {@code DateCell}.
+     * Adds all coupons expiring on the date of the specified {@code DateCell} to the list in the
+     * specified {@code DateCell}.
      *
-     * @param dateCell The specified {@DateCell}.
+     * @param dateCell        The specified {@DateCell}.
+     * @param expiringCoupons The coupons expiring on the date of the specified {@DateCell}.
      */
-    private void addExpiringCoupons(DateCell dateCell) {
+    private void addExpiringCoupons(DateCell dateCell, List<Coupon> expiringCoupons) {
         dateCell.clearCoupons();
-        LocalDate date = dateCell.getDate();
-        for (Coupon coupon : coupons) {
-            LocalDate couponExpiryDate = coupon.getExpiryDate().getDate();
-            if (date.isEqual(couponExpiryDate)) {
-                dateCell.addCoupon(coupon);
-            }
-        }
+        expiringCoupons.forEach(dateCell::addCoupon);
     }
 
     /**
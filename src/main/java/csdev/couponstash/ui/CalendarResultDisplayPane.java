@@ -2,7 +2,7 @@ package csdev.couponstash.ui;
 
 import static java.util.Objects.requireNonNull;
 
-import csdev.couponstash.logic.Logic;
+import csdev.couponstash.logic.ModelMirror;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.layout.Region;
@@ -17,7 +17,7 @@ public class CalendarResultDisplayPane extends UiPart<Region> {
     // Independent Ui parts residing in this Ui container
     private CalendarPane calendarPane;
     private ResultDisplay resultDisplay;
-    private Logic logic;
+    private ModelMirror modelMirror;
 
     @FXML
     private StackPane calendarPanePlaceholder;
@@ -25,16 +25,16 @@ public class CalendarResultDisplayPane extends UiPart<Region> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
-    public CalendarResultDisplayPane(Logic logic) {
+    public CalendarResultDisplayPane(ModelMirror modelMirror) {
         super(FXML);
-        this.logic = logic;
+        this.modelMirror = modelMirror;
     }
 
     /**
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        calendarPane = new CalendarPane(logic);
+        calendarPane = new CalendarPane(modelMirror);
         calendarPanePlaceholder.getChildren().add(calendarPane.getRoot());
         calendarPanePlaceholder.setAlignment(Pos.TOP_RIGHT);
 
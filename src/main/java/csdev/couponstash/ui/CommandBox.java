@@ -1,13 +1,14 @@
 package csdev.couponstash.ui;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import csdev.couponstash.commons.core.LogsCenter;
-import csdev.couponstash.logic.Logic;
+import csdev.couponstash.logic.CommandPipeline;
+import csdev.couponstash.logic.ModelMirror;
 import csdev.couponstash.logic.commands.CommandResult;
-import csdev.couponstash.logic.commands.exceptions.CommandException;
-import csdev.couponstash.logic.parser.exceptions.ParseException;
 import csdev.couponstash.model.history.CommandTextHistory;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -20,20 +21,29 @@ import javafx.scene.layout.Region;
  */
 public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String BUSY_PROMPT_TEXT = "Running command... type the next one here";
 
     private static final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionSupplier completionSupplier;
+    private final String defaultPromptText;
     private CommandTextHistory commandTextHistory;
+    // the completions shown by the last TAB, and which one of them is shown
+    private List<String> completions = new ArrayList<>();
+    private int completionIndex = -1;
 
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionSupplier completionSupplier) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionSupplier = completionSupplier;
         commandTextHistory = new CommandTextHistory();
+        defaultPromptText = commandTextField.getPromptText();
 
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
@@ -59,30 +69,105 @@ public class CommandBox extends UiPart<Region> {
                                 retrievedCommand
                         )
                 );
+            } else if (event.getCode() == KeyCode.TAB && !event.isControlDown()) {
+                // completes the command instead of moving the focus away from the command box,
+                // leaving CTRL+TAB to cycle through the tabs
+                event.consume();
+                handleTabPressed();
             }
         });
     }
 
+    /**
+     * Handles the TAB key pressed event, by completing the command text as far as all of its
+     * completions agree, or by going to the next completion if they do not agree any further.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        if (completionIndex < 0 || !commandText.equals(completions.get(completionIndex))) {
+            completions = completionSupplier.getCompletions(commandText);
+            completionIndex = -1;
+            if (completions.isEmpty()) {
+                return;
+            }
+            String commonPrefix = getCommonPrefix(completions);
+            if (commonPrefix.length() > commandText.length()) {
+                setCommandText(commonPrefix);
+                return;
+            }
+        }
+        completionIndex = (completionIndex + 1) % completions.size();
+        setCommandText(completions.get(completionIndex));
+    }
+
+    /**
+     * Returns the longest prefix shared by all of {@code texts}, which must not be empty.
+     */
+    private static String getCommonPrefix(List<String> texts) {
+        String commonPrefix = texts.get(0);
+        for (String text : texts) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < text.length()
+                    && commonPrefix.charAt(length) == text.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        return commonPrefix;
+    }
+
+    private void setCommandText(String commandText) {
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandTextHistory.add(commandTextField.getText()); // Add commandText to history
-
-            logger.info(
-                    String.format(
-                            "Command text \"%s\" added to command text history!",
-                            commandTextField.getText()
-                    )
-            );
-
-            commandExecutor.execute(commandTextField.getText());
-            commandTextField.setText("");
-        } catch (CommandException | ParseException | IOException e) {
-            setStyleToIndicateCommandFailure();
+        String commandText = commandTextField.getText();
+        commandTextHistory.add(commandText); // Add commandText to history
+
+        logger.info(
+                String.format(
+                        "Command text \"%s\" added to command text history!",
+                        commandText
+                )
+        );
+
+        // cleared straight away, so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailed(commandText);
+            }
+        });
+    }
+
+    /**
+     * Shows that the command failed, by putting {@code commandText} back in the
+     * command box to be corrected, unless another command has been typed since.
+     */
+    private void handleCommandFailed(String commandText) {
+        if (commandTextField.getText().isEmpty()) {
+            commandTextField.setText(commandText);
+            commandTextField.positionCaret(commandText.length());
+        }
+        setStyleToIndicateCommandFailure();
+    }
+
+    /**
+     * Shows whether any commands entered are still running. The user can keep
+     * typing, and entering another command runs it after the ones before it.
+     */
+    public void setBusy(boolean isBusy) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        styleClass.remove(BUSY_STYLE_CLASS);
+        if (isBusy) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
+        commandTextField.setPromptText(isBusy ? BUSY_PROMPT_TEXT : defaultPromptText);
     }
 
     /**
@@ -111,11 +196,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed, and returns the result, which
+         * is completed exceptionally if the command fails.
+         *
+         * @see CommandPipeline#submit(String, CsTab)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CompletionSupplier {
+        /**
+         * Returns the ways to complete the command text.
          *
-         * @see Logic#execute(String)
+         * @see ModelMirror#getCompletions(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException, IOException;
+        List<String> getCompletions(String commandText);
     }
 
 }
@@ -1,11 +1,16 @@
 package csdev.couponstash.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import csdev.couponstash.model.coupon.Coupon;
 import csdev.couponstash.model.tag.Tag;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -14,12 +19,18 @@ import javafx.scene.layout.VBox;
 
 /**
  * An UI component that displays information of a {@code Coupon}.
+ * A CouponCard can be shown for another {@code Coupon} with
+ * {@link #setCoupon(Coupon, int, String)}, which reuses its
+ * controls instead of loading them again.
  */
 public class CouponCard extends UiPart<Region> {
 
     private static final String FXML = "CouponCard.fxml";
 
-    public final Coupon coupon;
+    private final SavingsBox savingsBox = new SavingsBox();
+    private Coupon coupon;
+    private int displayedIndex;
+    private String moneySymbol;
 
     @FXML
     private HBox cardPane;
@@ -63,8 +74,42 @@ public class CouponCard extends UiPart<Region> {
      *                       (saved in UserPrefs).
      */
     public CouponCard(Coupon coupon, int displayedIndex, String moneySymbol) {
+        this();
+        setCoupon(coupon, displayedIndex, moneySymbol);
+    }
+
+    /**
+     * Constructor for a new CouponCard that does not show
+     * any Coupon yet, to be given one with
+     * {@link #setCoupon(Coupon, int, String)}.
+     */
+    public CouponCard() {
         super(FXML);
+        savings.getChildren().add(savingsBox.getRoot());
+    }
+
+    /**
+     * Shows a Coupon in this CouponCard, in place of the
+     * Coupon shown before. Nothing is changed if the same
+     * Coupon is already shown in the same way, as Coupons
+     * are immutable.
+     *
+     * @param coupon         The Coupon to be shown in
+     *                       this CouponCard.
+     * @param displayedIndex The index of this Coupon
+     *                       in the displayed list.
+     * @param moneySymbol    String representing the money
+     *                       symbol to be used for savings
+     *                       (saved in UserPrefs).
+     */
+    public void setCoupon(Coupon coupon, int displayedIndex, String moneySymbol) {
+        if (coupon == this.coupon && displayedIndex == this.displayedIndex
+                && moneySymbol.equals(this.moneySymbol)) {
+            return;
+        }
         this.coupon = coupon;
+        this.displayedIndex = displayedIndex;
+        this.moneySymbol = moneySymbol;
         setId(id, displayedIndex);
         setId(idDup, displayedIndex); // duplicate is needed for UI purposes
         name.setText(coupon.getName().fullName);
@@ -78,18 +123,21 @@ public class CouponCard extends UiPart<Region> {
         remindDate.setText("Remind Date: " + coupon.getRemindDate().toString());
         condition.setText("T&C: " + coupon.getCondition().value);
         // set savings pane
-        SavingsBox savingsBox = new SavingsBox();
         savingsBox.setSavings(coupon.getSavingsForEachUse(), moneySymbol);
-        savings.getChildren().add(savingsBox.getRoot());
         archived.setVisible(coupon.getArchived().state);
     }
 
+    public Coupon getCoupon() {
+        return coupon;
+    }
+
     /**
      * A maximum of 5 tags will be displayed, while the total length
      * of all on screen tags will be at most 44 characters.
      * These numbers are chosen to achieve the best fit for the UI.
      * An 'and more...' tag will be created and displayed when either
-     * of the two aforementioned numbers are exceeded.
+     * of the two aforementioned numbers are exceeded. The labels
+     * already in the FlowPane are reused for the new tags.
      */
     public void setTags(Coupon coupon, FlowPane tagFlowPane) {
         Set<Tag> couponTags = coupon.getTags();
@@ -102,12 +150,13 @@ public class CouponCard extends UiPart<Region> {
 
         int maxTotalLength = 44;
         boolean isSkipped = false;
+        List<String> tagTexts = new ArrayList<>();
 
         for (Object tag : tagsArr) {
             Tag currentTag = ((Tag) tag);
             int currentTagNameLength = currentTag.tagName.length();
             if (currentTagNameLength < maxTotalLength) {
-                tagFlowPane.getChildren().add(new Label(currentTag.tagName));
+                tagTexts.add(currentTag.tagName);
                 maxTotalLength -= currentTagNameLength;
             } else {
                 isSkipped = true;
@@ -119,7 +168,19 @@ public class CouponCard extends UiPart<Region> {
         boolean isNumberOfTagsAboveLimit = initialNumberOfTags > maxTags;
 
         if (isSkipped || isNumberOfTagsAboveLimit) {
-            tagFlowPane.getChildren().add(new Label("and more..."));
+            tagTexts.add("and more...");
+        }
+
+        ObservableList<Node> tagLabels = tagFlowPane.getChildren();
+        for (int i = 0; i < tagTexts.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagTexts.get(i));
+            } else {
+                tagLabels.add(new Label(tagTexts.get(i)));
+            }
+        }
+        if (tagLabels.size() > tagTexts.size()) {
+            tagLabels.remove(tagTexts.size(), tagLabels.size());
         }
     }
 
@@ -142,6 +203,6 @@ public class CouponCard extends UiPart<Region> {
         // state check
         CouponCard card = (CouponCard) other;
         return id.getText().equals(card.id.getText())
-                && coupon.equals(card.coupon);
+                && Objects.equals(coupon, card.coupon);
     }
 }
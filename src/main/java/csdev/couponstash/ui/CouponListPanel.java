@@ -1,8 +1,8 @@
 package csdev.couponstash.ui;
 
-import csdev.couponstash.commons.moneysymbol.MoneySymbol;
 import csdev.couponstash.model.coupon.Coupon;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -24,26 +24,31 @@ public class CouponListPanel extends UiPart<Region> {
      * @param couponList  The ObservableList of Coupons to be shown.
      * @param moneySymbol The money symbol for the Savings of the Coupons.
      */
-    public CouponListPanel(ObservableList<Coupon> couponList, MoneySymbol moneySymbol) {
+    public CouponListPanel(ObservableList<Coupon> couponList, ObservableValue<String> moneySymbol) {
         super(FXML);
         couponListView.setItems(couponList);
         couponListView.setCellFactory(listView -> new CouponListViewCell(moneySymbol));
+        // shows the Coupons again with the new money symbol
+        moneySymbol.addListener((observable, oldSymbol, newSymbol) -> couponListView.refresh());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Coupon} using a {@code CouponCard}.
+     * Each cell loads its {@code CouponCard} once, and shows whichever {@code Coupon} the cell is given
+     * in the same card, so that scrolling the list does not load any more cards.
      */
     class CouponListViewCell extends ListCell<Coupon> {
-        private final MoneySymbol moneySymbol;
+        private final ObservableValue<String> moneySymbol;
+        private final CouponCard couponCard = new CouponCard();
 
         /**
          * Constructor for a new CouponListViewCell.
          *
-         * @param moneySymbol The MoneySymbol representing the
+         * @param moneySymbol The ObservableValue representing the
          *                    money symbol to be displayed
          *                    on the Coupon's Savings.
          */
-        public CouponListViewCell(MoneySymbol moneySymbol) {
+        public CouponListViewCell(ObservableValue<String> moneySymbol) {
             this.moneySymbol = moneySymbol;
         }
 
@@ -55,7 +60,8 @@ public class CouponListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CouponCard(coupon, getIndex() + 1, this.moneySymbol.getString()).getRoot());
+                couponCard.setCoupon(coupon, getIndex() + 1, this.moneySymbol.getValue());
+                setGraphic(couponCard.getRoot());
             }
         }
     }
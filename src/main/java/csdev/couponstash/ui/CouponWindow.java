@@ -2,19 +2,14 @@ package csdev.couponstash.ui;
 
 import static csdev.couponstash.commons.util.DateUtil.DAY_SHORT_MONTH_YEAR_FORMATTER;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 
 import csdev.couponstash.commons.core.LogsCenter;
 import csdev.couponstash.commons.util.DateUtil;
 import csdev.couponstash.model.coupon.Coupon;
-import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
-import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
 import csdev.couponstash.model.coupon.savings.Saveable;
 import csdev.couponstash.model.coupon.savings.Savings;
+import csdev.couponstash.model.coupon.savings.SavingsHistory;
 
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -101,7 +96,7 @@ public class CouponWindow extends UiPart<Stage> {
         // set savings pane
         setSavings(coupon.getSavingsForEachUse(), moneySymbol);
         // set history
-        setHistory(coupon.getSavingsMap(), moneySymbol);
+        setHistory(coupon.getSavingsHistory(), moneySymbol);
 
         root.setTitle("Coupon Details of : " + name.getText());
         logger.info("CouponWindow created for " + name.getText() + ".");
@@ -161,29 +156,25 @@ public class CouponWindow extends UiPart<Stage> {
     /**
      * Sets the usage history in the CouponWindow.
      *
-     * @param dssm The DateSavingsSumMap representing
-     *             associations of date to savings
-     *             earned on that date.
+     * @param savingsHistory The SavingsHistory representing
+     *                       the savings earned on each date.
      * @param moneySymbol Money symbol for the display.
      */
-    public void setHistory(DateSavingsSumMap dssm, String moneySymbol) {
-        List<Map.Entry<LocalDate, PureMonetarySavings>> sortedEntries =
-                new ArrayList<Map.Entry<LocalDate, PureMonetarySavings>>(dssm.entrySet());
-        // sort by dates (descending, from present to past)
-        sortedEntries.sort((e1, e2) -> e2.getKey().compareTo(e1.getKey()));
-        sortedEntries.forEach(entry -> {
-            Label dateLabel = new Label(entry.getKey().format(DateUtil.DATE_FORMATTER));
+    public void setHistory(SavingsHistory savingsHistory, String moneySymbol) {
+        // dates are sorted in ascending order, so go backwards (from present to past)
+        for (int i = savingsHistory.size() - 1; i >= 0; i--) {
+            Label dateLabel = new Label(savingsHistory.getDate(i).format(DateUtil.DATE_FORMATTER));
             dateLabel.getStyleClass().add(CouponWindow.EXPANDED_COUPON_DETAILS_TITLE);
 
             Text savingsLabel = new Text();
             savingsLabel.setFont(Font.font("Arial", FontWeight.BOLD, FontPosture.ITALIC, 16));
-            savingsLabel.setText(entry.getValue().getStringWithMoneySymbol(moneySymbol) + "\n");
+            savingsLabel.setText(savingsHistory.getSavings(i).getStringWithMoneySymbol(moneySymbol) + "\n");
             savingsLabel.setWrappingWidth(190);
             savingsLabel.setFill(Color.WHITE);
 
             this.historyPane.getChildren().add(dateLabel);
             this.historyPane.getChildren().add(savingsLabel);
-        });
+        }
     }
 
     /**
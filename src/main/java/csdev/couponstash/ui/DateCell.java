@@ -6,7 +6,6 @@ import java.util.ArrayList;
 import csdev.couponstash.model.coupon.Coupon;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Circle;
@@ -14,26 +13,44 @@ import javafx.scene.text.Text;
 
 /**
  * An UI component that displays information of a calendar date in the calendar.
+ * As the calendar is made up of many of these, its scene graph is built in code
+ * instead of loaded from a FXML file.
  */
 public class DateCell extends UiPart<Region> {
-    private static final String FXML = "DateCell.fxml";
-
+    private static final double MIN_WIDTH = 40.0;
+    private static final double PREF_WIDTH = 40.0;
+    private static final double MAX_WIDTH = 60.0;
+    private static final double MIN_HEIGHT = 40.0;
+    private static final double PREF_HEIGHT = 30.0;
+    private static final double MAX_HEIGHT = 40.0;
+
+    private final StackPane dateStackPane;
     private LocalDate date;
     private ObservableList<Coupon> coupons;
     private Text displayText;
     private Circle displayCircle;
 
-    @FXML
-    private StackPane dateStackPane;
-
     /**
      * Constructs a calendar date cell.
      */
     public DateCell() {
-        super(FXML);
+        super(createDateStackPane());
+        dateStackPane = (StackPane) getRoot();
         coupons = FXCollections.observableList(new ArrayList<>());
     }
 
+    /**
+     * Returns a new {@code StackPane} to mount a {@code DateCell}.
+     */
+    private static StackPane createDateStackPane() {
+        StackPane dateStackPane = new StackPane();
+        dateStackPane.setId("dateStackPane");
+        dateStackPane.setMinSize(MIN_WIDTH, MIN_HEIGHT);
+        dateStackPane.setPrefSize(PREF_WIDTH, PREF_HEIGHT);
+        dateStackPane.setMaxSize(MAX_WIDTH, MAX_HEIGHT);
+        return dateStackPane;
+    }
+
     /**
      * Returns the {@code StackPane} that is used to mount this {@code DateCell}.
      *
@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 import csdev.couponstash.commons.core.LogsCenter;
 import csdev.couponstash.logic.commands.AddCommand;
 import csdev.couponstash.logic.commands.ArchiveCommand;
+import csdev.couponstash.logic.commands.BatchCommand;
 import csdev.couponstash.logic.commands.ClearCommand;
 import csdev.couponstash.logic.commands.CopyCommand;
 import csdev.couponstash.logic.commands.DeleteCommand;
@@ -43,6 +44,7 @@ public class HelpPane extends UiPart<Region> {
             FXCollections.observableList(Arrays.asList(
                     new CommandCard(AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE),
                     new CommandCard(ArchiveCommand.COMMAND_WORD, ArchiveCommand.MESSAGE_USAGE),
+                    new CommandCard(BatchCommand.COMMAND_WORD, BatchCommand.MESSAGE_USAGE),
                     new CommandCard(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE),
                     new CommandCard(CopyCommand.COMMAND_WORD, CopyCommand.MESSAGE_USAGE),
                     new CommandCard(DeleteCommand.COMMAND_WORD, DeleteCommand.MESSAGE_USAGE),
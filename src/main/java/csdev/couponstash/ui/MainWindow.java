@@ -7,6 +7,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
@@ -14,13 +16,14 @@ import javax.imageio.ImageIO;
 
 import csdev.couponstash.commons.core.GuiSettings;
 import csdev.couponstash.commons.core.LogsCenter;
+import csdev.couponstash.logic.CommandPipeline;
 import csdev.couponstash.logic.Logic;
+import csdev.couponstash.logic.ModelMirror;
 import csdev.couponstash.logic.commands.CommandResult;
 import csdev.couponstash.logic.commands.HelpCommand;
 import csdev.couponstash.logic.commands.ShareCommand;
-import csdev.couponstash.logic.commands.exceptions.CommandException;
-import csdev.couponstash.logic.parser.exceptions.ParseException;
 import csdev.couponstash.model.coupon.Coupon;
+import javafx.application.Platform;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -49,6 +52,8 @@ public class MainWindow extends UiPart<Stage> {
     private TabsPanel tabPanel;
     private CouponWindow expandedCouponWindow;
     private CommandBox commandBox;
+    private CommandPipeline commandPipeline;
+    private ModelMirror modelMirror;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -81,16 +86,24 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        tabPanel = new TabsPanel(logic);
+        commandPipeline = new CommandPipeline(logic, Platform::runLater);
+        modelMirror = commandPipeline.getModelMirror();
+
+        tabPanel = new TabsPanel(modelMirror);
         tabPanePlaceholder.getChildren().add(tabPanel.getRoot());
         tabPanel.fillInnerParts();
 
-        commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, modelMirror::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+        commandPipeline.setBusyHandler(commandBox::setBusy);
 
-        calendarResultPane = new CalendarResultDisplayPane(logic);
+        calendarResultPane = new CalendarResultDisplayPane(modelMirror);
         calendarResultPlaceholder.getChildren().add(calendarResultPane.getRoot());
         calendarResultPane.fillInnerParts();
+
+        // saves may fail on the storage thread after the command has returned
+        logic.setSaveErrorHandler(message ->
+                Platform.runLater(() -> calendarResultPane.setFeedbackToUser(message)));
     }
 
     /**
@@ -114,6 +127,8 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        // the model is saved on exit, so no command may still be changing it
+        commandPipeline.shutdown();
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
@@ -121,52 +136,63 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed after any commands entered before it,
+     * and returns the result, after it has been shown.
      *
-     * @see Logic#execute(String, CsTab)
+     * @see CommandPipeline#submit(String, CsTab)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException, IOException {
-
-        try {
-            CsTab currentSelectedTab = tabPanel.selectedTab();
-            CommandResult commandResult = logic.execute(commandText, currentSelectedTab);
-
-            // commands that can be executed will automatically switch tab to Coupons if it is not the current tab
-            if (!currentSelectedTab.equals(CsTab.COUPONS)) {
-                tabPanel.selectTab(CsTab.COUPONS);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandPipeline.submit(commandText, tabPanel.selectedTab()).thenApply(commandResult -> {
+            try {
+                handleCommandResult(commandResult);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+            return commandResult;
+        }).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("Invalid command: " + commandText);
+                calendarResultPane.setFeedbackToUser(cause.getMessage());
             }
+        });
+    }
 
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            calendarResultPane.setFeedbackToUser(commandResult.getFeedbackToUser());
+    /**
+     * Shows the result of a command that has been executed.
+     *
+     * @throws IOException If the command involves sharing a coupon, and the coupon could not be saved.
+     */
+    private void handleCommandResult(CommandResult commandResult) throws IOException {
+        // commands that can be executed will automatically switch tab to Coupons if it is not the current tab
+        if (!tabPanel.selectedTab().equals(CsTab.COUPONS)) {
+            tabPanel.selectTab(CsTab.COUPONS);
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        calendarResultPane.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            // command involves expanding a coupon
-            if (commandResult.getCouponToExpand().isPresent()) {
-                handleExpand(commandResult.getCouponToExpand().get());
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            // command involves sharing a coupon
-            if (commandResult.getCouponToShare().isPresent()) {
-                String filePath = handleShare(commandResult.getCouponToShare().get());
-                calendarResultPane.setFeedbackToUser(
-                        String.format(ShareCommand.MESSAGE_SHARE_COUPON_SUCCESS, filePath)
-                );
-            }
+        // command involves expanding a coupon
+        if (commandResult.getCouponToExpand().isPresent()) {
+            handleExpand(commandResult.getCouponToExpand().get());
+        }
 
-            // Command involves opening help page
-            if (commandResult.isHelp()) {
-                handleHelp();
-                calendarResultPane.setFeedbackToUser(HelpCommand.BROWSER_OPEN_SUCCESS);
-            }
+        // command involves sharing a coupon
+        if (commandResult.getCouponToShare().isPresent()) {
+            String filePath = handleShare(commandResult.getCouponToShare().get());
+            calendarResultPane.setFeedbackToUser(
+                    String.format(ShareCommand.MESSAGE_SHARE_COUPON_SUCCESS, filePath)
+            );
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException | IOException e) {
-            logger.info("Invalid command: " + commandText);
-            calendarResultPane.setFeedbackToUser(e.getMessage());
-            throw e;
+        // Command involves opening help page
+        if (commandResult.isHelp()) {
+            handleHelp();
+            calendarResultPane.setFeedbackToUser(HelpCommand.BROWSER_OPEN_SUCCESS);
         }
     }
 
@@ -181,7 +207,7 @@ public class MainWindow extends UiPart<Stage> {
         }
         expandedCouponWindow = new CouponWindow(
                 couponToExpand,
-                logic.getStashSettings().getMoneySymbol().toString()
+                modelMirror.getMoneySymbol().getValue()
         );
         expandedCouponWindow.show();
     }
@@ -197,7 +223,7 @@ public class MainWindow extends UiPart<Stage> {
         Region couponRegion = new CouponCard(
                 couponToShare,
                 1,
-                logic.getStashSettings().getMoneySymbol().toString()
+                modelMirror.getMoneySymbol().getValue()
         ).getRoot();
 
         // Need to create a scene for the Region so CSS would work.
@@ -237,7 +263,7 @@ public class MainWindow extends UiPart<Stage> {
      * Get URI of help.html. If help.html is not extracted from jar file yet,
      * extract it.
      * @return URI of help.html
-     * @throws CommandException
+     * @throws IOException When help.html cannot be extracted
      */
     private static URI getHelpHtmlPath() throws IOException {
         try {
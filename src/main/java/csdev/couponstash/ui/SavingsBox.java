@@ -45,12 +45,17 @@ public class SavingsBox extends UiPart<Region> {
     }
 
     /**
-     * Sets the Savings to be displayed in this SavingsBox.
+     * Sets the Savings to be displayed in this SavingsBox,
+     * in place of any Savings displayed before.
      *
      * @param s The Savings to be displayed.
      * @param moneySymbol Money symbol for the display.
      */
     public void setSavings(Savings s, String moneySymbol) {
+        // clear the Savings displayed before
+        saveables.getChildren().clear();
+        saveables.setStyle("");
+        numericalAmount.setTranslateY(0);
 
         // logic for adding labels to the savings box for saveables
         Consumer<List<Saveable>> labelAdderForSaveablesList = saveablesList -> {
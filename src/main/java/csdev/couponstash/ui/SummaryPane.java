@@ -1,21 +1,21 @@
 package csdev.couponstash.ui;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import csdev.couponstash.commons.core.LogsCenter;
-import csdev.couponstash.commons.moneysymbol.MoneySymbol;
 import csdev.couponstash.commons.util.DateUtil;
-import csdev.couponstash.model.coupon.Coupon;
-import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
+import csdev.couponstash.model.coupon.savings.Cents;
 import csdev.couponstash.model.coupon.savings.MonetaryAmount;
 import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.element.SavingsSummary;
 
-import javafx.collections.FXCollections;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Group;
@@ -52,8 +52,8 @@ public class SummaryPane extends UiPart<Region> {
     private static final int BAR_CHART_WEEKS_LIMIT = 10;
 
     // Independent Ui parts residing in this Ui container
-    private ObservableList<Coupon> allCoupons;
-    private MoneySymbol moneySymbol;
+    private SavingsSummary savingsSummary;
+    private ObservableValue<String> moneySymbol;
 
     // Individual FXML components
     @FXML
@@ -76,6 +76,13 @@ public class SummaryPane extends UiPart<Region> {
     // JavaFX location where bar graph labels are put
     private ObservableList<Node> barGraphLabels = null;
 
+    // Bars currently shown in the bar graph, by the Monday of each week
+    private final XYChart.Series<String, Number> savingsPerWeek = new XYChart.Series<String, Number>();
+    private final TreeMap<LocalDate, XYChart.Data<String, Number>> shownWeeks = new TreeMap<>();
+
+    // Saveables currently shown in the summary tab
+    private Map<String, Integer> shownSaveableCounts = Map.of();
+
     // Total amount to show in the summary tab
     private MonetaryAmount shownMonetaryAmount = new MonetaryAmount(0, 0);
 
@@ -83,49 +90,44 @@ public class SummaryPane extends UiPart<Region> {
      * Constructor for a new SummaryPane. This is the
      * tab that holds the savings summary graph.
      *
-     * @param allCoupons The ObservableList of all the Coupons
-     *                   in Coupon Stash, whether hidden or shown.
+     * @param savingsSummary The SavingsSummary of all the Coupons
+     *                       in Coupon Stash, whether hidden or shown.
      * @param moneySymbol The money symbol as set in user preferences.
      */
-    public SummaryPane(ObservableList<Coupon> allCoupons, MoneySymbol moneySymbol) {
+    public SummaryPane(SavingsSummary savingsSummary, ObservableValue<String> moneySymbol) {
         super(FXML);
         logger.info("Loading summary pane...");
-        this.allCoupons = allCoupons;
+        this.savingsSummary = savingsSummary;
         this.moneySymbol = moneySymbol;
         savedText.setText(SummaryPane.SAVED_TOTAL_PRE_MESSAGE);
         saveablesText.setText(SummaryPane.SAVEABLES_PRE_MESSAGE);
+        this.savingsChart.getData().add(this.savingsPerWeek);
         this.updateView();
+        // the summary is the same object after every change, so it is invalidated instead
+        savingsSummary.addListener((Observable observable) -> this.updateView());
+        moneySymbol.addListener((observable, oldSymbol, newSymbol) -> this.updateTotalAmount());
     }
 
     /**
      * Updates the SummaryPane based on changes in total savings
-     * of the Coupons. This method is called whenever the active
-     * tab is switched to the summary tab.
+     * of the Coupons. This method is called whenever the savings
+     * summary changes, and whenever the active tab is switched to
+     * the summary tab. Only the bars and labels that have changed
+     * since the last update are changed in the view.
      */
     public void updateView() {
-        // ensure that existing items are cleared from the view
-        this.allSaveables.getChildren().clear();
-        this.savingsChart.getData().clear();
-        // clear the bar graph labels when view is updated
-        if (this.barGraphLabels != null) {
-            // assumes no other Text present besides graph labels!
-            this.barGraphLabels.removeIf(element -> element instanceof Text);
-        }
-
         // set the graph
-        DateSavingsSumMap mapOfAllCoupons = getMapOfAllCoupons();
-        XYChart.Series<String, Number> savingsPerWeek = this.getSeries(mapOfAllCoupons);
-        this.savingsChart.getData().add(savingsPerWeek);
-
-        // sum up the total savings
-        PureMonetarySavings totalSavings = mapOfAllCoupons.values().stream()
-                .reduce(new PureMonetarySavings(),
-                        PureMonetarySavings::add);
+        this.updateSeries(this.savingsSummary.getCentsByWeek());
 
         // set saveables
-        this.addToSaveables(totalSavings);
+        PureMonetarySavings totalSavings = this.savingsSummary.getTotal();
+        if (!this.shownSaveableCounts.equals(this.savingsSummary.getSaveableCounts())) {
+            this.shownSaveableCounts = Map.copyOf(this.savingsSummary.getSaveableCounts());
+            this.allSaveables.getChildren().clear();
+            this.addToSaveables(totalSavings);
+        }
 
-        // set the total amount
+        // set the total amount, which also picks up changes to the money symbol
         this.shownMonetaryAmount = totalSavings.getMonetaryAmount().orElseThrow();
         this.updateTotalAmount();
     }
@@ -155,69 +157,58 @@ public class SummaryPane extends UiPart<Region> {
     }
 
     /**
-     * Gets a hash table that maps a date to the savings
-     * earned on that date, across all Coupons.
-     *
-     * @return DateSavingsSumMap that maps dates to savings
-     *         on that particular date (from every Coupon).
-     */
-    private DateSavingsSumMap getMapOfAllCoupons() {
-        DateSavingsSumMap map = new DateSavingsSumMap();
-        this.allCoupons.stream()
-                .map(Coupon::getSavingsMap)
-                .forEach(map::addAll);
-        return map;
-    }
-
-    /**
-     * Gets a chart series for use in the bar graph. The map
-     * given will be automatically sorted and entries grouped
-     * by week instead of by day.
+     * Updates the chart series in the bar graph to show the
+     * savings of each week up to the latest week with savings.
+     * Weeks without savings in between are shown as well.
+     * Bars for weeks that are no longer shown are removed,
+     * and bars that are already shown are only changed if
+     * the savings in that week have changed.
      *
-     * @param mapOfAllCoupons The DateSavingsSumMap representing
-     *                        savings earned on each date from
-     *                        using every Coupon in Coupon Stash.
-     * @return XYChart Series with the data in the map provided.
+     * @param centsByWeek The savings earned from using every
+     *                    Coupon in Coupon Stash, in cents,
+     *                    by the Monday of each week.
      */
-    private XYChart.Series<String, Number> getSeries(DateSavingsSumMap mapOfAllCoupons) {
-        XYChart.Series<String, Number> series = new XYChart.Series<String, Number>();
-        List<XYChart.Data<String, Number>> listOfData = new ArrayList<XYChart.Data<String, Number>>();
-        List<Map.Entry<LocalDate, PureMonetarySavings>> entryList = mapOfAllCoupons.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .collect(Collectors.toList());
-        DateSavingsSumMap mapByWeek = new DateSavingsSumMap();
-        int numberOfDates = entryList.size();
+    private void updateSeries(NavigableMap<LocalDate, Long> centsByWeek) {
+        LocalDate firstShownWeek = null;
+        LocalDate latestWeek = null;
         // ensure more than zero dates present
-        if (numberOfDates > 0) {
-            LocalDate earliestDate = entryList.get(0).getKey();
-            LocalDate latestDate = entryList.get(numberOfDates - 1).getKey();
-
-            LocalDate earliestWeek = SummaryPane.getPreviousMonday(earliestDate);
-            LocalDate latestWeek = SummaryPane.getPreviousMonday(latestDate);
-            int count = 0;
-
-            for (LocalDate ld = latestWeek;
-                 !ld.isBefore(earliestWeek) && count < SummaryPane.BAR_CHART_WEEKS_LIMIT;
-                 ld = ld.minusWeeks(1)) {
-                // initialise all weeks with 0 savings
-                mapByWeek.add(ld, new PureMonetarySavings());
-                count++;
+        if (!centsByWeek.isEmpty()) {
+            LocalDate earliestWeek = centsByWeek.firstKey();
+            latestWeek = centsByWeek.lastKey();
+            firstShownWeek = latestWeek.minusWeeks(SummaryPane.BAR_CHART_WEEKS_LIMIT - 1);
+            if (firstShownWeek.isBefore(earliestWeek)) {
+                firstShownWeek = earliestWeek;
             }
+        }
 
-            // populate the week map with savings
-            for (Map.Entry<LocalDate, PureMonetarySavings> e : entryList) {
-                LocalDate mondayOfWeek = SummaryPane.getPreviousMonday(e.getKey());
-                if (mapByWeek.containsKey(mondayOfWeek)) {
-                    mapByWeek.add(mondayOfWeek, e.getValue());
-                }
+        // remove the weeks that are no longer shown
+        Iterator<Map.Entry<LocalDate, XYChart.Data<String, Number>>> iterator = this.shownWeeks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDate, XYChart.Data<String, Number>> shownWeek = iterator.next();
+            LocalDate ld = shownWeek.getKey();
+            if (firstShownWeek == null || ld.isBefore(firstShownWeek) || ld.isAfter(latestWeek)) {
+                this.removeWeek(shownWeek.getValue());
+                iterator.remove();
             }
+        }
+        if (firstShownWeek == null) {
+            return;
+        }
 
-            mapByWeek.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .forEach(entry -> this.addMapEntryToList(entry.getKey(), entry.getValue(), listOfData));
-            series.setData(FXCollections.observableList(listOfData));
+        // add the newly shown weeks, and update the weeks already shown
+        for (LocalDate ld = firstShownWeek; !ld.isAfter(latestWeek); ld = ld.plusWeeks(1)) {
+            long cents = centsByWeek.getOrDefault(ld, 0L);
+            XYChart.Data<String, Number> data = this.shownWeeks.get(ld);
+            if (data == null) {
+                data = this.createWeekData(ld, cents);
+                // keep the bars in order of the weeks
+                this.savingsPerWeek.getData().add(this.shownWeeks.headMap(ld).size(), data);
+                this.shownWeeks.put(ld, data);
+            } else if (data.getYValue().doubleValue() != Cents.toDouble(cents)) {
+                data.setYValue(Cents.toDouble(cents));
+                ((Text) data.getExtraValue()).setText(Cents.format(cents));
+            }
         }
-        return series;
     }
 
     /**
@@ -227,7 +218,7 @@ public class SummaryPane extends UiPart<Region> {
      */
     private void updateTotalAmount() {
         String savingsNumber = this.shownMonetaryAmount
-                .getStringWithMoneySymbol(this.moneySymbol.getString());
+                .getStringWithMoneySymbol(this.moneySymbol.getValue());
         this.numericalAmount.setText(savingsNumber);
         // dynamically adjust font size of the number
         this.numericalAmount.setStyle("-fx-font-size: "
@@ -236,35 +227,43 @@ public class SummaryPane extends UiPart<Region> {
     }
 
     /**
-     * Converts an entry from a DateSavingsSumMap to a
-     * data entry in the form of XYChart Data, and adds
-     * this to the given List of XYChart Data.
+     * Converts the savings of a week to a data entry
+     * in the form of XYChart Data. The Text label of
+     * the data entry is kept as its extra value.
      *
-     * @param ld LocalDate representing date that the
-     *           savings was earned.
-     * @param pms PureMonetarySavings representing the
-     *            amount of savings earned.
-     * @param dataList The List of XYChart Data to be
-     *                 populated with data.
+     * @param ld LocalDate representing the Monday of
+     *           the week that the savings was earned.
+     * @param cents The amount of money saved in the
+     *              week, in cents.
+     * @return XYChart Data for the savings of the week.
      */
-    private void addMapEntryToList(
-            LocalDate ld,
-            PureMonetarySavings pms,
-            List<XYChart.Data<String, Number>> dataList) {
-
+    private XYChart.Data<String, Number> createWeekData(LocalDate ld, long cents) {
         XYChart.Data<String, Number> data = new XYChart.Data<String, Number>(
                 DateUtil.formatDateToString(ld),
-                pms.getMonetaryAmountAsDouble()
+                Cents.toDouble(cents)
         );
-        dataList.add(data);
-        Text dataLabel = new Text(SummaryPane.formatMoneyAmount(pms.getMonetaryAmountAsDouble()));
+        Text dataLabel = new Text(Cents.format(cents));
         dataLabel.setStyle(SummaryPane.BAR_CHART_LABEL_STYLE);
+        data.setExtraValue(dataLabel);
         data.nodeProperty().addListener((obv, oldNode, newNode) -> {
             if (newNode != null) {
                 addListenersForLabel(newNode, dataLabel);
             }
         });
+        return data;
+    }
 
+    /**
+     * Removes a data entry made by {@link #createWeekData}
+     * from the bar graph, together with its Text label.
+     *
+     * @param data The XYChart Data of the week to remove.
+     */
+    private void removeWeek(XYChart.Data<String, Number> data) {
+        this.savingsPerWeek.getData().remove(data);
+        if (this.barGraphLabels != null) {
+            this.barGraphLabels.remove(data.getExtraValue());
+        }
     }
 
     /**
@@ -295,51 +294,4 @@ public class SummaryPane extends UiPart<Region> {
             dataLabel.setLayoutY((newBounds.getMinY() - 1));
         });
     }
-
-    /**
-     * Formats a numerical amount to look like a
-     * monetary amount (2 decimal places).
-     *
-     * @param amount The Number to be formatted.
-     * @return String representing the amount, but
-     *         formatted to 2 decimal places.
-     */
-    private static String formatMoneyAmount(Number amount) {
-        return String.format("%.2f", amount.doubleValue());
-    }
-
-    /**
-     * Given a LocalDate, returns another LocalDate that
-     * represents the Monday which immediately precedes
-     * the given LocalDate. If the LocalDate is already
-     * a Monday, return the same LocalDate.
-     *
-     * @param ld The LocalDate to be used.
-     * @return Returns a LocalDate for the previous Monday.
-     */
-    private static LocalDate getPreviousMonday(LocalDate ld) {
-        switch (ld.getDayOfWeek()) {
-
-        case SUNDAY:
-            return ld.minusDays(6);
-
-        case SATURDAY:
-            return ld.minusDays(5);
-
-        case FRIDAY:
-            return ld.minusDays(4);
-
-        case THURSDAY:
-            return ld.minusDays(3);
-
-        case WEDNESDAY:
-            return ld.minusDays(2);
-
-        case TUESDAY:
-            return ld.minusDays(1);
-
-        default:
-            return ld;
-        }
-    }
 }
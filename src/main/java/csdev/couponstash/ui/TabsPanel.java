@@ -3,8 +3,7 @@ package csdev.couponstash.ui;
 import java.util.logging.Logger;
 
 import csdev.couponstash.commons.core.LogsCenter;
-import csdev.couponstash.commons.moneysymbol.MoneySymbol;
-import csdev.couponstash.logic.Logic;
+import csdev.couponstash.logic.ModelMirror;
 import javafx.fxml.FXML;
 import javafx.scene.control.SingleSelectionModel;
 import javafx.scene.control.Tab;
@@ -23,7 +22,7 @@ public class TabsPanel extends UiPart<Region> {
     private CouponListPanel couponListPanel;
     private SummaryPane summaryPane;
     private HelpPane helpPane;
-    private Logic logic;
+    private ModelMirror modelMirror;
 
     @FXML
     private Tab couponTab;
@@ -49,9 +48,9 @@ public class TabsPanel extends UiPart<Region> {
     @FXML
     private TabPane tabPane;
 
-    public TabsPanel(Logic logic) {
+    public TabsPanel(ModelMirror modelMirror) {
         super(FXML);
-        this.logic = logic;
+        this.modelMirror = modelMirror;
         tabPane.getSelectionModel().selectedItemProperty()
                 .addListener((ov, oldTab, newTab) -> {
                     logger.info("Switching to " + newTab.getText() + " tab!");
@@ -65,13 +64,11 @@ public class TabsPanel extends UiPart<Region> {
      * Fills up all the placeholders of this window.
      */
     public void fillInnerParts() {
-        MoneySymbol currentMoneySymbol = logic.getStashSettings().getMoneySymbol();
-
         couponListPanel = new CouponListPanel(
-                logic.getFilteredCouponList(), currentMoneySymbol);
+                modelMirror.getFilteredCouponList(), modelMirror.getMoneySymbol());
         couponListPanelPlaceholder.getChildren().add(couponListPanel.getRoot());
 
-        summaryPane = new SummaryPane(logic.getAllCouponList(), currentMoneySymbol);
+        summaryPane = new SummaryPane(modelMirror.getSavingsSummary(), modelMirror.getMoneySymbol());
         savedPanePlaceholder.getChildren().add(summaryPane.getRoot());
 
         helpPane = new HelpPane();
@@ -42,9 +42,11 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            long startTime = System.nanoTime();
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            logger.info(String.format("Main window filled in %d ms", (System.nanoTime() - startTime) / 1_000_000));
 
             remindWindow = new RemindWindow(coupons);
             remindWindow.showIfAny();
@@ -12,13 +12,16 @@ import javafx.fxml.FXMLLoader;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ *
+ * <p>Parts made very often can build their scene graph in code instead, with
+ * {@link #UiPart(Object)}, which skips loading a FXML file altogether.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -52,11 +55,19 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart with the specified root object, whose scene graph is
+     * built in code instead of loaded from a FXML file.
+     */
+    protected UiPart(T root) {
+        this.root = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
     }
 
     /**
@@ -66,6 +77,7 @@ public abstract class UiPart<T> {
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
@@ -74,6 +86,7 @@ public abstract class UiPart<T> {
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        this.root = fxmlLoader.getRoot();
     }
 
     /**
@@ -0,0 +1,148 @@
+package csdev.couponstash;
+
+import static csdev.couponstash.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import csdev.couponstash.logic.LogicManager;
+import csdev.couponstash.logic.commands.ClearCommand;
+import csdev.couponstash.logic.commands.ExitCommand;
+import csdev.couponstash.logic.commands.ListCommand;
+import csdev.couponstash.model.Model;
+import csdev.couponstash.model.ModelManager;
+import csdev.couponstash.model.UserPrefs;
+import csdev.couponstash.storage.JsonCouponStashStorage;
+import csdev.couponstash.storage.JsonUserPrefsStorage;
+import csdev.couponstash.storage.StorageManager;
+import csdev.couponstash.testutil.TypicalCoupons;
+
+public class HeadlessAppTest {
+    private static final String LIST_MESSAGE = String.format(ListCommand.MESSAGE_SUCCESS, "active");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(TypicalCoupons.getTypicalCouponStash(), new UserPrefs());
+    private ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        app = new HeadlessApp(new LogicManager(model, newStorage()),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validCommands_feedbackWritten() throws Exception {
+        assertEquals(0, run(ListCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD));
+        assertEquals(lines(LIST_MESSAGE, ClearCommand.MESSAGE_SUCCESS), out.toString(StandardCharsets.UTF_8));
+        assertEquals(0, model.getCouponStash().getCouponList().size());
+    }
+
+    @Test
+    public void run_blankLinesAndComments_skipped() throws Exception {
+        assertEquals(0, run("", "# clears the stash", "   ", ListCommand.COMMAND_WORD));
+        assertEquals(lines(LIST_MESSAGE), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_invalidCommand_laterCommandsRun() throws Exception {
+        assertEquals(1, run("uicfhmowqewca", ListCommand.COMMAND_WORD));
+        assertEquals(lines(LIST_MESSAGE), out.toString(StandardCharsets.UTF_8));
+        assertEquals(lines("uicfhmowqewca: " + MESSAGE_UNKNOWN_COMMAND), err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_commandsNeedingWindow_fail() throws Exception {
+        assertEquals(4, run("copy 1", "expand 1", "share 1", "help"));
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+        assertEquals(lines("copy 1: " + HeadlessApp.MESSAGE_NEEDS_WINDOW,
+                "expand 1: " + HeadlessApp.MESSAGE_NEEDS_WINDOW,
+                "share 1: " + HeadlessApp.MESSAGE_NEEDS_WINDOW,
+                "help: " + HeadlessApp.MESSAGE_NEEDS_WINDOW), err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_unexpectedException_laterCommandsRun() throws Exception {
+        model = new ModelManager(TypicalCoupons.getTypicalCouponStash(), new UserPrefs()) {
+            @Override
+            public void updateMonthView(String monthView) {
+                throw new IllegalStateException("month view unavailable");
+            }
+        };
+        setUp();
+        assertEquals(1, run(ListCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD));
+        assertEquals(lines(ClearCommand.MESSAGE_SUCCESS), out.toString(StandardCharsets.UTF_8));
+        assertEquals(lines("list: java.lang.IllegalStateException: month view unavailable"),
+                err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readModel_missingDataFile_noModel() {
+        assertTrue(HeadlessApp.readModel(newStorage(), new UserPrefs(), new PrintStream(err, true,
+                StandardCharsets.UTF_8)).isEmpty());
+        assertEquals(lines(String.format(HeadlessApp.MESSAGE_DATA_FILE_NOT_FOUND,
+                temporaryFolder.resolve("couponStash.json"))), err.toString(StandardCharsets.UTF_8));
+        assertFalse(Files.exists(temporaryFolder.resolve("couponStash.json")));
+    }
+
+    @Test
+    public void readModel_invalidDataFile_noModel() throws Exception {
+        Path couponStashFilePath = temporaryFolder.resolve("couponStash.json");
+        Files.writeString(couponStashFilePath, "not json");
+        assertTrue(HeadlessApp.readModel(newStorage(), new UserPrefs(), new PrintStream(err, true,
+                StandardCharsets.UTF_8)).isEmpty());
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith(
+                String.format(HeadlessApp.MESSAGE_DATA_FILE_NOT_READ, couponStashFilePath, "")));
+        assertEquals("not json", Files.readString(couponStashFilePath));
+    }
+
+    @Test
+    public void readModel_validDataFile_modelWithData() throws Exception {
+        StorageManager storage = newStorage();
+        storage.saveCouponStash(TypicalCoupons.getTypicalCouponStash());
+        Optional<Model> readModel = HeadlessApp.readModel(storage, new UserPrefs(), new PrintStream(err, true,
+                StandardCharsets.UTF_8));
+        // expired coupons are archived when the model is made, so only the number of coupons is the same
+        assertEquals(TypicalCoupons.getTypicalCouponStash().getCouponList().size(),
+                readModel.get().getCouponStash().getCouponList().size());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsSkipped() throws Exception {
+        assertEquals(0, run(ExitCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD));
+        assertEquals(0, run(ClearCommand.COMMAND_WORD));
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString(StandardCharsets.UTF_8));
+        assertFalse(model.getCouponStash().getCouponList().isEmpty());
+    }
+
+    private StorageManager newStorage() {
+        JsonCouponStashStorage couponStashStorage =
+                new JsonCouponStashStorage(temporaryFolder.resolve("couponStash.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(couponStashStorage, userPrefsStorage);
+    }
+
+    private int run(String... commands) throws Exception {
+        return app.run(new BufferedReader(new StringReader(String.join("\n", commands))));
+    }
+
+    private static String lines(String... lines) {
+        return String.join(System.lineSeparator(), lines) + System.lineSeparator();
+    }
+}
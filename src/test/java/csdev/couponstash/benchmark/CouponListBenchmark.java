@@ -0,0 +1,121 @@
+package csdev.couponstash.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.sun.management.ThreadMXBean;
+
+import csdev.couponstash.commons.core.StashSettings;
+import csdev.couponstash.commons.moneysymbol.MoneySymbol;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.testutil.CouponBuilder;
+import csdev.couponstash.ui.CouponCard;
+import csdev.couponstash.ui.CouponListPanel;
+
+import javafx.application.Platform;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+/**
+ * Measures how long it takes, and how much memory is allocated, to show each
+ * page of a long list of coupons while scrolling through it, with the cells of
+ * CouponListPanel, which reuse their CouponCards, and with cells that make a
+ * new CouponCard every time they are given a coupon. A page should take well
+ * under a frame (about 16 ms) to keep scrolling smooth. Not run as part of the
+ * tests; run it with {@code gradlew benchmark -Pbenchmark=CouponListBenchmark}.
+ */
+public class CouponListBenchmark {
+
+    private static final int COUPON_COUNT = 100_000;
+    // about the number of coupons shown at once in the coupon list
+    private static final int PAGE_SIZE = 5;
+    private static final int WARMUP_PAGES = 500;
+    private static final int MEASURED_PAGES = 2_000;
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+
+    /**
+     * Runs every benchmark, printing the time taken and memory allocated for each page.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < COUPON_COUNT; i++) {
+            coupons.add(new CouponBuilder().withName("Coupon " + i).withTags("food", "tag" + (i % 50)).build());
+        }
+        ObservableList<Coupon> couponList = FXCollections.observableList(coupons);
+        MoneySymbol moneySymbol = MoneySymbol.getMoneySymbol(StashSettings.DEFAULT_MONEY_SYMBOL);
+
+        CountDownLatch finished = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            run("reused CouponCards", new CouponListPanel(couponList,
+                    new SimpleStringProperty(moneySymbol.getString())).getRoot());
+            run("new CouponCard per update", createListWithNewCards(couponList, moneySymbol));
+            finished.countDown();
+        });
+        finished.await();
+        Platform.exit();
+    }
+
+    /**
+     * Returns a list of coupons that makes a new CouponCard every time a cell is given a coupon.
+     */
+    private static ListView<Coupon> createListWithNewCards(ObservableList<Coupon> coupons, MoneySymbol moneySymbol) {
+        ListView<Coupon> listView = new ListView<>(coupons);
+        listView.setCellFactory(view -> new ListCell<>() {
+            @Override
+            protected void updateItem(Coupon coupon, boolean empty) {
+                super.updateItem(coupon, empty);
+                if (empty || coupon == null) {
+                    setGraphic(null);
+                } else {
+                    setGraphic(new CouponCard(coupon, getIndex() + 1, moneySymbol.getString()).getRoot());
+                }
+            }
+        });
+        return listView;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(String name, Parent root) {
+        new Scene(root, WIDTH, HEIGHT);
+        root.applyCss();
+        root.layout();
+        ListView<Coupon> listView = (ListView<Coupon>) root.lookup(".list-view");
+
+        int page = 0;
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            showPage(root, listView, page++);
+        }
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long slowestNanos = 0;
+        for (int i = 0; i < MEASURED_PAGES; i++) {
+            long pageStart = System.nanoTime();
+            showPage(root, listView, page++);
+            slowestNanos = Math.max(slowestNanos, System.nanoTime() - pageStart);
+        }
+        double millisPerPage = (System.nanoTime() - start) / 1e6 / MEASURED_PAGES;
+        double kilobytesPerPage = (threads.getThreadAllocatedBytes(threadId) - startBytes) / 1024.0 / MEASURED_PAGES;
+        System.out.printf("%-30s %8.3f ms/page (slowest %.3f ms) %10.1f KB allocated/page%n",
+                name, millisPerPage, slowestNanos / 1e6, kilobytesPerPage);
+    }
+
+    private static void showPage(Parent root, ListView<Coupon> listView, int page) {
+        listView.scrollTo((page * PAGE_SIZE) % COUPON_COUNT);
+        root.layout();
+    }
+}
@@ -0,0 +1,76 @@
+package csdev.couponstash.benchmark;
+
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import csdev.couponstash.model.coupon.savings.Cents;
+import csdev.couponstash.model.coupon.savings.MonetaryAmount;
+
+/**
+ * Measures how quickly a large number of MonetaryAmounts can be reduced
+ * to a single sum or maximum, as done when adding up the savings of every
+ * coupon. Not run as part of the tests; run it with {@code gradlew benchmark}.
+ */
+public class MonetaryAmountBenchmark {
+
+    private static final int AMOUNT_COUNT = 5_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs every benchmark, printing the number of amounts reduced per second.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        MonetaryAmount[] amounts = new MonetaryAmount[AMOUNT_COUNT];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = new MonetaryAmount(random.nextInt(100), random.nextInt(100));
+        }
+
+        run("add MonetaryAmounts", amounts, MonetaryAmountBenchmark::sumByAdding);
+        run("add cents", amounts, MonetaryAmountBenchmark::sumCents);
+        run("find maximum with compareTo", amounts, MonetaryAmountBenchmark::findMaximum);
+    }
+
+    private static long sumByAdding(MonetaryAmount[] amounts) {
+        MonetaryAmount sum = new MonetaryAmount(0, 0);
+        for (MonetaryAmount amount : amounts) {
+            sum = sum.add(amount);
+        }
+        return sum.getCents();
+    }
+
+    private static long sumCents(MonetaryAmount[] amounts) {
+        long sum = 0;
+        for (MonetaryAmount amount : amounts) {
+            sum = Cents.add(sum, amount.getCents());
+        }
+        return sum;
+    }
+
+    private static long findMaximum(MonetaryAmount[] amounts) {
+        MonetaryAmount maximum = amounts[0];
+        for (MonetaryAmount amount : amounts) {
+            if (amount.compareTo(maximum) > 0) {
+                maximum = amount;
+            }
+        }
+        return maximum.getCents();
+    }
+
+    private static void run(String name, MonetaryAmount[] amounts, ToLongFunction<MonetaryAmount[]> reduction) {
+        // the results are combined and printed, so that the reductions cannot be optimised away
+        long check = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            check += reduction.applyAsLong(amounts);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            check += reduction.applyAsLong(amounts);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double millionsPerSecond = (double) amounts.length * MEASURED_ROUNDS / seconds / 1e6;
+        System.out.printf("%-30s %8.1f million amounts/s (check %d)%n", name, millionsPerSecond, check);
+    }
+}
@@ -0,0 +1,91 @@
+package csdev.couponstash.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.testutil.CouponBuilder;
+import csdev.couponstash.ui.CouponCard;
+import csdev.couponstash.ui.DateCell;
+import csdev.couponstash.ui.SavingsBox;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+
+/**
+ * Measures how quickly the UiParts that are made most often can be made: the
+ * DateCells of a calendar, which are built in code, are compared with loading
+ * them from their old FXML file, and SavingsBoxes and CouponCards are loaded
+ * from their FXML files. Not run as part of the tests; run it with
+ * {@code gradlew benchmark -Pbenchmark=UiPartBenchmark}. The time taken to fill
+ * in the main window at startup is logged by UiManager.
+ */
+public class UiPartBenchmark {
+
+    // the DateCell.fxml file that DateCells were loaded from, before they were built in code
+    private static final String DATE_CELL_FXML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<?import javafx.scene.layout.*?>\n"
+            + "<StackPane fx:id=\"dateStackPane\" maxHeight=\"40.0\" maxWidth=\"60.0\" minHeight=\"40.0\""
+            + " minWidth=\"40.0\" prefHeight=\"30\" prefWidth=\"40\""
+            + " xmlns=\"http://javafx.com/javafx/10.0.2-internal\" xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+            + "</StackPane>\n";
+    private static final int DATE_CELLS_PER_CALENDAR = 42;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1_000;
+
+    /**
+     * Runs every benchmark, printing the time taken to make each part.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        Coupon coupon = new CouponBuilder().withName("Pizza Hut").withTags("food", "dinner").build();
+        CountDownLatch finished = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            run("calendar of DateCells in code", () -> makeCalendar(DateCell::new));
+            run("calendar of DateCells in FXML", () -> makeCalendar(() -> loadFxml(DATE_CELL_FXML)));
+            run("SavingsBox from FXML file", SavingsBox::new);
+            run("CouponCard from FXML file", () -> new CouponCard(coupon, 1, "$"));
+            finished.countDown();
+        });
+        finished.await();
+        Platform.exit();
+    }
+
+    private static Object makeCalendar(Supplier<Object> dateCellMaker) {
+        Object lastDateCell = null;
+        for (int i = 0; i < DATE_CELLS_PER_CALENDAR; i++) {
+            lastDateCell = dateCellMaker.get();
+        }
+        return lastDateCell;
+    }
+
+    private static Object loadFxml(String fxml) {
+        try {
+            return new FXMLLoader().load(new ByteArrayInputStream(fxml.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void run(String name, Supplier<Object> maker) {
+        // the parts made are counted and printed, so that making them cannot be optimised away
+        int check = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            check += maker.get() == null ? 0 : 1;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            check += maker.get() == null ? 0 : 1;
+        }
+        double microsPerPart = (System.nanoTime() - start) / 1e3 / MEASURED_ROUNDS;
+        System.out.printf("%-35s %10.1f us each (check %d)%n", name, microsPerPart, check);
+    }
+}
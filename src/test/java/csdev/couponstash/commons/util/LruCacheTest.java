@@ -0,0 +1,40 @@
+package csdev.couponstash.commons.util;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+    }
+
+    @Test
+    public void put_moreThanCapacity_leastRecentlyUsedEvicted() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        // reading "a" makes "b" the least recently used
+        cache.get("a");
+        cache.put("d", 4);
+
+        assertEquals(3, cache.size());
+        assertEquals(List.of("c", "a", "d"), List.copyOf(cache.keySet()));
+    }
+
+    @Test
+    public void computeIfAbsent_moreThanCapacity_leastRecentlyUsedEvicted() {
+        LruCache<Integer, Integer> cache = new LruCache<>(2);
+        for (int i = 0; i < 5; i++) {
+            cache.computeIfAbsent(i, key -> key * key);
+        }
+        assertEquals(List.of(3, 4), List.copyOf(cache.keySet()));
+        assertEquals(Integer.valueOf(16), cache.get(4));
+    }
+}
@@ -0,0 +1,85 @@
+package csdev.couponstash.commons.util;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void getCompletions_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixTrie().getCompletions("a", 0));
+    }
+
+    @Test
+    public void getCompletions_wordsWithPrefix_returnedInOrder() {
+        PrefixTrie trie = new PrefixTrie();
+        for (String word : List.of("pizza", "pasta", "pizzeria", "pi", "salad", "pizzas")) {
+            trie.add(word);
+        }
+
+        assertEquals(List.of("pi", "pizza", "pizzas", "pizzeria"), trie.getCompletions("pi", 10));
+        // prefix ending in the middle of an edge
+        assertEquals(List.of("pizza", "pizzas", "pizzeria"), trie.getCompletions("piz", 10));
+        assertEquals(List.of("pizza", "pizzas"), trie.getCompletions("pizza", 10));
+        assertEquals(List.of("pasta", "pi", "pizza"), trie.getCompletions("p", 3));
+        assertEquals(List.of("pasta", "pi", "pizza", "pizzas", "pizzeria", "salad"), trie.getCompletions("", 10));
+
+        // prefix branching off in the middle of an edge, or past the end of a word
+        assertTrue(trie.getCompletions("pizo", 10).isEmpty());
+        assertTrue(trie.getCompletions("saladbar", 10).isEmpty());
+        assertTrue(trie.getCompletions("x", 10).isEmpty());
+    }
+
+    @Test
+    public void getCompletions_keyInLowerCase_caseIgnored() {
+        PrefixTrie trie = new PrefixTrie(word -> word.toLowerCase(Locale.ROOT));
+        trie.add("Pizza Hut");
+        trie.add("pizza express");
+        trie.add("PASTA");
+
+        assertEquals(List.of("pizza express", "Pizza Hut"), trie.getCompletions("PiZ", 10));
+        assertEquals(List.of("PASTA"), trie.getCompletions("pa", 10));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void remove_words_sameAsNewTrie() {
+        PrefixTrie trie = new PrefixTrie();
+        for (String word : List.of("pizza", "pizzeria", "pizza", "pi", "pasta")) {
+            trie.add(word);
+        }
+        assertEquals(4, trie.size());
+
+        // added twice, so still in the trie after being removed once
+        assertTrue(trie.remove("pizza"));
+        assertEquals(List.of("pi", "pizza", "pizzeria"), trie.getCompletions("pi", 10));
+        assertTrue(trie.remove("pizza"));
+        assertEquals(List.of("pi", "pizzeria"), trie.getCompletions("pi", 10));
+
+        // removing a word in the middle of an edge merges the edges around it
+        assertTrue(trie.remove("pi"));
+        assertEquals(List.of("pizzeria"), trie.getCompletions("pizz", 10));
+        assertEquals(List.of("pasta", "pizzeria"), trie.getCompletions("p", 10));
+
+        assertFalse(trie.remove("pi"));
+        assertFalse(trie.remove("piz"));
+        assertFalse(trie.remove("pizzerias"));
+        assertEquals(2, trie.size());
+
+        assertTrue(trie.remove("pasta"));
+        assertTrue(trie.remove("pizzeria"));
+        assertTrue(trie.getCompletions("", 10).isEmpty());
+        assertEquals(0, trie.size());
+
+        // the trie can be used again once empty
+        trie.add("pizza");
+        assertEquals(List.of("pizza"), trie.getCompletions("p", 10));
+    }
+}
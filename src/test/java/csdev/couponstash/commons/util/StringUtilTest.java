@@ -1,10 +1,12 @@
 package csdev.couponstash.commons.util;
 
 import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getLowerCaseWords --------------------------------------
+
+    @Test
+    public void getLowerCaseWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getLowerCaseWords(null));
+    }
+
+    @Test
+    public void getLowerCaseWords_validInputs_correctResult() {
+        // Empty sentence
+        assertEquals(List.of(), StringUtil.getLowerCaseWords(""));
+        assertEquals(List.of(), StringUtil.getLowerCaseWords("    "));
+
+        // Sentence has extra spaces and different upper/lower case letters
+        assertEquals(List.of("aaa", "bbb", "ccc@1"), StringUtil.getLowerCaseWords("  AAA   bBb   ccc@1  "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,197 @@
+package csdev.couponstash.logic;
+
+import static csdev.couponstash.commons.core.Messages.MESSAGE_INVALID_COUPON_DISPLAYED_INDEX;
+import static csdev.couponstash.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static csdev.couponstash.logic.commands.CommandTestUtil.EXPIRY_DATE_DESC_AMY;
+import static csdev.couponstash.logic.commands.CommandTestUtil.LIMIT_DESC_AMY;
+import static csdev.couponstash.logic.commands.CommandTestUtil.PROMO_CODE_DESC_AMY;
+import static csdev.couponstash.logic.commands.CommandTestUtil.SAVINGS_DESC_AMY;
+import static csdev.couponstash.logic.commands.CommandTestUtil.START_DATE_DESC_AMY;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import csdev.couponstash.logic.commands.AddCommand;
+import csdev.couponstash.logic.commands.CommandResult;
+import csdev.couponstash.logic.commands.ListCommand;
+import csdev.couponstash.logic.commands.exceptions.CommandException;
+import csdev.couponstash.logic.parser.exceptions.ParseException;
+import csdev.couponstash.model.Model;
+import csdev.couponstash.model.ModelManager;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.storage.JsonCouponStashStorage;
+import csdev.couponstash.storage.JsonUserPrefsStorage;
+import csdev.couponstash.storage.StorageManager;
+import csdev.couponstash.ui.CsTab;
+
+public class CommandPipelineTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    // stands in for the JavaFX application thread
+    private ExecutorService uiThread = Executors.newSingleThreadExecutor();
+    private CommandPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        JsonCouponStashStorage couponStashStorage =
+                new JsonCouponStashStorage(temporaryFolder.resolve("couponStash.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(couponStashStorage, userPrefsStorage));
+        pipeline = new CommandPipeline(logic, uiThread);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        uiThread.shutdownNow();
+    }
+
+    @Test
+    public void submit_validCommand_success() throws Exception {
+        CompletableFuture<CommandResult> result = pipeline.submit(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS, "active"),
+                result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithParseException() throws Exception {
+        Throwable failure = getFailure(pipeline.submit("uicfhmowqewca", CsTab.COUPONS));
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+    }
+
+    @Test
+    public void submit_commandExecutionError_failsWithCommandException() throws Exception {
+        Throwable failure = getFailure(pipeline.submit("delete 9", CsTab.COUPONS));
+        assertTrue(failure instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_COUPON_DISPLAYED_INDEX, failure.getMessage());
+    }
+
+    @Test
+    public void submit_manyCommands_executedInOrder() throws Exception {
+        List<String> names = new ArrayList<>();
+        CompletableFuture<CommandResult> lastResult = null;
+        for (int i = 0; i < 20; i++) {
+            String name = "Coupon " + i;
+            names.add(name);
+            lastResult = pipeline.submit(getAddCommandText(name), CsTab.COUPONS);
+        }
+        lastResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        List<String> addedNames = new ArrayList<>();
+        for (Coupon coupon : model.getCouponStash().getCouponList()) {
+            addedNames.add(coupon.getName().fullName);
+        }
+        assertEquals(names, addedNames);
+    }
+
+    @Test
+    public void submit_failedCommand_laterCommandsExecuted() throws Exception {
+        CompletableFuture<CommandResult> failed = pipeline.submit("delete 9", CsTab.COUPONS);
+        CompletableFuture<CommandResult> result = pipeline.submit(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS, "active"),
+                result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+        assertTrue(failed.isCompletedExceptionally());
+    }
+
+    @Test
+    public void submit_commands_busyUntilAllExecuted() throws Exception {
+        List<Boolean> busyStates = new ArrayList<>();
+        pipeline.setBusyHandler(busyStates::add);
+
+        pipeline.submit(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        CompletableFuture<CommandResult> lastResult = pipeline.submit(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        lastResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // wait for the busy handler to have been told, as it is told on the UI thread
+        uiThread.submit(() -> { }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse(pipeline.isBusy());
+        assertFalse(busyStates.isEmpty());
+        assertEquals(Boolean.TRUE, busyStates.get(0));
+        assertEquals(Boolean.FALSE, busyStates.get(busyStates.size() - 1));
+    }
+
+    @Test
+    public void submit_uiThreadBlocked_commandExecuted() throws Exception {
+        CountDownLatch uiThreadReleased = new CountDownLatch(1);
+        uiThread.execute(() -> {
+            try {
+                uiThreadReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CompletableFuture<CommandResult> result = pipeline.submit(getAddCommandText("Pizza"), CsTab.COUPONS);
+        // the command is executed while the UI thread is still blocked
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (model.getCouponStash().getCouponList().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, model.getCouponStash().getCouponList().size());
+        assertFalse(result.isDone());
+
+        uiThreadReleased.countDown();
+        result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void submit_commandsExecuted_modelMirrorUpdated() throws Exception {
+        ModelMirror modelMirror = pipeline.getModelMirror();
+        pipeline.submit(getAddCommandText("Pizza"), CsTab.COUPONS);
+        pipeline.submit(getAddCommandText("Pasta"), CsTab.COUPONS);
+        pipeline.submit(getAddCommandText("Salad"), CsTab.COUPONS).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(model.getFilteredCouponList(), getOnUiThread(() -> new ArrayList<>(modelMirror
+                .getFilteredCouponList())));
+
+        pipeline.submit("delete 2", CsTab.COUPONS).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(model.getFilteredCouponList(), getOnUiThread(() -> new ArrayList<>(modelMirror
+                .getFilteredCouponList())));
+        assertEquals(List.of("add n/Pizza", "add n/Salad"),
+                getOnUiThread(() -> modelMirror.getCompletions("add n/")));
+    }
+
+    private static String getAddCommandText(String name) {
+        return AddCommand.COMMAND_WORD + " " + PREFIX_NAME + name + PROMO_CODE_DESC_AMY
+                + SAVINGS_DESC_AMY + EXPIRY_DATE_DESC_AMY + START_DATE_DESC_AMY + LIMIT_DESC_AMY;
+    }
+
+    /**
+     * Returns the value given by {@code supplier} when called on the UI thread.
+     */
+    private <T> T getOnUiThread(Callable<T> supplier) throws Exception {
+        return uiThread.submit(supplier).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the exception that {@code result} failed with.
+     */
+    private static Throwable getFailure(CompletableFuture<CommandResult> result) throws Exception {
+        try {
+            result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("The command should have failed.");
+    }
+}
@@ -8,18 +8,22 @@ import static csdev.couponstash.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static csdev.couponstash.logic.commands.CommandTestUtil.PROMO_CODE_DESC_AMY;
 import static csdev.couponstash.logic.commands.CommandTestUtil.SAVINGS_DESC_AMY;
 import static csdev.couponstash.logic.commands.CommandTestUtil.START_DATE_DESC_AMY;
+import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_NAME;
 import static csdev.couponstash.testutil.Assert.assertThrows;
 import static csdev.couponstash.testutil.TypicalCoupons.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import csdev.couponstash.logic.commands.AddCommand;
+import csdev.couponstash.logic.commands.BatchCommand;
 import csdev.couponstash.logic.commands.CommandResult;
 import csdev.couponstash.logic.commands.ListCommand;
 import csdev.couponstash.logic.commands.exceptions.CommandException;
@@ -42,6 +46,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -49,7 +54,7 @@ public class LogicManagerTest {
         JsonCouponStashStorage couponStashStorage =
                 new JsonCouponStashStorage(temporaryFolder.resolve("couponStash.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(couponStashStorage, userPrefsStorage);
+        storage = new StorageManager(couponStashStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -72,6 +77,29 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, message , model);
     }
 
+    @Test
+    public void execute_readOnlyCommands_savesSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        logic.execute(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        logic.execute(ListCommand.COMMAND_WORD, CsTab.COUPONS);
+        assertEquals(1, storage.getSavesPerformed());
+        assertEquals(2, storage.getSavesSkipped());
+    }
+
+    @Test
+    public void executeBatch_manyCommands_savedOnce() throws Exception {
+        List<String> commandTexts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            commandTexts.add(AddCommand.COMMAND_WORD + " " + PREFIX_NAME + "Coupon " + i + PROMO_CODE_DESC_AMY
+                    + SAVINGS_DESC_AMY + EXPIRY_DATE_DESC_AMY + START_DATE_DESC_AMY + LIMIT_DESC_AMY);
+        }
+
+        CommandResult result = logic.executeBatch(commandTexts, CsTab.COUPONS);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 10), result.getFeedbackToUser());
+        assertEquals(10, model.getCouponStash().getCouponList().size());
+        assertEquals(1, storage.getSavesPerformed());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonCouponStashIoExceptionThrowingStub
@@ -24,6 +24,9 @@ import csdev.couponstash.model.Model;
 import csdev.couponstash.model.ReadOnlyCouponStash;
 import csdev.couponstash.model.ReadOnlyUserPrefs;
 import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.element.CouponDateIndex;
+import csdev.couponstash.model.element.CouponTagIndex;
+import csdev.couponstash.model.element.CouponTokenIndex;
 import csdev.couponstash.model.element.ObservableMonthView;
 import csdev.couponstash.testutil.CouponBuilder;
 
@@ -193,6 +196,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public CouponTokenIndex getNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CouponTagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CouponDateIndex getExpiryIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableMonthView getMonthView() {
             throw new AssertionError("This method should not be called.");
@@ -229,6 +247,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getHistoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch(String command) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortCoupons(Comparator<Coupon> cmp) {
             throw new AssertionError("This method should not be called.");
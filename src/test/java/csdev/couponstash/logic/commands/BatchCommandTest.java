@@ -0,0 +1,77 @@
+package csdev.couponstash.logic.commands;
+
+import static csdev.couponstash.logic.commands.CommandTestUtil.assertCommandFailure;
+import static csdev.couponstash.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static csdev.couponstash.testutil.TypicalCoupons.ALICE;
+import static csdev.couponstash.testutil.TypicalIndexes.INDEX_FIRST_COUPON;
+import static csdev.couponstash.testutil.TypicalIndexes.INDEX_SECOND_COUPON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.commons.core.Messages;
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.Model;
+import csdev.couponstash.model.ModelManager;
+import csdev.couponstash.model.UserPrefs;
+
+public class BatchCommandTest {
+
+    private Model model = new ModelManager(new CouponStash(), new UserPrefs());
+
+    @Test
+    public void constructor_mismatchedCommandTexts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, BatchCommand.MESSAGE_MISMATCHED_COMMANDS, ()
+            -> new BatchCommand(List.of(new ClearCommand()), List.of(1), List.of()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_undoneAsOneCommand() {
+        BatchCommand batchCommand = new BatchCommand(List.of(new AddCommand(ALICE), new ClearCommand()),
+                List.of(1, 2), List.of("add alice", "clear"));
+        Model expectedModel = new ModelManager(new CouponStash(), new UserPrefs());
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2), expectedModel);
+        assertTrue(model.canUndoCouponStash());
+        model.undoCouponStash();
+        assertFalse(model.canUndoCouponStash());
+    }
+
+    @Test
+    public void execute_commandFails_changesRolledBack() {
+        BatchCommand batchCommand = new BatchCommand(
+                List.of(new AddCommand(ALICE), new DeleteCommand(INDEX_SECOND_COUPON)),
+                List.of(2, 5), List.of("add alice", "delete 2"));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 5, "delete 2",
+                Messages.MESSAGE_INVALID_COUPON_DISPLAYED_INDEX);
+
+        assertCommandFailure(batchCommand, model, expectedMessage);
+        assertFalse(model.hasCoupon(ALICE));
+        assertFalse(model.canUndoCouponStash());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_COUPON)),
+                List.of(1), List.of("delete 1"));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same values -> returns true
+        assertEquals(batchCommand, new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_COUPON)),
+                List.of(1), List.of("delete 1")));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_SECOND_COUPON)),
+                List.of(1), List.of("delete 2"))));
+    }
+}
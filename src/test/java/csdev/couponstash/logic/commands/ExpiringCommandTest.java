@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,6 +20,7 @@ import csdev.couponstash.model.ModelManager;
 import csdev.couponstash.model.UserPrefs;
 import csdev.couponstash.model.coupon.DateIsEqualsPredicate;
 import csdev.couponstash.model.coupon.DateIsInMonthYearPredicate;
+import csdev.couponstash.model.coupon.DateIsInRangePredicate;
 import csdev.couponstash.testutil.TypicalCoupons;
 
 /**
@@ -135,6 +137,21 @@ public class ExpiringCommandTest {
                 model.getFilteredCouponList());
     }
 
+    @Test
+    public void execute_multipleCouponsFoundInRange_success() {
+        DateIsInRangePredicate predicate = new DateIsInRangePredicate(LocalDate.of(2020, 8, 30),
+                LocalDate.of(2020, 12, 2));
+        String expectedMessage = String.format(Messages.MESSAGE_COUPONS_EXPIRING_BETWEEN_DATES,
+                4, "30-8-2020", "2-12-2020");
+        ExpiringCommand command = new ExpiringCommand(predicate);
+
+        expectedModel.sortCoupons(Model.COMPARATOR_NON_ARCHIVED_FIRST);
+        expectedModel.updateFilteredCouponList(predicate);
+        expectedModel.updateMonthView("8-2020");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(4, model.getFilteredCouponList().size());
+    }
+
     /**
      * Parses {@code userInput} into a {@code DateIsEqualsPredicate}.
      */
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +16,9 @@ import csdev.couponstash.model.Model;
 import csdev.couponstash.model.ModelManager;
 import csdev.couponstash.model.UserPrefs;
 import csdev.couponstash.model.coupon.NameContainsKeywordsPredicate;
+import csdev.couponstash.model.tag.Tag;
+import csdev.couponstash.model.tag.TagQuery;
+import csdev.couponstash.testutil.CouponBuilder;
 import csdev.couponstash.testutil.TypicalCoupons;
 
 /**
@@ -79,6 +83,29 @@ public class FindCommandTest {
         );
     }
 
+    @Test
+    public void execute_tags_couponsWithTagsFound() {
+        TagQuery tagQuery = new TagQuery(Set.of(new Tag("friends")), Set.of(), Set.of(new Tag("owesMoney")));
+        FindCommand command = new FindCommand(null, tagQuery);
+
+        expectedModel.sortCoupons(Model.COMPARATOR_NON_ARCHIVED_FIRST);
+        expectedModel.updateFilteredCouponList(tagQuery);
+        String expectedMessage = String.format(MESSAGE_COUPONS_FOUND, expectedModel.getFilteredCouponList().size());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredCouponList().stream().allMatch(coupon ->
+                coupon.getTags().contains(new Tag("friends")) && !coupon.getTags().contains(new Tag("owesMoney"))));
+    }
+
+    @Test
+    public void execute_couponAddedAfterFind_matchingCouponShown() {
+        new FindCommand(preparePredicate("Kurz")).execute(model, "");
+        int filteredListSize = model.getFilteredCouponList().size();
+
+        model.addCoupon(new CouponBuilder().withName("Bernd Kurz").build(), "");
+        model.addCoupon(new CouponBuilder().withName("Bernd Meier").build(), "");
+        assertEquals(filteredListSize + 1, model.getFilteredCouponList().size());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
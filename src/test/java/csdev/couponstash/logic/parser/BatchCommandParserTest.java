@@ -0,0 +1,82 @@
+package csdev.couponstash.logic.parser;
+
+import static csdev.couponstash.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static csdev.couponstash.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static csdev.couponstash.logic.commands.CommandTestUtil.VALID_MONEY_SYMBOL;
+import static csdev.couponstash.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static csdev.couponstash.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static csdev.couponstash.testutil.TypicalIndexes.INDEX_FIRST_COUPON;
+import static csdev.couponstash.testutil.TypicalIndexes.INDEX_SECOND_COUPON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import csdev.couponstash.logic.commands.BatchCommand;
+import csdev.couponstash.logic.commands.DeleteCommand;
+import csdev.couponstash.logic.commands.UndoCommand;
+import csdev.couponstash.logic.parser.exceptions.ParseException;
+
+public class BatchCommandParserTest {
+
+    private static final List<String> LINES = List.of("# remove the first two coupons", "", "delete 1", " delete 1 ");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private BatchCommandParser parser = new BatchCommandParser(new CouponStashParser(VALID_MONEY_SYMBOL));
+
+    @Test
+    public void parseLines_commandsAndComments_returnsBatchCommand() throws Exception {
+        BatchCommand expectedCommand = new BatchCommand(
+                List.of(new DeleteCommand(INDEX_FIRST_COUPON), new DeleteCommand(INDEX_FIRST_COUPON)),
+                List.of(3, 4), List.of("delete 1", "delete 1"));
+        assertEquals(expectedCommand, parser.parseLines(LINES));
+    }
+
+    @Test
+    public void parseLines_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, String.format(BatchCommand.MESSAGE_LINE_NOT_PARSED, 2, "remove 2",
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parseLines(List.of("delete 1", "remove 2")));
+    }
+
+    @Test
+    public void parseLines_commandNotAllowed_throwsParseException() {
+        assertThrows(ParseException.class, String.format(BatchCommand.MESSAGE_COMMAND_NOT_ALLOWED, 2,
+                UndoCommand.COMMAND_WORD), () -> parser.parseLines(List.of("delete 1", UndoCommand.COMMAND_WORD)));
+        assertThrows(ParseException.class, String.format(BatchCommand.MESSAGE_COMMAND_NOT_ALLOWED, 1,
+                BatchCommand.COMMAND_WORD), () -> parser.parseLines(List.of("batch more.txt")));
+    }
+
+    @Test
+    public void parseLines_noCommands_throwsParseException() {
+        assertThrows(ParseException.class, BatchCommand.MESSAGE_NO_COMMANDS, ()
+            -> parser.parseLines(List.of("# nothing to run", "  ")));
+    }
+
+    @Test
+    public void parse_batchFile_returnsBatchCommand() throws Exception {
+        Path batchFile = temporaryFolder.resolve("batch.txt");
+        Files.write(batchFile, List.of("delete 2", "delete 1"));
+        BatchCommand expectedCommand = new BatchCommand(
+                List.of(new DeleteCommand(INDEX_SECOND_COUPON), new DeleteCommand(INDEX_FIRST_COUPON)),
+                List.of(1, 2), List.of("delete 2", "delete 1"));
+        assertParseSuccess(parser, " " + batchFile, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        String missingFile = temporaryFolder.resolve("missing.txt").toString();
+        assertParseFailure(parser, " " + missingFile, String.format(BatchCommand.MESSAGE_FILE_NOT_READ, missingFile));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+}
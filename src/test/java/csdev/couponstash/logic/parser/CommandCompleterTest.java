@@ -0,0 +1,71 @@
+package csdev.couponstash.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.element.CouponCompletionIndex;
+import csdev.couponstash.testutil.CouponBuilder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class CommandCompleterTest {
+
+    private final ObservableList<Coupon> coupons = FXCollections.observableArrayList(
+            new CouponBuilder().withName("Pizza Hut").withTags("food", "fastFood").build(),
+            new CouponBuilder().withName("Pizza Express").withTags("food").build(),
+            new CouponBuilder().withName("Grab Ride").withTags("grab").build());
+    private final CommandCompleter completer = new CommandCompleter(new CouponCompletionIndex(coupons));
+
+    @Test
+    public void getCompletions_commandWord_commandWordsCompleted() {
+        assertEquals(List.of("edit", "exit", "expand", "expiring"), completer.getCompletions("e"));
+        assertEquals(List.of("  expand", "  expiring"), completer.getCompletions("  exp"));
+        assertTrue(completer.getCompletions("xyz").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_tag_tagNamesCompleted() {
+        assertEquals(List.of("add n/Pizza t/fastFood", "add n/Pizza t/food"),
+                completer.getCompletions("add n/Pizza t/f"));
+        assertEquals(List.of("find t/food t/+grab"), completer.getCompletions("find t/food t/+g"));
+        assertEquals(List.of("find t/-fastFood", "find t/-food"), completer.getCompletions("find t/-f"));
+        // AND and NOT markers are only for the find command
+        assertTrue(completer.getCompletions("add t/+g").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_name_couponNamesCompleted() {
+        assertEquals(List.of("add n/Pizza Express", "add n/Pizza Hut"), completer.getCompletions("add n/pizza"));
+        assertEquals(List.of("add n/Pizza Hut"), completer.getCompletions("add n/pizza h"));
+        // the name is not the last argument
+        assertTrue(completer.getCompletions("add n/Pizza e/30-8-2020").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_findKeyword_nameWordsCompleted() {
+        assertEquals(List.of("find pizza express"), completer.getCompletions("find pizza ex"));
+        assertEquals(List.of("find grab"), completer.getCompletions("find GR"));
+    }
+
+    @Test
+    public void getCompletions_prefix_prefixesCompleted() {
+        assertEquals(List.of("add n/Pizza Hut s/", "add n/Pizza Hut sd/"),
+                completer.getCompletions("add n/Pizza Hut s"));
+        assertEquals(List.of("list a/"), completer.getCompletions("list a"));
+        assertTrue(completer.getCompletions("list ").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_couponsChanged_completionsUpdated() {
+        coupons.add(new CouponBuilder().withName("Pizza Palace").withTags("fancy").build());
+        coupons.remove(0);
+        assertEquals(List.of("add n/Pizza Express", "add n/Pizza Palace"), completer.getCompletions("add n/pizza"));
+        assertEquals(List.of("add t/fancy", "add t/food"), completer.getCompletions("add t/f"));
+    }
+}
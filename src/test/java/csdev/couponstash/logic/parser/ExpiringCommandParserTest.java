@@ -5,12 +5,15 @@ import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_EXPIRY_DATE;
 import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_MONTH_YEAR;
 import static csdev.couponstash.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import csdev.couponstash.commons.util.DateUtil;
 import csdev.couponstash.logic.commands.ExpiringCommand;
 import csdev.couponstash.model.coupon.DateIsEqualsPredicate;
 import csdev.couponstash.model.coupon.DateIsInMonthYearPredicate;
+import csdev.couponstash.model.coupon.DateIsInRangePredicate;
 
 public class ExpiringCommandParserTest {
 
@@ -41,6 +44,15 @@ public class ExpiringCommandParserTest {
         //No prefix
         CommandParserTestUtil.assertParseFailure(parser, " 31-12-2020",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringCommand.MESSAGE_USAGE));
+
+        //More than two expiry dates
+        CommandParserTestUtil.assertParseFailure(parser, " " + PREFIX_EXPIRY_DATE + "1-1-2021 "
+                + PREFIX_EXPIRY_DATE + "1-2-2021 " + PREFIX_EXPIRY_DATE + "1-3-2021",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringCommand.MESSAGE_USAGE));
+
+        //Start date after end date
+        CommandParserTestUtil.assertParseFailure(parser, " " + PREFIX_EXPIRY_DATE + "31-3-2021 "
+                + PREFIX_EXPIRY_DATE + "1-1-2021", DateIsInRangePredicate.MESSAGE_CONSTRAINTS);
     }
 
     @Test
@@ -65,5 +77,11 @@ public class ExpiringCommandParserTest {
         // multiple whitespaces between keywords (Date)
         CommandParserTestUtil.assertParseSuccess(parser, "\n " + PREFIX_EXPIRY_DATE + " \n 30-8-2020 \n",
                 expectedExpiringCommand);
+
+        // range of dates
+        expectedExpiringCommand = new ExpiringCommand(
+                new DateIsInRangePredicate(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 3, 31)));
+        CommandParserTestUtil.assertParseSuccess(parser, " " + PREFIX_EXPIRY_DATE + "1-1-2021 "
+                + PREFIX_EXPIRY_DATE + "31-3-2021", expectedExpiringCommand);
     }
 }
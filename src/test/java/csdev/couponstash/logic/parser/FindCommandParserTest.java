@@ -3,11 +3,14 @@ package csdev.couponstash.logic.parser;
 import static csdev.couponstash.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import csdev.couponstash.logic.commands.FindCommand;
 import csdev.couponstash.model.coupon.NameContainsKeywordsPredicate;
+import csdev.couponstash.model.tag.Tag;
+import csdev.couponstash.model.tag.TagQuery;
 
 public class FindCommandParserTest {
 
@@ -30,4 +33,25 @@ public class FindCommandParserTest {
         CommandParserTestUtil.assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tags_returnsFindCommand() {
+        // tags only
+        TagQuery tagQuery = new TagQuery(Set.of(new Tag("food"), new Tag("grab")), Set.of(new Tag("cheap")),
+                Set.of(new Tag("expired")));
+        FindCommand expectedFindCommand = new FindCommand(null, tagQuery);
+        CommandParserTestUtil.assertParseSuccess(parser, " t/food t/+cheap t/grab t/-expired", expectedFindCommand);
+
+        // keywords and tags
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")),
+                new TagQuery(Set.of(new Tag("food")), Set.of(), Set.of()));
+        CommandParserTestUtil.assertParseSuccess(parser, " Alice Bob t/food", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(parser, " t/", Tag.MESSAGE_CONSTRAINTS);
+        CommandParserTestUtil.assertParseFailure(parser, " t/+", Tag.MESSAGE_CONSTRAINTS);
+        CommandParserTestUtil.assertParseFailure(parser, " t/fast*food", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
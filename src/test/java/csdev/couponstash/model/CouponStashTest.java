@@ -6,11 +6,14 @@ import static csdev.couponstash.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND
 import static csdev.couponstash.logic.commands.CommandTestUtil.VALID_USAGE_BOB;
 import static csdev.couponstash.testutil.Assert.assertThrows;
 import static csdev.couponstash.testutil.TypicalCoupons.ALICE;
+import static csdev.couponstash.testutil.TypicalCoupons.BOB;
 import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCouponStash;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +23,10 @@ import org.junit.jupiter.api.Test;
 
 import csdev.couponstash.model.coupon.Coupon;
 import csdev.couponstash.model.coupon.exceptions.DuplicateCouponException;
+import csdev.couponstash.model.coupon.savings.MonetaryAmount;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.history.CouponStashDelta;
+import csdev.couponstash.model.history.CouponStashSnapshot;
 import csdev.couponstash.testutil.CouponBuilder;
 
 import javafx.collections.FXCollections;
@@ -90,11 +97,111 @@ public class CouponStashTest {
         assertTrue(couponStash.hasCoupon(editedAlice));
     }
 
+    @Test
+    public void getSnapshot_afterMutations_matchesCouponList() {
+        couponStash.resetData(getTypicalCouponStash());
+        couponStash.removeCoupon(ALICE);
+        couponStash.addCoupon(ALICE);
+        Coupon firstCoupon = couponStash.getCouponList().get(0);
+        couponStash.setCoupon(firstCoupon, firstCoupon.archive());
+        assertEquals(couponStash.getCouponList(), couponStash.getSnapshot().toList());
+    }
+
+    @Test
+    public void revert_changesTaken_restoresPreviousState() {
+        couponStash.resetData(getTypicalCouponStash());
+        couponStash.takeChanges("");
+        Coupon firstCoupon = couponStash.getCouponList().get(0);
+        Coupon secondCoupon = couponStash.getCouponList().get(1);
+        couponStash.setCoupon(firstCoupon, firstCoupon.archive());
+        couponStash.removeCoupon(secondCoupon);
+        couponStash.addCoupon(secondCoupon.archive());
+        CouponStash expectedAfter = new CouponStash(couponStash);
+        CouponStashDelta delta = couponStash.takeChanges("edit");
+
+        couponStash.revert(delta);
+        assertEquals(getTypicalCouponStash(), couponStash);
+        assertEquals(couponStash.getCouponList(), couponStash.getSnapshot().toList());
+
+        couponStash.apply(delta);
+        assertEquals(expectedAfter, couponStash);
+        assertEquals(couponStash.getCouponList(), couponStash.getSnapshot().toList());
+    }
+
+    @Test
+    public void removeCouponAndRevert_equalArchivedCoupons_sameCouponsInSnapshot() {
+        Coupon firstArchived = ALICE.archive();
+        Coupon secondArchived = ALICE.archive();
+        couponStash.addCoupon(firstArchived);
+        couponStash.addCoupon(BOB);
+        couponStash.takeChanges("");
+
+        couponStash.addCoupon(secondArchived);
+        couponStash.removeCoupon(secondArchived);
+        assertSame(firstArchived, couponStash.getCouponList().get(0));
+        CouponStashDelta delta = couponStash.takeChanges("add and delete");
+
+        couponStash.revert(delta);
+        assertSame(firstArchived, couponStash.getCouponList().get(0));
+        assertEquals(List.of(firstArchived, BOB), couponStash.getCouponList());
+        assertSameCoupons(couponStash.getCouponList(), couponStash.getSnapshot().toList());
+
+        couponStash.addCoupon(secondArchived);
+        delta = couponStash.takeChanges("add");
+        couponStash.revert(delta);
+        assertSameCoupons(couponStash.getCouponList(), couponStash.getSnapshot().toList());
+        couponStash.apply(delta);
+        assertSame(secondArchived, couponStash.getCouponList().get(2));
+        assertSameCoupons(couponStash.getCouponList(), couponStash.getSnapshot().toList());
+    }
+
+    @Test
+    public void revert_resetTaken_restoresPreviousState() {
+        couponStash.resetData(getTypicalCouponStash());
+        couponStash.takeChanges("");
+        couponStash.resetData(new CouponStash());
+        CouponStashDelta delta = couponStash.takeChanges("clear");
+
+        couponStash.revert(delta);
+        assertEquals(getTypicalCouponStash(), couponStash);
+        couponStash.apply(delta);
+        assertEquals(new CouponStash(), couponStash);
+    }
+
+    @Test
+    public void getSavingsBetween_afterChangesReverted_sameAsSummingEachCoupon() {
+        LocalDate date = LocalDate.of(2020, 3, 14);
+        couponStash.resetData(getTypicalCouponStash());
+        couponStash.takeChanges("");
+        Coupon firstCoupon = couponStash.getCouponList().get(0);
+        couponStash.setCoupon(firstCoupon, firstCoupon.addToTotalSavings(date,
+                new PureMonetarySavings(new MonetaryAmount(12, 34))));
+        CouponStashDelta delta = couponStash.takeChanges("used");
+
+        CouponStashStub couponsOnly = new CouponStashStub(couponStash.getCouponList());
+        assertEquals(couponsOnly.getSavingsBetween(date, date), couponStash.getSavingsBetween(date, date));
+
+        couponStash.revert(delta);
+        couponsOnly = new CouponStashStub(couponStash.getCouponList());
+        assertEquals(couponsOnly.getSavingsBetween(LocalDate.MIN, LocalDate.MAX),
+                couponStash.getSavingsBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
     @Test
     public void getCouponList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> couponStash.getCouponList().remove(0));
     }
 
+    /**
+     * Asserts that both lists hold the very same coupons, in the same order.
+     */
+    private static void assertSameCoupons(List<Coupon> expected, List<Coupon> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
     /**
      * A stub ReadOnlyCouponStash whose coupons list can violate interface constraints.
      */
@@ -109,6 +216,16 @@ public class CouponStashTest {
         public ObservableList<Coupon> getCouponList() {
             return coupons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public CouponStashSnapshot getSnapshot() {
+            return CouponStashSnapshot.of(coupons);
+        }
     }
 
 }
@@ -16,6 +16,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import csdev.couponstash.commons.core.GuiSettings;
+import csdev.couponstash.commons.core.StashSettings;
 import csdev.couponstash.model.coupon.Coupon;
 import csdev.couponstash.model.coupon.NameContainsKeywordsPredicate;
 import csdev.couponstash.testutil.CouponStashBuilder;
@@ -92,6 +93,71 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasCoupon(ALICE));
     }
 
+    @Test
+    public void undoRedoCouponStash_addedCoupon_success() {
+        modelManager.addCoupon(ALICE, "add alice");
+        assertTrue(modelManager.getHistoryFootprint() > 0);
+
+        assertEquals("add alice", modelManager.undoCouponStash());
+        assertFalse(modelManager.hasCoupon(ALICE));
+        assertEquals("add alice", modelManager.redoCouponStash());
+        assertTrue(modelManager.hasCoupon(ALICE));
+    }
+
+    @Test
+    public void setStashSettings_smallHistoryMemoryBudget_evictsOldestStates() {
+        modelManager.addCoupon(ALICE, "add alice");
+        modelManager.addCoupon(BENSON, "add benson");
+        long footprint = modelManager.getHistoryFootprint();
+
+        modelManager.setStashSettings(new StashSettings(modelManager.getStashSettings().getMoneySymbol(), 1));
+        assertTrue(modelManager.getHistoryFootprint() < footprint);
+        modelManager.undoCouponStash();
+        assertFalse(modelManager.canUndoCouponStash());
+    }
+
+    @Test
+    public void commitBatch_addedCoupons_undoneAsOneCommand() {
+        modelManager.beginBatch();
+        modelManager.addCoupon(ALICE, "add alice");
+        modelManager.addCoupon(BENSON, "add benson");
+        assertFalse(modelManager.canUndoCouponStash());
+        modelManager.commitBatch("batch coupons.txt");
+
+        assertEquals("batch coupons.txt", modelManager.undoCouponStash());
+        assertFalse(modelManager.hasCoupon(ALICE));
+        assertFalse(modelManager.hasCoupon(BENSON));
+        assertFalse(modelManager.canUndoCouponStash());
+    }
+
+    @Test
+    public void rollbackBatch_changedCoupons_changesReversed() {
+        modelManager.addCoupon(ALICE, "add alice");
+        modelManager.beginBatch();
+        modelManager.addCoupon(BENSON, "add benson");
+        modelManager.deleteCoupon(ALICE, "delete 1");
+        modelManager.updateFilteredCouponList(coupon -> false);
+        modelManager.rollbackBatch();
+
+        assertTrue(modelManager.hasCoupon(ALICE));
+        assertFalse(modelManager.hasCoupon(BENSON));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredCouponList());
+        assertEquals("add alice", modelManager.undoCouponStash());
+    }
+
+    @Test
+    public void beginBatch_batchStarted_throwsIllegalStateException() {
+        modelManager.beginBatch();
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_BATCH_ALREADY_STARTED, modelManager::beginBatch);
+    }
+
+    @Test
+    public void commitBatch_noBatchStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_BATCH_STARTED, ()
+            -> modelManager.commitBatch(""));
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_BATCH_STARTED, modelManager::rollbackBatch);
+    }
+
     @Test
     public void getFilteredCouponList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCouponList().remove(0));
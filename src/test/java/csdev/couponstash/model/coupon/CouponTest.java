@@ -1,12 +1,21 @@
 package csdev.couponstash.model.coupon;
 
 import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import csdev.couponstash.logic.commands.CommandTestUtil;
+import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
+import csdev.couponstash.model.coupon.savings.MonetaryAmount;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.Saveable;
 import csdev.couponstash.testutil.CouponBuilder;
 import csdev.couponstash.testutil.TypicalCoupons;
 
@@ -28,6 +37,21 @@ public class CouponTest {
         assertTrue(difference == 1);
     }
 
+    @Test
+    public void getTotalSavingsCents_savingsOnManyDates_sumOfAllDates() {
+        LocalDate date = LocalDate.of(2020, 3, 14);
+        Coupon coupon = new CouponBuilder().withTotalSavings(new DateSavingsSumMap()).build()
+                .addToTotalSavings(date, new PureMonetarySavings(new MonetaryAmount(1, 50),
+                        Arrays.asList(new Saveable("Brie", 2))))
+                .addToTotalSavings(date.plusDays(1), new PureMonetarySavings(new MonetaryAmount(2, 75),
+                        Arrays.asList(new Saveable("Brie"), new Saveable("Gouda"))));
+
+        assertEquals(425, coupon.getTotalSavingsCents());
+        assertEquals(Map.of("Brie", 3, "Gouda", 1), coupon.getTotalSaveableCounts());
+        assertEquals(coupon.getTotalSavingsCents(), coupon.getTotalSavings().getMonetaryAmountAsCents());
+        assertThrows(UnsupportedOperationException.class, () -> coupon.getTotalSaveableCounts().clear());
+    }
+
     @Test
     public void setArchivalState_true_returnsTrue() {
         Coupon coupon = new CouponBuilder().build();
@@ -0,0 +1,75 @@
+package csdev.couponstash.model.coupon;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.testutil.CouponBuilder;
+
+public class DateIsInRangePredicateTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 3, 31);
+
+    @Test
+    public void constructor_startDateAfterEndDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DateIsInRangePredicate(END_DATE, START_DATE));
+    }
+
+    @Test
+    public void equals() {
+        DateIsInRangePredicate firstPredicate = new DateIsInRangePredicate(START_DATE, END_DATE);
+        DateIsInRangePredicate secondPredicate = new DateIsInRangePredicate(START_DATE, START_DATE);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new DateIsInRangePredicate(START_DATE, END_DATE)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same range as a single date -> returns false
+        assertFalse(secondPredicate.equals(new DateIsEqualsPredicate("1-1-2021")));
+    }
+
+    @Test
+    public void test_expiryDateInRange_returnsTrue() {
+        DateIsInRangePredicate predicate = new DateIsInRangePredicate(START_DATE, END_DATE);
+        assertTrue(predicate.test(new CouponBuilder().withExpiryDate("1-1-2021").build()));
+        assertTrue(predicate.test(new CouponBuilder().withExpiryDate("14-2-2021").build()));
+        assertTrue(predicate.test(new CouponBuilder().withExpiryDate("31-3-2021").build()));
+    }
+
+    @Test
+    public void test_expiryDateOutOfRange_returnsFalse() {
+        DateIsInRangePredicate predicate = new DateIsInRangePredicate(START_DATE, END_DATE);
+        assertFalse(predicate.test(new CouponBuilder().withExpiryDate("31-12-2020").build()));
+        assertFalse(predicate.test(new CouponBuilder().withExpiryDate("1-4-2021").build()));
+    }
+
+    @Test
+    public void getStartDateAndEndDate_monthYearPredicate_wholeMonth() {
+        DateIsInMonthYearPredicate predicate = new DateIsInMonthYearPredicate(YearMonth.of(2020, 2));
+        assertEquals(LocalDate.of(2020, 2, 1), predicate.getStartDate());
+        assertEquals(LocalDate.of(2020, 2, 29), predicate.getEndDate());
+    }
+
+    @Test
+    public void getDate_range_bothDates() {
+        assertEquals("1-1-2021 to 31-3-2021", new DateIsInRangePredicate(START_DATE, END_DATE).getDate());
+    }
+}
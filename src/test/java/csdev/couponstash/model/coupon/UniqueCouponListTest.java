@@ -45,6 +45,12 @@ public class UniqueCouponListTest {
         assertTrue(uniqueCouponList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_archivedCouponWithSameIdentityFieldsInList_returnsFalse() {
+        uniqueCouponList.add(TypicalCoupons.ALICE);
+        assertFalse(uniqueCouponList.contains(TypicalCoupons.ALICE.archive()));
+    }
+
     @Test
     public void add_nullCoupon_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCouponList.add(null));
@@ -56,6 +62,13 @@ public class UniqueCouponListTest {
         assertThrows(DuplicateCouponException.class, () -> uniqueCouponList.add(TypicalCoupons.ALICE));
     }
 
+    @Test
+    public void add_archivedCouponWithSameIdentityFields_success() {
+        uniqueCouponList.add(TypicalCoupons.ALICE);
+        uniqueCouponList.add(TypicalCoupons.ALICE.archive());
+        assertEquals(2, uniqueCouponList.asUnmodifiableObservableList().size());
+    }
+
     @Test
     public void setCoupon_nullTargetCoupon_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCouponList.setCoupon(null, TypicalCoupons.ALICE));
@@ -127,6 +140,23 @@ public class UniqueCouponListTest {
         assertEquals(expectedUniqueCouponList, uniqueCouponList);
     }
 
+    @Test
+    public void remove_existingCoupon_allowsCouponToBeAddedAgain() {
+        uniqueCouponList.add(TypicalCoupons.ALICE);
+        uniqueCouponList.remove(TypicalCoupons.ALICE);
+        assertFalse(uniqueCouponList.contains(TypicalCoupons.ALICE));
+        uniqueCouponList.add(TypicalCoupons.ALICE);
+        assertTrue(uniqueCouponList.contains(TypicalCoupons.ALICE));
+    }
+
+    @Test
+    public void setCoupon_editedCouponHasDifferentIdentity_replacesIdentity() {
+        uniqueCouponList.add(TypicalCoupons.ALICE);
+        uniqueCouponList.setCoupon(TypicalCoupons.ALICE, TypicalCoupons.BOB);
+        assertFalse(uniqueCouponList.contains(TypicalCoupons.ALICE));
+        assertTrue(uniqueCouponList.contains(TypicalCoupons.BOB));
+    }
+
     @Test
     public void setCoupons_nullUniqueCouponList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCouponList.setCoupons((UniqueCouponList) null));
@@ -162,6 +192,22 @@ public class UniqueCouponListTest {
         assertThrows(DuplicateCouponException.class, () -> uniqueCouponList.setCoupons(listWithDuplicateCoupons));
     }
 
+    @Test
+    public void setCoupons_listWithSameIdentityCoupons_throwsDuplicateCouponException() {
+        Coupon editedAlice = new CouponBuilder(TypicalCoupons.ALICE).withTags(CommandTestUtil.VALID_TAG_HUSBAND)
+                .build();
+        List<Coupon> listWithDuplicateCoupons = Arrays.asList(TypicalCoupons.ALICE, editedAlice);
+        assertThrows(DuplicateCouponException.class, () -> uniqueCouponList.setCoupons(listWithDuplicateCoupons));
+    }
+
+    @Test
+    public void setCoupons_list_replacesIdentities() {
+        uniqueCouponList.add(TypicalCoupons.ALICE);
+        uniqueCouponList.setCoupons(Collections.singletonList(TypicalCoupons.BOB));
+        assertFalse(uniqueCouponList.contains(TypicalCoupons.ALICE));
+        assertTrue(uniqueCouponList.contains(TypicalCoupons.BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,47 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Cents.
+ */
+public class CentsTest {
+
+    @Test
+    public void add_sumTooLarge_throwsArithmeticException() {
+        assertEquals(Cents.MAX_VALUE, Cents.add(Cents.MAX_VALUE - 1, 1));
+        assertThrows(ArithmeticException.class, () -> Cents.add(Cents.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Cents.add(Long.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void isValid() {
+        assertFalse(Cents.isValid(-1));
+        assertFalse(Cents.isValid(Cents.MAX_VALUE + 1));
+
+        assertTrue(Cents.isValid(0));
+        assertTrue(Cents.isValid(Cents.MAX_VALUE));
+    }
+
+    @Test
+    public void format_variousAmounts_twoDecimalPlaces() {
+        assertEquals("0.00", Cents.format(0));
+        assertEquals("0.05", Cents.format(5));
+        assertEquals("12.30", Cents.format(1230));
+        assertEquals("-0.05", Cents.format(-5));
+        assertEquals("-12.05", Cents.format(-1205));
+        assertEquals(String.format("%d.99", Integer.MAX_VALUE), Cents.format(Cents.MAX_VALUE));
+    }
+
+    @Test
+    public void toDouble_sameAsParsingFormattedAmount() {
+        for (long cents = 0; cents < 100_000; cents += 7) {
+            assertEquals(Double.parseDouble(Cents.format(cents)), Cents.toDouble(cents));
+        }
+    }
+}
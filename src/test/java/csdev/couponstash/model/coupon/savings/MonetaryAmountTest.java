@@ -52,6 +52,34 @@ public class MonetaryAmountTest {
                 new MonetaryAmount(14, 40));
     }
 
+    @Test
+    public void add_sumTooLarge_returnsOriginalAmount() {
+        MonetaryAmount largest = MonetaryAmount.ofCents(Cents.MAX_VALUE);
+        assertEquals(largest, largest.add(new MonetaryAmount(0, 1)));
+    }
+
+    @Test
+    public void compareTo_amountsOneCentApart_exactOrder() {
+        MonetaryAmount large = new MonetaryAmount(Integer.MAX_VALUE, 98);
+        MonetaryAmount larger = new MonetaryAmount(Integer.MAX_VALUE, 99);
+        assertTrue(large.compareTo(larger) < 0);
+        assertTrue(larger.compareTo(large) > 0);
+        assertEquals(0, large.compareTo(MonetaryAmount.ofCents(large.getCents())));
+    }
+
+    @Test
+    public void ofCents_invalidCents_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> MonetaryAmount.ofCents(-1));
+        assertThrows(IllegalArgumentException.class, () -> MonetaryAmount.ofCents(Cents.MAX_VALUE + 1));
+        assertEquals(new MonetaryAmount(12, 5), MonetaryAmount.ofCents(1205));
+    }
+
+    @Test
+    public void toString_monetaryAmount_twoDecimalPlaces() {
+        assertEquals("$12.05", new MonetaryAmount(12, 5).toString());
+        assertEquals("£0.50", new MonetaryAmount(0, 50).getStringWithMoneySymbol("£"));
+    }
+
     @Test
     public void isValidMonetaryAmount() {
         // invalid monetaryAmount
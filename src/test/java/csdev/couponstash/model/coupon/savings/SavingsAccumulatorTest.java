@@ -0,0 +1,83 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SavingsAccumulator.
+ */
+public class SavingsAccumulatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2020, 3, 14);
+
+    @Test
+    public void toPureMonetarySavings_nothingAdded_noSavings() {
+        assertEquals(new PureMonetarySavings(), new SavingsAccumulator().toPureMonetarySavings());
+    }
+
+    @Test
+    public void add_manyPureMonetarySavings_sameAsAddingPairwise() {
+        PureMonetarySavings[] savings = {
+            new PureMonetarySavings(new MonetaryAmount(282, 45),
+                    Arrays.asList(new Saveable("Belgium", 3), new Saveable("Netherlands", 14))),
+            new PureMonetarySavings(new MonetaryAmount(13, 78)),
+            new PureMonetarySavings(new MonetaryAmount(0, 99),
+                    Arrays.asList(new Saveable("Netherlands", 2), new Saveable("Czechia", 8)))
+        };
+
+        SavingsAccumulator accumulator = new SavingsAccumulator();
+        PureMonetarySavings expected = new PureMonetarySavings();
+        for (PureMonetarySavings pms : savings) {
+            accumulator.add(pms);
+            expected = expected.add(pms);
+        }
+        assertEquals(expected, accumulator.toPureMonetarySavings());
+        assertEquals(29722, accumulator.getCents());
+    }
+
+    @Test
+    public void addAll_mapAndSavingsHistory_sameSum() {
+        DateSavingsSumMap dssm = new DateSavingsSumMap();
+        dssm.put(DATE, new PureMonetarySavings(new MonetaryAmount(11, 35),
+                Arrays.asList(new Saveable("Mozzarella"), new Saveable("Gouda"))));
+        dssm.put(DATE.plusDays(1), new PureMonetarySavings(new MonetaryAmount(91, 25),
+                Arrays.asList(new Saveable("Gouda", 4))));
+
+        PureMonetarySavings expected = new PureMonetarySavings(new MonetaryAmount(102, 60),
+                Arrays.asList(new Saveable("Mozzarella"), new Saveable("Gouda", 5)));
+        assertEquals(expected, new SavingsAccumulator().addAll(dssm).toPureMonetarySavings());
+        assertEquals(expected, new SavingsAccumulator().addAll(SavingsHistory.of(dssm)).toPureMonetarySavings());
+    }
+
+    @Test
+    public void addBetween_datesOutsideRange_notAdded() {
+        SavingsHistory history = SavingsHistory.EMPTY
+                .add(DATE.minusDays(1), new PureMonetarySavings(new MonetaryAmount(1, 0)))
+                .add(DATE, new PureMonetarySavings(new MonetaryAmount(2, 0)))
+                .add(DATE.plusDays(2), new PureMonetarySavings(new MonetaryAmount(4, 0)))
+                .add(DATE.plusDays(3), new PureMonetarySavings(new MonetaryAmount(8, 0)));
+
+        assertEquals(600, new SavingsAccumulator().addBetween(history, DATE, DATE.plusDays(2)).getCents());
+        assertEquals(0, new SavingsAccumulator().addBetween(history, DATE.plusDays(1), DATE.plusDays(1)).getCents());
+        assertEquals(0, new SavingsAccumulator().addBetween(history, DATE.plusDays(2), DATE).getCents());
+    }
+
+    @Test
+    public void toPureMonetarySavings_sumTooLarge_cappedAtLargestAmount() {
+        SavingsAccumulator accumulator = new SavingsAccumulator()
+                .addCents(Cents.MAX_VALUE)
+                .addCents(Cents.MAX_VALUE);
+        assertEquals(new PureMonetarySavings(MonetaryAmount.ofCents(Cents.MAX_VALUE)),
+                accumulator.toPureMonetarySavings());
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SavingsAccumulator().add(null));
+    }
+}
@@ -0,0 +1,103 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SavingsHistory.
+ */
+public class SavingsHistoryTest {
+
+    private static final LocalDate EARLY_DATE = LocalDate.of(2003, 8, 8);
+    private static final LocalDate LATE_DATE = LocalDate.of(2033, 8, 25);
+
+    @Test
+    public void add_sameDate_savingsSummed() {
+        SavingsHistory history = SavingsHistory.EMPTY
+                .add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(80, 65),
+                        Arrays.asList(new Saveable("Havarti", 5), new Saveable("Brie", 9))))
+                .add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(57, 83),
+                        Arrays.asList(new Saveable("Havarti", 12), new Saveable("Cheddar", 3))));
+
+        PureMonetarySavings expected = new PureMonetarySavings(new MonetaryAmount(138, 48),
+                Arrays.asList(new Saveable("Havarti", 17), new Saveable("Brie", 9),
+                        new Saveable("Cheddar", 3)));
+        assertEquals(1, history.size());
+        assertEquals(13848, history.getCents(0));
+        assertEquals(Optional.of(expected), history.get(EARLY_DATE));
+    }
+
+    @Test
+    public void add_differentDates_keptSortedByDate() {
+        SavingsHistory history = SavingsHistory.EMPTY
+                .add(LATE_DATE, new PureMonetarySavings(new MonetaryAmount(34, 68)))
+                .add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(5, 0)));
+
+        assertEquals(2, history.size());
+        assertEquals(EARLY_DATE, history.getDate(0));
+        assertEquals(LATE_DATE.toEpochDay(), history.getEpochDay(1));
+        assertFalse(history.getSaveables(0).isPresent());
+        assertEquals(Optional.empty(), history.get(LATE_DATE.minusDays(1)));
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(39, 68)), history.getTotal());
+    }
+
+    @Test
+    public void add_existingHistory_notModified() {
+        SavingsHistory history = SavingsHistory.EMPTY
+                .add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(1, 0)));
+        history.add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(2, 0)));
+        history.add(LATE_DATE, new PureMonetarySavings(new MonetaryAmount(3, 0)));
+
+        assertEquals(1, history.size());
+        assertEquals(100, history.getCents(0));
+        assertTrue(SavingsHistory.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void ofAndAsMap_dateSavingsSumMap_sameSavings() {
+        DateSavingsSumMap dssm = new DateSavingsSumMap();
+        dssm.put(LATE_DATE, new PureMonetarySavings(new MonetaryAmount(11, 35),
+                Arrays.asList(new Saveable("Mozzarella"), new Saveable("Gouda"))));
+        dssm.put(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(91, 25)));
+
+        SavingsHistory history = SavingsHistory.of(dssm);
+        assertEquals(dssm, history.asMap());
+        assertEquals(history, SavingsHistory.EMPTY
+                .add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(91, 25)))
+                .add(LATE_DATE, new PureMonetarySavings(new MonetaryAmount(11, 35),
+                        Arrays.asList(new Saveable("Mozzarella"), new Saveable("Gouda")))));
+    }
+
+    @Test
+    public void asMap_view_readOnlyAndSortedByDate() {
+        SavingsHistory history = SavingsHistory.EMPTY
+                .add(LATE_DATE, new PureMonetarySavings(new MonetaryAmount(3, 0)))
+                .add(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(1, 0)));
+        Map<LocalDate, PureMonetarySavings> map = history.asMap();
+
+        assertEquals(List.of(EARLY_DATE, LATE_DATE), new ArrayList<>(map.keySet()));
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(3, 0)), map.get(LATE_DATE));
+        assertTrue(map.containsKey(EARLY_DATE));
+        assertFalse(map.containsKey(EARLY_DATE.minusDays(1)));
+        assertThrows(UnsupportedOperationException.class, () ->
+                map.put(EARLY_DATE, new PureMonetarySavings(new MonetaryAmount(5, 0))));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(EARLY_DATE));
+    }
+
+    @Test
+    public void add_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                SavingsHistory.EMPTY.add(null, new PureMonetarySavings()));
+    }
+}
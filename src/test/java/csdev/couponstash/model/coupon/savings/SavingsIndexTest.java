@@ -0,0 +1,116 @@
+package csdev.couponstash.model.coupon.savings;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SavingsIndex.
+ */
+public class SavingsIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2020, 3, 14);
+
+    private final SavingsIndex savingsIndex = new SavingsIndex();
+
+    @Test
+    public void getSavingsBetween_emptyIndex_noSavings() {
+        assertEquals(new PureMonetarySavings(), savingsIndex.getSavingsBetween(DATE, DATE.plusDays(7)));
+    }
+
+    @Test
+    public void getSavingsBetween_savingsOnEnds_endsIncluded() {
+        savingsIndex.add(SavingsHistory.EMPTY
+                .add(DATE, new PureMonetarySavings(new MonetaryAmount(1, 50)))
+                .add(DATE.plusDays(7), new PureMonetarySavings(new MonetaryAmount(2, 75)))
+                .add(DATE.plusDays(8), new PureMonetarySavings(new MonetaryAmount(4, 0))));
+
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(4, 25)),
+                savingsIndex.getSavingsBetween(DATE, DATE.plusDays(7)));
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(2, 75)),
+                savingsIndex.getSavingsBetween(DATE.plusDays(7), DATE.plusDays(7)));
+        assertEquals(new PureMonetarySavings(),
+                savingsIndex.getSavingsBetween(DATE.plusDays(1), DATE.plusDays(6)));
+    }
+
+    @Test
+    public void getSavingsBetween_savingsFarApart_indexGrowsBothWays() {
+        SavingsHistory early = SavingsHistory.EMPTY
+                .add(DATE.minusYears(30), new PureMonetarySavings(new MonetaryAmount(3, 0)));
+        SavingsHistory late = SavingsHistory.EMPTY
+                .add(DATE.plusYears(30), new PureMonetarySavings(new MonetaryAmount(5, 0)));
+        savingsIndex.add(SavingsHistory.EMPTY.add(DATE, new PureMonetarySavings(new MonetaryAmount(1, 0))));
+        savingsIndex.add(early);
+        savingsIndex.add(late);
+
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(9, 0)),
+                savingsIndex.getSavingsBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(4, 0)),
+                savingsIndex.getSavingsBetween(DATE.minusYears(30), DATE));
+
+        savingsIndex.remove(early);
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(6, 0)),
+                savingsIndex.getSavingsBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void getSavingsBetween_saveables_countedInRangeOnly() {
+        SavingsHistory history = SavingsHistory.EMPTY
+                .add(DATE, new PureMonetarySavings(new MonetaryAmount(1, 0),
+                        Arrays.asList(new Saveable("Brie", 2))))
+                .add(DATE.plusDays(1), new PureMonetarySavings(new MonetaryAmount(1, 0),
+                        Arrays.asList(new Saveable("Brie"), new Saveable("Gouda"))))
+                .add(DATE.plusDays(2), new PureMonetarySavings(new MonetaryAmount(1, 0),
+                        Arrays.asList(new Saveable("Cheddar"))));
+        savingsIndex.add(history);
+
+        PureMonetarySavings savings = savingsIndex.getSavingsBetween(DATE, DATE.plusDays(1));
+        List<Saveable> saveables = savings.getListOfSaveables();
+        List<Saveable> expectedSaveables = Arrays.asList(new Saveable("Brie", 3), new Saveable("Gouda"));
+        saveables.sort(Saveable::compareTo);
+        expectedSaveables.sort(Saveable::compareTo);
+        assertEquals(new MonetaryAmount(2, 0), savings.getMonetaryAmount().get());
+        assertEquals(expectedSaveables, saveables);
+
+        // removed Saveables no longer show up at all
+        savingsIndex.remove(history);
+        assertEquals(new PureMonetarySavings(), savingsIndex.getSavingsBetween(DATE, DATE.plusDays(2)));
+    }
+
+    @Test
+    public void getSavingsBetween_randomHistories_sameAsSummingEachHistory() {
+        Random random = new Random(42);
+        List<SavingsHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            SavingsHistory history = SavingsHistory.EMPTY;
+            for (int j = 0; j < 20; j++) {
+                history = history.add(DATE.plusDays(random.nextInt(5000) - 2500),
+                        new PureMonetarySavings(new MonetaryAmount(random.nextInt(100), random.nextInt(100))));
+            }
+            histories.add(history);
+            savingsIndex.add(history);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            LocalDate startDate = DATE.plusDays(random.nextInt(6000) - 3000);
+            LocalDate endDate = startDate.plusDays(random.nextInt(1000));
+            PureMonetarySavings expected = new PureMonetarySavings();
+            for (SavingsHistory history : histories) {
+                expected = expected.add(history.getSavingsBetween(startDate, endDate));
+            }
+            assertEquals(expected, savingsIndex.getSavingsBetween(startDate, endDate));
+        }
+    }
+
+    @Test
+    public void getSavingsBetween_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> savingsIndex.getSavingsBetween(null, DATE));
+    }
+}
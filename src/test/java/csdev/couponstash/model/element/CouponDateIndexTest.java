@@ -0,0 +1,100 @@
+package csdev.couponstash.model.element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.testutil.CouponBuilder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Unit tests for CouponDateIndex.
+ */
+public class CouponDateIndexTest {
+
+    private static final LocalDate AUGUST_30 = LocalDate.of(2020, 8, 30);
+
+    private static final Coupon PIZZA = new CouponBuilder().withName("Pizza").withExpiryDate("30-08-2020").build();
+    private static final Coupon PASTA = new CouponBuilder().withName("Pasta").withExpiryDate("30-08-2020").build();
+    private static final Coupon SALAD = new CouponBuilder().withName("Salad").withExpiryDate("01-09-2020").build();
+    private static final Coupon SOUP = new CouponBuilder().withName("Soup").withExpiryDate("01-10-2020").build();
+
+    @Test
+    public void getCouponsOn_existingCoupons_couponsOnDate() {
+        CouponDateIndex index = newExpiryIndex(FXCollections.observableArrayList(PIZZA, SALAD, PASTA));
+        assertEquals(List.of(PIZZA, PASTA), index.getCouponsOn(AUGUST_30));
+        assertEquals(List.of(SALAD), index.getCouponsOn(AUGUST_30.plusDays(2)));
+        assertTrue(index.getCouponsOn(AUGUST_30.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void forEachBetween_range_onlyDatesInRangeInOrder() {
+        CouponDateIndex index = newExpiryIndex(FXCollections.observableArrayList(SOUP, SALAD, PIZZA, PASTA));
+        Map<LocalDate, List<Coupon>> found = new LinkedHashMap<>();
+        index.forEachBetween(AUGUST_30, AUGUST_30.plusDays(2), (date, coupons) -> found.put(date, coupons));
+        assertEquals(List.of(AUGUST_30, AUGUST_30.plusDays(2)), new ArrayList<>(found.keySet()));
+        assertEquals(List.of(SALAD), found.get(AUGUST_30.plusDays(2)));
+
+        found.clear();
+        index.forEachBetween(AUGUST_30.plusDays(2), AUGUST_30, (date, coupons) -> found.put(date, coupons));
+        assertTrue(found.isEmpty());
+
+        index.forEachBetween(LocalDate.MIN, LocalDate.MAX, (date, coupons) -> found.put(date, coupons));
+        assertEquals(3, found.size());
+    }
+
+    @Test
+    public void getCouponsBetween_range_onlyCouponsInRange() {
+        CouponDateIndex index = newExpiryIndex(FXCollections.observableArrayList(SOUP, SALAD, PIZZA, PASTA));
+        assertEquals(Set.of(PIZZA, PASTA, SALAD), index.getCouponsBetween(AUGUST_30, AUGUST_30.plusDays(2)));
+        assertTrue(index.getCouponsBetween(AUGUST_30.plusDays(2), AUGUST_30).isEmpty());
+    }
+
+    @Test
+    public void listChanges_sameAsFilteringEveryCoupon() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(PIZZA, SALAD);
+        CouponDateIndex index = newExpiryIndex(coupons);
+        int version = index.getVersion();
+
+        coupons.add(PASTA);
+        coupons.set(1, SOUP);
+        coupons.remove(PIZZA);
+        assertSameAsFilteringEveryCoupon(coupons, index);
+        assertNotEquals(version, index.getVersion());
+
+        coupons.setAll(PIZZA, PASTA, SALAD);
+        assertSameAsFilteringEveryCoupon(coupons, index);
+
+        coupons.clear();
+        assertSameAsFilteringEveryCoupon(coupons, index);
+    }
+
+    private static CouponDateIndex newExpiryIndex(ObservableList<Coupon> coupons) {
+        return new CouponDateIndex(coupons, coupon -> coupon.getExpiryDate().getDate());
+    }
+
+    private static void assertSameAsFilteringEveryCoupon(List<Coupon> coupons, CouponDateIndex index) {
+        for (LocalDate date = AUGUST_30; !date.isAfter(AUGUST_30.plusMonths(2)); date = date.plusDays(1)) {
+            LocalDate expiryDate = date;
+            Predicate<Coupon> isExpiringOnDate = coupon -> coupon.getExpiryDate().getDate().equals(expiryDate);
+            List<Coupon> expected = new ArrayList<>();
+            coupons.stream().filter(isExpiringOnDate).forEach(expected::add);
+            List<Coupon> actual = index.getCouponsOn(date);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+}
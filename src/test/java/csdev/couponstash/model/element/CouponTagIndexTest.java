@@ -0,0 +1,92 @@
+package csdev.couponstash.model.element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.tag.Tag;
+import csdev.couponstash.model.tag.TagQuery;
+import csdev.couponstash.testutil.CouponBuilder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Unit tests for CouponTagIndex.
+ */
+public class CouponTagIndexTest {
+
+    private static final Tag FOOD = new Tag("food");
+    private static final Tag GRAB = new Tag("grab");
+    private static final Tag CHEAP = new Tag("cheap");
+
+    private static final Coupon PIZZA = new CouponBuilder().withName("Pizza").withTags("food", "cheap").build();
+    private static final Coupon TAXI = new CouponBuilder().withName("Taxi").withTags("grab").build();
+    private static final Coupon SALAD = new CouponBuilder().withName("Salad").withTags("food", "grab").build();
+    private static final Coupon SHOES = new CouponBuilder().withName("Shoes").withTags().build();
+
+    private static final List<TagQuery> QUERIES = List.of(
+            TagQuery.EMPTY,
+            new TagQuery(Set.of(FOOD, GRAB), Set.of(), Set.of()),
+            new TagQuery(Set.of(), Set.of(FOOD, GRAB), Set.of()),
+            new TagQuery(Set.of(), Set.of(), Set.of(FOOD)),
+            new TagQuery(Set.of(FOOD), Set.of(), Set.of(CHEAP)),
+            new TagQuery(Set.of(GRAB, CHEAP), Set.of(FOOD), Set.of()),
+            new TagQuery(Set.of(new Tag("unknown")), Set.of(), Set.of()));
+
+    @Test
+    public void getCount_existingCoupons_countPerTag() {
+        CouponTagIndex index = new CouponTagIndex(FXCollections.observableArrayList(PIZZA, TAXI, SALAD, SHOES));
+        assertEquals(2, index.getCount(FOOD));
+        assertEquals(2, index.getCount(GRAB));
+        assertEquals(1, index.getCount(CHEAP));
+        assertEquals(0, index.getCount(new Tag("unknown")));
+    }
+
+    @Test
+    public void getCouponsMatching_queries_sameAsTestingEveryCoupon() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(PIZZA, TAXI, SALAD, SHOES);
+        assertSameAsTestingEveryCoupon(coupons, new CouponTagIndex(coupons));
+    }
+
+    @Test
+    public void listChanges_sameAsTestingEveryCoupon() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(PIZZA, TAXI);
+        CouponTagIndex index = new CouponTagIndex(coupons);
+        int version = index.getVersion();
+
+        coupons.add(SALAD);
+        coupons.set(0, SHOES);
+        assertSameAsTestingEveryCoupon(coupons, index);
+        assertNotEquals(version, index.getVersion());
+
+        // ordinal of the removed coupon is given to the next coupon added
+        coupons.remove(TAXI);
+        coupons.add(PIZZA);
+        assertSameAsTestingEveryCoupon(coupons, index);
+        assertEquals(2, index.getCount(FOOD));
+        assertEquals(1, index.getCount(GRAB));
+
+        coupons.setAll(TAXI, SHOES);
+        assertSameAsTestingEveryCoupon(coupons, index);
+
+        coupons.clear();
+        assertSameAsTestingEveryCoupon(coupons, index);
+        assertEquals(0, index.getCount(FOOD));
+    }
+
+    private static void assertSameAsTestingEveryCoupon(List<Coupon> coupons, CouponTagIndex index) {
+        for (TagQuery query : QUERIES) {
+            Set<Coupon> matches = index.getCouponsMatching(query);
+            assertEquals(coupons.stream().filter(query).count(), matches.size(), query.toString());
+            for (Coupon coupon : coupons) {
+                assertEquals(query.test(coupon), matches.contains(coupon), query + " " + coupon.getName());
+            }
+        }
+    }
+}
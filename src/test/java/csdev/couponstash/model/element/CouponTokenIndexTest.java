@@ -0,0 +1,74 @@
+package csdev.couponstash.model.element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.commons.util.StringUtil;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.NameContainsKeywordsPredicate;
+import csdev.couponstash.testutil.CouponBuilder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Unit tests for CouponTokenIndex.
+ */
+public class CouponTokenIndexTest {
+
+    private static final Coupon PIZZA = new CouponBuilder().withName("Pizza Hut").build();
+    private static final Coupon PASTA = new CouponBuilder().withName("Pasta Hut").build();
+    private static final Coupon SALAD = new CouponBuilder().withName("Salad Stop").build();
+    private static final Coupon SOUP = new CouponBuilder().withName("Soup Stop").build();
+
+    @Test
+    public void getCouponsWithAnyToken_existingCoupons_unionOfTokens() {
+        CouponTokenIndex index = newNameIndex(FXCollections.observableArrayList(PIZZA, PASTA, SALAD));
+        assertEquals(Set.of(PIZZA, PASTA), index.getCouponsWithAnyToken(List.of("hut")));
+        assertEquals(Set.of(PIZZA, SALAD), index.getCouponsWithAnyToken(List.of("pizza", "salad", "burger")));
+        assertTrue(index.getCouponsWithAnyToken(List.of("piz")).isEmpty());
+    }
+
+    @Test
+    public void listChanges_sameAsNameContainsKeywordsPredicate() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(PIZZA, SALAD);
+        CouponTokenIndex index = newNameIndex(coupons);
+        List<String> keywords = List.of("hut", "soup");
+        int version = index.getVersion();
+
+        coupons.add(PASTA);
+        coupons.set(1, SOUP);
+        assertSameAsPredicate(coupons, keywords, index);
+        assertFalse(index.getCouponsWithAnyToken(keywords).contains(SALAD));
+        assertNotEquals(version, index.getVersion());
+
+        coupons.remove(PIZZA);
+        assertSameAsPredicate(coupons, keywords, index);
+        assertFalse(index.getCouponsWithAnyToken(keywords).contains(PIZZA));
+
+        coupons.setAll(SALAD, PIZZA);
+        assertSameAsPredicate(coupons, keywords, index);
+
+        coupons.clear();
+        assertTrue(index.getCouponsWithAnyToken(keywords).isEmpty());
+    }
+
+    private static CouponTokenIndex newNameIndex(ObservableList<Coupon> coupons) {
+        return new CouponTokenIndex(coupons, coupon -> StringUtil.getLowerCaseWords(coupon.getName().fullName));
+    }
+
+    private static void assertSameAsPredicate(List<Coupon> coupons, List<String> keywords, CouponTokenIndex index) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        Set<Coupon> matches = index.getCouponsWithAnyToken(keywords);
+        for (Coupon coupon : coupons) {
+            assertEquals(predicate.test(coupon), matches.contains(coupon));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package csdev.couponstash.model.element;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.DateIsInRangePredicate;
+import csdev.couponstash.testutil.CouponBuilder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Unit tests for FoundCouponsPredicate.
+ */
+public class FoundCouponsPredicateTest {
+
+    private static final LocalDate AUGUST_30 = LocalDate.of(2020, 8, 30);
+    private static final DateIsInRangePredicate AUGUST_30_ONLY = new DateIsInRangePredicate(AUGUST_30, AUGUST_30);
+
+    private static final Coupon PIZZA = new CouponBuilder().withName("Pizza").withExpiryDate("30-08-2020").build();
+    private static final Coupon PASTA = new CouponBuilder().withName("Pasta").withExpiryDate("30-08-2020").build();
+    private static final Coupon SALAD = new CouponBuilder().withName("Salad").withExpiryDate("01-09-2020").build();
+
+    @Test
+    public void test_indexUnchanged_onlyFoundCoupons() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(PIZZA, SALAD);
+        CouponDateIndex index = new CouponDateIndex(coupons, coupon -> coupon.getExpiryDate().getDate());
+        FoundCouponsPredicate predicate = new FoundCouponsPredicate(index.getCouponsBetween(AUGUST_30, AUGUST_30),
+                index::getVersion, AUGUST_30_ONLY);
+
+        assertTrue(predicate.test(PIZZA));
+        assertFalse(predicate.test(SALAD));
+        // not in the list when the coupons were found
+        assertFalse(predicate.test(PASTA));
+    }
+
+    @Test
+    public void test_indexChanged_couponsTestedWithQuery() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(PIZZA, SALAD);
+        CouponDateIndex index = new CouponDateIndex(coupons, coupon -> coupon.getExpiryDate().getDate());
+        FoundCouponsPredicate predicate = new FoundCouponsPredicate(index.getCouponsBetween(AUGUST_30, AUGUST_30),
+                index::getVersion, AUGUST_30_ONLY);
+
+        coupons.add(PASTA);
+        assertTrue(predicate.test(PASTA));
+        assertTrue(predicate.test(PIZZA));
+        assertFalse(predicate.test(SALAD));
+    }
+}
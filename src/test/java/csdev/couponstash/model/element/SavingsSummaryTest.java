@@ -0,0 +1,112 @@
+package csdev.couponstash.model.element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.savings.DateSavingsSumMap;
+import csdev.couponstash.model.coupon.savings.MonetaryAmount;
+import csdev.couponstash.model.coupon.savings.PureMonetarySavings;
+import csdev.couponstash.model.coupon.savings.Saveable;
+import csdev.couponstash.testutil.CouponBuilder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Unit tests for SavingsSummary.
+ */
+public class SavingsSummaryTest {
+
+    // a Saturday, in the week starting on Monday 2020-03-09
+    private static final LocalDate SATURDAY = LocalDate.of(2020, 3, 14);
+    private static final LocalDate WEEK = LocalDate.of(2020, 3, 9);
+
+    @Test
+    public void getWeekOf_anyDayOfWeek_returnsMonday() {
+        for (int i = 0; i < 7; i++) {
+            assertEquals(WEEK, SavingsSummary.getWeekOf(WEEK.plusDays(i)));
+        }
+        assertEquals(WEEK.plusWeeks(1), SavingsSummary.getWeekOf(WEEK.plusDays(7)));
+    }
+
+    @Test
+    public void constructor_existingCoupons_summedUpByWeek() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(
+                couponWithSavings("Pizza", SATURDAY, 1250, "Drink"),
+                couponWithSavings("Pasta", SATURDAY.plusDays(1), 300, "Drink"),
+                couponWithSavings("Salad", SATURDAY.plusDays(2), 99, null));
+        SavingsSummary summary = new SavingsSummary(coupons);
+
+        assertEquals(Map.of(WEEK, 1550L, WEEK.plusWeeks(1), 99L), summary.getCentsByWeek());
+        assertEquals(1649, summary.getTotalCents());
+        assertEquals(Map.of("Drink", 2), summary.getSaveableCounts());
+        assertEquals(new PureMonetarySavings(new MonetaryAmount(16, 49), List.of(new Saveable("Drink", 2))),
+                summary.getTotal());
+    }
+
+    @Test
+    public void listChanges_sameAsNewSummary() {
+        ObservableList<Coupon> coupons = FXCollections.observableArrayList(
+                couponWithSavings("Pizza", SATURDAY, 1250, "Drink"));
+        SavingsSummary summary = new SavingsSummary(coupons);
+
+        // add
+        coupons.add(couponWithSavings("Pasta", SATURDAY.plusWeeks(3), 300, "Bread"));
+        assertSameAsNewSummary(coupons, summary);
+        assertEquals(Map.of(WEEK, 1250L, WEEK.plusWeeks(3), 300L), summary.getCentsByWeek());
+
+        // set, such as when a coupon is edited or used
+        coupons.set(0, couponWithSavings("Pizza", SATURDAY.plusDays(2), 2000, null));
+        assertSameAsNewSummary(coupons, summary);
+        assertEquals(Map.of(WEEK.plusWeeks(1), 2000L, WEEK.plusWeeks(3), 300L), summary.getCentsByWeek());
+        assertEquals(Map.of("Bread", 1), summary.getSaveableCounts());
+
+        // remove
+        coupons.remove(1);
+        assertSameAsNewSummary(coupons, summary);
+        assertEquals(Map.of(WEEK.plusWeeks(1), 2000L), summary.getCentsByWeek());
+        assertTrue(summary.getSaveableCounts().isEmpty());
+
+        // set all, such as when the stash is reset
+        coupons.setAll(Arrays.asList(couponWithSavings("Salad", SATURDAY, 0, "Soup"),
+                couponWithSavings("Soup", SATURDAY, 15, null)));
+        assertSameAsNewSummary(coupons, summary);
+        assertEquals(Map.of(WEEK, 15L), summary.getCentsByWeek());
+
+        coupons.clear();
+        assertSameAsNewSummary(coupons, summary);
+        assertTrue(summary.getCentsByWeek().isEmpty());
+        assertEquals(0, summary.getTotalCents());
+    }
+
+    @Test
+    public void getCentsByWeek_onlySaveablesInWeek_weekIncluded() {
+        SavingsSummary summary = new SavingsSummary(FXCollections.observableArrayList(
+                couponWithSavings("Burger", SATURDAY, 0, "Fries")));
+        assertEquals(Map.of(WEEK, 0L), summary.getCentsByWeek());
+    }
+
+    private static void assertSameAsNewSummary(ObservableList<Coupon> coupons, SavingsSummary summary) {
+        SavingsSummary expected = new SavingsSummary(FXCollections.observableArrayList(coupons));
+        assertEquals(expected.getCentsByWeek(), summary.getCentsByWeek());
+        assertEquals(expected.getTotalCents(), summary.getTotalCents());
+        assertEquals(expected.getSaveableCounts(), summary.getSaveableCounts());
+    }
+
+    private static Coupon couponWithSavings(String name, LocalDate date, long cents, String saveable) {
+        MonetaryAmount monetaryAmount = MonetaryAmount.ofCents(cents);
+        DateSavingsSumMap dssm = new DateSavingsSumMap();
+        dssm.put(date, saveable == null
+                ? new PureMonetarySavings(monetaryAmount)
+                : new PureMonetarySavings(monetaryAmount, List.of(new Saveable(saveable))));
+        return new CouponBuilder().withName(name).withTotalSavings(dssm).build();
+    }
+}
@@ -0,0 +1,158 @@
+package csdev.couponstash.model.history;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static csdev.couponstash.testutil.TypicalCoupons.ALICE;
+import static csdev.couponstash.testutil.TypicalCoupons.BOB;
+import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCoupons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.testutil.CouponBuilder;
+
+public class CouponStashSnapshotTest {
+
+    @Test
+    public void of_typicalCoupons_containsCouponsInOrder() {
+        List<Coupon> coupons = getTypicalCoupons();
+        CouponStashSnapshot snapshot = CouponStashSnapshot.of(coupons);
+        assertEquals(coupons.size(), snapshot.size());
+        assertEquals(coupons, snapshot.toList());
+        for (int i = 0; i < coupons.size(); i++) {
+            assertEquals(coupons.get(i), snapshot.get(i));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        CouponStashSnapshot snapshot = CouponStashSnapshot.of(Collections.singletonList(ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> CouponStashSnapshot.EMPTY.get(0));
+    }
+
+    @Test
+    public void append_coupon_oldSnapshotUnchanged() {
+        CouponStashSnapshot before = CouponStashSnapshot.of(Collections.singletonList(ALICE));
+        CouponStashSnapshot after = before.append(BOB);
+        assertEquals(List.of(ALICE), before.toList());
+        assertEquals(List.of(ALICE, BOB), after.toList());
+    }
+
+    @Test
+    public void set_coupon_oldSnapshotUnchanged() {
+        CouponStashSnapshot before = CouponStashSnapshot.of(List.of(ALICE, BOB));
+        CouponStashSnapshot after = before.set(1, ALICE.archive());
+        assertEquals(List.of(ALICE, BOB), before.toList());
+        assertEquals(List.of(ALICE, ALICE.archive()), after.toList());
+    }
+
+    @Test
+    public void remove_coupon_oldSnapshotUnchanged() {
+        CouponStashSnapshot before = CouponStashSnapshot.of(List.of(ALICE, BOB));
+        CouponStashSnapshot after = before.remove(0);
+        assertEquals(List.of(ALICE, BOB), before.toList());
+        assertEquals(List.of(BOB), after.toList());
+        assertEquals(CouponStashSnapshot.EMPTY, after.remove(0));
+    }
+
+    @Test
+    public void updates_acrossManyChunks_matchArrayList() {
+        List<Coupon> expected = new ArrayList<>();
+        CouponStashSnapshot snapshot = CouponStashSnapshot.EMPTY;
+        for (int i = 0; i < 300; i++) {
+            Coupon coupon = new CouponBuilder().withName("Coupon " + i).build();
+            expected.add(coupon);
+            snapshot = snapshot.append(coupon);
+        }
+
+        // remove a whole run of coupons, so that chunks become empty
+        for (int i = 0; i < 70; i++) {
+            expected.remove(100);
+            snapshot = snapshot.remove(100);
+        }
+        expected.remove(0);
+        snapshot = snapshot.remove(0);
+        Coupon replacement = new CouponBuilder().withName("Replacement").build();
+        expected.set(150, replacement);
+        snapshot = snapshot.set(150, replacement);
+
+        assertEquals(expected.size(), snapshot.size());
+        assertEquals(expected, snapshot.toList());
+        assertEquals(replacement, snapshot.get(150));
+        assertEquals(expected.get(expected.size() - 1), snapshot.get(snapshot.size() - 1));
+    }
+
+    @Test
+    public void updates_deepTree_matchArrayList() {
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            coupons.add(new CouponBuilder().withName("Coupon " + i).build());
+        }
+        List<Coupon> expected = new ArrayList<>();
+        CouponStashSnapshot snapshot = CouponStashSnapshot.EMPTY;
+        Random random = new Random(42);
+        for (Coupon coupon : coupons) {
+            int index = random.nextInt(expected.size() + 1);
+            expected.add(index, coupon);
+            snapshot = snapshot.insert(index, coupon);
+        }
+        for (int i = 0; i < 4000; i++) {
+            int index = random.nextInt(expected.size());
+            expected.remove(index);
+            snapshot = snapshot.remove(index);
+        }
+        assertEquals(expected, snapshot.toList());
+
+        CouponStashSnapshot rebuilt = CouponStashSnapshot.of(coupons);
+        CouponStashSnapshot replaced = rebuilt.set(2500, ALICE);
+        assertEquals(2500, rebuilt.commonPrefixLength(replaced));
+        assertEquals(2499, rebuilt.commonSuffixLength(replaced, 5000 - 2500));
+        assertEquals(100, rebuilt.commonSuffixLength(replaced, 100));
+        assertEquals(coupons.get(4321), replaced.get(4321));
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_singleChange_surroundUnchangedCoupons() {
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            coupons.add(new CouponBuilder().withName("Coupon " + i).build());
+        }
+        CouponStashSnapshot before = CouponStashSnapshot.of(coupons);
+
+        CouponStashSnapshot removed = before.remove(130);
+        assertEquals(130, before.commonPrefixLength(removed));
+        assertEquals(69, before.commonSuffixLength(removed, 199 - 130));
+
+        CouponStashSnapshot inserted = before.insert(10, ALICE);
+        assertEquals(10, before.commonPrefixLength(inserted));
+        assertEquals(190, before.commonSuffixLength(inserted, 200 - 10));
+
+        CouponStashSnapshot replaced = before.set(199, BOB);
+        assertEquals(199, before.commonPrefixLength(replaced));
+        assertEquals(0, before.commonSuffixLength(replaced, 200 - 199));
+
+        // coupons are compared by reference, even when the chunks are not shared
+        CouponStashSnapshot rebuilt = CouponStashSnapshot.of(coupons);
+        assertEquals(200, before.commonPrefixLength(rebuilt));
+        assertEquals(200, before.commonSuffixLength(rebuilt, 200));
+        assertEquals(0, before.commonPrefixLength(CouponStashSnapshot.EMPTY));
+    }
+
+    @Test
+    public void equals() {
+        CouponStashSnapshot snapshot = CouponStashSnapshot.of(List.of(ALICE, BOB));
+
+        assertEquals(snapshot, snapshot);
+        assertEquals(snapshot, CouponStashSnapshot.EMPTY.append(ALICE).append(BOB));
+        assertNotEquals(snapshot, CouponStashSnapshot.of(List.of(BOB, ALICE)));
+        assertNotEquals(snapshot, null);
+    }
+}
@@ -0,0 +1,104 @@
+package csdev.couponstash.model.history;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static csdev.couponstash.testutil.TypicalCoupons.ALICE;
+import static csdev.couponstash.testutil.TypicalCoupons.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.history.CouponStashDelta.Change;
+
+public class HistoryManagerTest {
+    private static final long LARGE_BUDGET = 1024 * 1024;
+
+    private static CouponStashDelta addDelta(String commandText) {
+        return new CouponStashDelta(List.of(Change.add(0, ALICE)), commandText);
+    }
+
+    @Test
+    public void constructor_invalidBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoryManager(0));
+    }
+
+    @Test
+    public void undoRedo_committedDeltas_returnsDeltasInOrder() {
+        HistoryManager history = new HistoryManager(LARGE_BUDGET);
+        CouponStashDelta first = addDelta("first");
+        CouponStashDelta second = addDelta("second");
+        history.commitState(first);
+        history.commitState(second);
+
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+        assertSame(second, history.undo());
+        assertEquals("second", history.getNextCommandText());
+        assertSame(first, history.undo());
+        assertEquals("first", history.getNextCommandText());
+        assertFalse(history.canUndo());
+
+        assertSame(first, history.redo());
+        assertSame(second, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commitState_afterUndo_purgesRedoStates() {
+        HistoryManager history = new HistoryManager(LARGE_BUDGET);
+        history.commitState(addDelta("first"));
+        history.commitState(addDelta("second"));
+        history.undo();
+        CouponStashDelta third = addDelta("third");
+        history.commitState(third);
+
+        assertFalse(history.canRedo());
+        assertSame(third, history.undo());
+        assertEquals(addDelta("first").getEstimatedSize() + third.getEstimatedSize(), history.getFootprint());
+    }
+
+    @Test
+    public void commitState_overBudget_evictsOldestStates() {
+        CouponStashDelta delta = addDelta("used 1");
+        HistoryManager history = new HistoryManager(delta.getEstimatedSize() * 2);
+        for (int i = 0; i < 5; i++) {
+            history.commitState(addDelta("used 1"));
+        }
+
+        assertEquals(delta.getEstimatedSize() * 2, history.getFootprint());
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commitState_singleDeltaOverBudget_latestDeltaKept() {
+        CouponStashDelta bigDelta = new CouponStashDelta(Collections.singletonList(
+                Change.reset(CouponStashSnapshot.of(List.of(ALICE, BOB)), CouponStashSnapshot.EMPTY)), "clear");
+        HistoryManager history = new HistoryManager(1);
+        history.commitState(addDelta("add"));
+        history.commitState(bigDelta);
+
+        assertEquals(bigDelta.getEstimatedSize(), history.getFootprint());
+        assertSame(bigDelta, history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void setMemoryBudget_smallerBudget_evictsOldestStates() {
+        HistoryManager history = new HistoryManager(LARGE_BUDGET);
+        for (int i = 0; i < 5; i++) {
+            history.commitState(addDelta("used 1"));
+        }
+        history.setMemoryBudget(1);
+
+        assertEquals(addDelta("used 1").getEstimatedSize(), history.getFootprint());
+        history.undo();
+        assertFalse(history.canUndo());
+    }
+}
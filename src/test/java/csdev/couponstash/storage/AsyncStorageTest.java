@@ -0,0 +1,93 @@
+package csdev.couponstash.storage;
+
+import static csdev.couponstash.testutil.TypicalCoupons.HOON;
+import static csdev.couponstash.testutil.TypicalCoupons.IDA;
+import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCouponStash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+
+public class AsyncStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private AsyncStorage createStorage(JsonCouponStashStorage couponStashStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new AsyncStorage(new StorageManager(couponStashStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void saveCouponStash_thenFlush_couponsWritten() throws Exception {
+        AsyncStorage storage = createStorage(new JsonCouponStashStorage(testFolder.resolve("stash.json")));
+        CouponStash original = getTypicalCouponStash();
+
+        storage.saveCouponStash(original);
+        storage.flush();
+        assertEquals(1, storage.getSavesPerformed());
+        assertEquals(original, new CouponStash(storage.readCouponStash().get()));
+    }
+
+    @Test
+    public void saveCouponStash_burstWhileWriterBusy_latestCouponsWrittenOnce() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        JsonCouponStashStorage blockingStorage = new JsonCouponStashStorage(testFolder.resolve("stash.json")) {
+            @Override
+            public void saveCouponStash(ReadOnlyCouponStash couponStash, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException ie) {
+                    throw new AssertionError(ie);
+                }
+                super.saveCouponStash(couponStash, filePath);
+            }
+        };
+        AsyncStorage storage = createStorage(blockingStorage);
+        CouponStash original = getTypicalCouponStash();
+
+        storage.saveCouponStash(original);
+        writeStarted.await();
+
+        // saves requested while the writer is busy are coalesced into a single write
+        original.addCoupon(HOON);
+        storage.saveCouponStash(original);
+        original.addCoupon(IDA);
+        storage.saveCouponStash(original);
+        releaseWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, storage.getSavesPerformed());
+        assertEquals(original, new CouponStash(storage.readCouponStash().get()));
+    }
+
+    @Test
+    public void saveCouponStash_writeFails_errorHandlerNotified() {
+        AsyncStorage storage = createStorage(new JsonCouponStashStorage(testFolder.resolve("stash.json")) {
+            @Override
+            public void saveCouponStash(ReadOnlyCouponStash couponStash, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+        List<IOException> errors = new ArrayList<>();
+        storage.setSaveErrorHandler(errors::add);
+
+        storage.saveCouponStash(getTypicalCouponStash());
+        storage.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), errors);
+        assertEquals(0, storage.getSavesPerformed());
+    }
+}
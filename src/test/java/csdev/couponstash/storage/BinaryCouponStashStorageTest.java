@@ -0,0 +1,174 @@
+package csdev.couponstash.storage;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static csdev.couponstash.testutil.TypicalCoupons.ALICE;
+import static csdev.couponstash.testutil.TypicalCoupons.HOON;
+import static csdev.couponstash.testutil.TypicalCoupons.IDA;
+import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCouponStash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import csdev.couponstash.commons.exceptions.DataConversionException;
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.history.CouponStashSnapshot;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class BinaryCouponStashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCouponStash_nullFilePath_throwsNullPointerException() {
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(testFolder.resolve("stash.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readCouponStash(null));
+    }
+
+    @Test
+    public void readCouponStash_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryCouponStashStorage(testFolder.resolve("missing.bin")).readCouponStash().isPresent());
+    }
+
+    @Test
+    public void saveCouponStash_nullCouponStash_throwsNullPointerException() {
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(testFolder.resolve("stash.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveCouponStash(null));
+    }
+
+    @Test
+    public void readAndSaveCouponStash_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("stash.bin");
+        CouponStash original = getTypicalCouponStash();
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(filePath);
+
+        // save in new file and read back
+        storage.saveCouponStash(original);
+        ReadOnlyCouponStash readBack = storage.readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+
+        // modify data, overwrite exiting file, and read back
+        original.addCoupon(HOON);
+        original.removeCoupon(ALICE);
+        storage.saveCouponStash(original);
+        readBack = storage.readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+
+        // save and read without specifying file path
+        original.addCoupon(IDA);
+        storage.saveCouponStash(original);
+        readBack = storage.readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+    }
+
+    @Test
+    public void saveCouponStash_typicalCoupons_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("stash.bin");
+        Path jsonFilePath = testFolder.resolve("stash.json");
+        CouponStash original = getTypicalCouponStash();
+
+        new BinaryCouponStashStorage(binaryFilePath).saveCouponStash(original);
+        new JsonCouponStashStorage(jsonFilePath).saveCouponStash(original);
+
+        assertTrue(Files.size(binaryFilePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readCouponStash_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("stash.bin");
+        new BinaryCouponStashStorage(filePath).saveCouponStash(getTypicalCouponStash());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // flip a bit in the middle of the coupons
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryCouponStashStorage(filePath).readCouponStash());
+
+        // cut the file short
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, () -> new BinaryCouponStashStorage(filePath).readCouponStash());
+    }
+
+    @Test
+    public void readCouponStash_duplicateCoupons_throwsDataConversionException() throws Exception {
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(testFolder.resolve("stash.bin"));
+        storage.saveCouponStash(new ReadOnlyCouponStash() {
+            @Override
+            public ObservableList<Coupon> getCouponList() {
+                return FXCollections.observableArrayList(ALICE, ALICE);
+            }
+
+            @Override
+            public long getVersion() {
+                return 0;
+            }
+
+            @Override
+            public CouponStashSnapshot getSnapshot() {
+                return CouponStashSnapshot.of(List.of(ALICE, ALICE));
+            }
+        });
+        assertThrows(DataConversionException.class, storage::readCouponStash);
+    }
+
+    @Test
+    public void readCouponStash_newerFormatVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("stash.bin");
+        new BinaryCouponStashStorage(filePath).saveCouponStash(getTypicalCouponStash());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) (BinaryCouponStashStorage.FORMAT_VERSION + 1));
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryCouponStashStorage(filePath).readCouponStash());
+    }
+
+    @Test
+    public void readCouponStash_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("stash.json");
+        CouponStash original = getTypicalCouponStash();
+        new JsonCouponStashStorage(filePath).saveCouponStash(original);
+
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(filePath);
+        assertEquals(original, new CouponStash(storage.readCouponStash().get()));
+
+        // the next save replaces the json file with a binary file
+        storage.saveCouponStash(original);
+        assertThrows(DataConversionException.class, () -> new JsonCouponStashStorage(filePath).readCouponStash());
+        assertEquals(original, new CouponStash(storage.readCouponStash().get()));
+    }
+
+    @Test
+    public void importAndExportJson_typicalCoupons_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("stash.json");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        CouponStash original = getTypicalCouponStash();
+        new JsonCouponStashStorage(jsonFilePath).saveCouponStash(original);
+
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(testFolder.resolve("stash.bin"));
+        storage.importFromJson(jsonFilePath);
+        storage.exportToJson(exportedFilePath);
+
+        ReadOnlyCouponStash exported = new JsonCouponStashStorage(exportedFilePath).readCouponStash().get();
+        assertEquals(original, new CouponStash(exported));
+    }
+
+    @Test
+    public void importFromJson_missingFile_throwsDataConversionException() {
+        BinaryCouponStashStorage storage = new BinaryCouponStashStorage(testFolder.resolve("stash.bin"));
+        assertThrows(DataConversionException.class, () -> storage.importFromJson(testFolder.resolve("missing.json")));
+    }
+}
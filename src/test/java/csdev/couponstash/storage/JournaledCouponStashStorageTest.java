@@ -0,0 +1,161 @@
+package csdev.couponstash.storage;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static csdev.couponstash.testutil.TypicalCoupons.ALICE;
+import static csdev.couponstash.testutil.TypicalCoupons.HOON;
+import static csdev.couponstash.testutil.TypicalCoupons.IDA;
+import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCouponStash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import csdev.couponstash.commons.exceptions.DataConversionException;
+import csdev.couponstash.commons.util.JsonUtil;
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.ReadOnlyCouponStash;
+import csdev.couponstash.testutil.CouponBuilder;
+
+public class JournaledCouponStashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCouponStash_missingFiles_emptyResult() throws Exception {
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readCouponStash().isPresent());
+    }
+
+    @Test
+    public void saveCouponStash_nullCouponStash_throwsNullPointerException() {
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(testFolder.resolve("stash.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveCouponStash(null));
+    }
+
+    @Test
+    public void readAndSaveCouponStash_changesAppendedToJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("stash.json");
+        CouponStash original = getTypicalCouponStash();
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(filePath);
+
+        // first save writes the json file in full
+        storage.saveCouponStash(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        // saving without changes writes nothing
+        storage.saveCouponStash(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        // later changes are only appended to the journal
+        String fullFile = Files.readString(filePath);
+        original.addCoupon(HOON);
+        storage.saveCouponStash(original);
+        original.setCoupon(ALICE, ALICE.archive());
+        storage.saveCouponStash(original);
+        original.removeCoupon(HOON);
+        storage.saveCouponStash(original);
+        assertEquals(fullFile, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyCouponStash readBack = new JournaledCouponStashStorage(filePath).readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+    }
+
+    @Test
+    public void readCouponStash_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("stash.json");
+        CouponStash original = getTypicalCouponStash();
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(filePath);
+        storage.saveCouponStash(original);
+        original.addCoupon(HOON);
+        storage.saveCouponStash(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"sequence\":2,\"operation\":\"ADD\",\"ind".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ReadOnlyCouponStash readBack = new JournaledCouponStashStorage(filePath).readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+    }
+
+    @Test
+    public void readCouponStash_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("stash.json");
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(filePath);
+        storage.saveCouponStash(getTypicalCouponStash());
+
+        Files.write(storage.getJournalFilePath(), List.of(
+                "{\"sequence\":1,\"operation\":\"REMOVE\",\"index\":100}", ""));
+        assertThrows(DataConversionException.class, () ->
+                new JournaledCouponStashStorage(filePath).readCouponStash());
+
+        Files.write(storage.getJournalFilePath(), List.of("not a record", "{\"sequence\":2}"));
+        assertThrows(DataConversionException.class, () ->
+                new JournaledCouponStashStorage(filePath).readCouponStash());
+    }
+
+    @Test
+    public void saveCouponStash_journalReachesThreshold_compactedIntoJsonFile() throws Exception {
+        Path filePath = testFolder.resolve("stash.json");
+        CouponStash original = getTypicalCouponStash();
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(filePath, JournalSyncPolicy.NEVER, 3);
+        storage.saveCouponStash(original);
+
+        for (int i = 0; i < 5; i++) {
+            original.addCoupon(new CouponBuilder().withName("Coupon " + i).build());
+            storage.saveCouponStash(original);
+            storage.awaitCompaction();
+        }
+
+        // the third record triggered a compaction, after which two more records were appended
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertFalse(Files.exists(filePath.resolveSibling(
+                filePath.getFileName() + JournaledCouponStashStorage.COMPACTING_JOURNAL_FILE_SUFFIX)));
+
+        ReadOnlyCouponStash readBack = new JournaledCouponStashStorage(filePath).readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+
+        // the compacted json file can still be read without the journal
+        ReadOnlyCouponStash plain = new JsonCouponStashStorage(filePath).readCouponStash().get();
+        assertEquals(original.getCouponList().size() - 2, plain.getCouponList().size());
+    }
+
+    @Test
+    public void readCouponStash_unfinishedCompaction_journalsReplayedOnce() throws Exception {
+        Path filePath = testFolder.resolve("stash.json");
+        Path compactingJournalPath = filePath.resolveSibling(
+                filePath.getFileName() + JournaledCouponStashStorage.COMPACTING_JOURNAL_FILE_SUFFIX);
+        CouponStash original = getTypicalCouponStash();
+        JournaledCouponStashStorage storage = new JournaledCouponStashStorage(filePath);
+        storage.saveCouponStash(original);
+        original.addCoupon(HOON);
+        storage.saveCouponStash(original);
+
+        // pretend that the journal was moved aside, but the json file was not written yet
+        Files.copy(storage.getJournalFilePath(), compactingJournalPath);
+        int index = original.getCouponList().size();
+        original.addCoupon(IDA);
+        Files.write(storage.getJournalFilePath(), List.of(
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(2, index, IDA))));
+
+        ReadOnlyCouponStash readBack = new JournaledCouponStashStorage(filePath).readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+        assertFalse(Files.exists(compactingJournalPath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        // records already in the json file are not replayed again
+        Files.write(compactingJournalPath, List.of(
+                JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(1, 0, HOON))));
+        readBack = new JournaledCouponStashStorage(filePath).readCouponStash().get();
+        assertEquals(original, new CouponStash(readBack));
+    }
+}
@@ -37,7 +37,7 @@ public class JsonAdaptedCouponTest {
     private static final JsonAdaptedSavings VALID_SAVINGS =
             new JsonAdaptedSavings(BENSON.getSavingsForEachUse());
     private static final JsonAdaptedDssm VALID_TOTAL_SAVINGS =
-            new JsonAdaptedDssm(BENSON.getSavingsMap());
+            new JsonAdaptedDssm(BENSON.getSavingsHistory());
     private static final String VALID_EXPIRY_DATE = BENSON.getExpiryDate().toString();
     private static final String VALID_START_DATE = BENSON.getStartDate().toString();
     private static final String VALID_USAGE = BENSON.getUsage().toString();
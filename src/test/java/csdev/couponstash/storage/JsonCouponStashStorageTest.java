@@ -7,8 +7,10 @@ import static csdev.couponstash.testutil.TypicalCoupons.IDA;
 import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCouponStash;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +88,20 @@ public class JsonCouponStashStorageTest {
 
     }
 
+    @Test
+    public void saveCouponStash_prettyPrintingOptIn_sameCouponsRead() throws Exception {
+        CouponStash original = getTypicalCouponStash();
+        Path compactFilePath = testFolder.resolve("Compact.json");
+        Path prettyFilePath = testFolder.resolve("Pretty.json");
+        new JsonCouponStashStorage(compactFilePath).saveCouponStash(original);
+        new JsonCouponStashStorage(prettyFilePath, true).saveCouponStash(original);
+
+        assertFalse(Files.readString(compactFilePath).contains("\n"));
+        assertTrue(Files.readString(prettyFilePath).contains("\n"));
+        assertEquals(original, new CouponStash(new JsonCouponStashStorage(compactFilePath).readCouponStash().get()));
+        assertEquals(original, new CouponStash(new JsonCouponStashStorage(prettyFilePath).readCouponStash().get()));
+    }
+
     @Test
     public void saveCouponStash_nullCouponStash_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCouponStash(null, "SomeFile.json"));
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import csdev.couponstash.commons.exceptions.IllegalValueException;
 import csdev.couponstash.commons.util.JsonUtil;
@@ -19,6 +22,11 @@ public class JsonSerializableCouponStashTest {
     private static final Path TYPICAL_COUPONS_FILE = TEST_DATA_FOLDER.resolve("typicalCouponsCouponStash.json");
     private static final Path INVALID_COUPON_FILE = TEST_DATA_FOLDER.resolve("invalidCouponCouponStash.json");
     private static final Path DUPLICATE_COUPON_FILE = TEST_DATA_FOLDER.resolve("duplicateCouponCouponStash.json");
+    private static final String DUPLICATE_COUPON_MESSAGE = String.format(InvalidCouponsException.MESSAGE_COUPON_ERROR,
+            2, JsonSerializableCouponStash.MESSAGE_DUPLICATE_COUPON);
+
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void toModelType_typicalCouponsFile_success() throws Exception {
@@ -30,6 +38,39 @@ public class JsonSerializableCouponStashTest {
     }
     //typicalCouponsCouponStash
 
+    @Test
+    public void readFrom_typicalCouponsFile_success() throws Exception {
+        CouponStash couponStashFromFile = JsonSerializableCouponStash.readFrom(TYPICAL_COUPONS_FILE, (
+                fieldName, parser) -> { });
+        assertEquals(TypicalCoupons.getTypicalCouponStash(), couponStashFromFile);
+    }
+
+    @Test
+    public void readFrom_invalidOrDuplicateCoupons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonSerializableCouponStash.readFrom(INVALID_COUPON_FILE, (fieldName, parser) -> { }));
+        assertThrows(IllegalValueException.class, DUPLICATE_COUPON_MESSAGE, () ->
+                JsonSerializableCouponStash.readFrom(DUPLICATE_COUPON_FILE, (fieldName, parser) -> { }));
+    }
+
+    @Test
+    public void writeTo_thenReadFrom_otherFieldsKept() throws Exception {
+        Path filePath = testFolder.resolve("couponStash.json");
+        CouponStash original = TypicalCoupons.getTypicalCouponStash();
+        JsonSerializableCouponStash.writeTo(filePath, original.getCouponList(), false,
+                generator -> generator.writeStringField("note", "kept"));
+
+        List<String> otherValues = new ArrayList<>();
+        CouponStash readBack = JsonSerializableCouponStash.readFrom(filePath, (fieldName, parser) ->
+                otherValues.add(fieldName + "=" + parser.getText()));
+        assertEquals(original, readBack);
+        assertEquals(List.of("note=kept"), otherValues);
+
+        // files written in one go can still be read one coupon at a time
+        JsonUtil.saveJsonFile(new JsonSerializableCouponStash(original), filePath);
+        assertEquals(original, JsonSerializableCouponStash.readFrom(filePath, (fieldName, parser) -> { }));
+    }
+
     @Test
     public void toModelType_invalidCouponFile_throwsIllegalValueException() throws Exception {
         JsonSerializableCouponStash dataFromFile = JsonUtil.readJsonFile(INVALID_COUPON_FILE,
@@ -41,8 +82,7 @@ public class JsonSerializableCouponStashTest {
     public void toModelType_duplicateCoupons_throwsIllegalValueException() throws Exception {
         JsonSerializableCouponStash dataFromFile = JsonUtil.readJsonFile(DUPLICATE_COUPON_FILE,
                 JsonSerializableCouponStash.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableCouponStash.MESSAGE_DUPLICATE_COUPON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, DUPLICATE_COUPON_MESSAGE, dataFromFile::toModelType);
     }
 
 }
@@ -0,0 +1,98 @@
+package csdev.couponstash.storage;
+
+import static csdev.couponstash.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import csdev.couponstash.model.CouponStash;
+import csdev.couponstash.model.coupon.Coupon;
+import csdev.couponstash.model.coupon.Name;
+import csdev.couponstash.testutil.CouponBuilder;
+
+public class ParallelCouponLoaderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void finish_noCoupons_emptyCouponStash() throws Exception {
+        assertEquals(new CouponStash(), new ParallelCouponLoader(pool).finish());
+    }
+
+    @Test
+    public void finish_manyCoupons_loadedInOrder() throws Exception {
+        List<Coupon> coupons = new ArrayList<>();
+        ParallelCouponLoader loader = new ParallelCouponLoader(pool);
+        for (int i = 0; i < ParallelCouponLoader.BATCH_SIZE * 2 + 5; i++) {
+            Coupon coupon = new CouponBuilder().withName("Coupon " + i).build();
+            coupons.add(coupon);
+            loader.add(new JsonAdaptedCoupon(coupon));
+        }
+
+        assertEquals(coupons, loader.finish().getCouponList());
+    }
+
+    @Test
+    public void finish_invalidAndDuplicateCoupons_allErrorsReported() {
+        ParallelCouponLoader loader = new ParallelCouponLoader(pool);
+        Coupon first = new CouponBuilder().withName("First").build();
+        loader.add(new JsonAdaptedCoupon(first));
+        loader.add(createCouponWithName("R@chel"));
+        for (int i = 0; i < ParallelCouponLoader.BATCH_SIZE; i++) {
+            loader.add(new JsonAdaptedCoupon(new CouponBuilder().withName("Coupon " + i).build()));
+        }
+        // duplicates in a later batch are found too
+        loader.add(new JsonAdaptedCoupon(first));
+        loader.add(createCouponWithName("R@chel"));
+
+        InvalidCouponsException thrown = Assertions.assertThrows(
+                InvalidCouponsException.class, loader::finish);
+        int batchEnd = ParallelCouponLoader.BATCH_SIZE + 2;
+        assertEquals(Map.of(
+                2, Name.MESSAGE_CONSTRAINTS,
+                batchEnd + 1, JsonSerializableCouponStash.MESSAGE_DUPLICATE_COUPON,
+                batchEnd + 2, Name.MESSAGE_CONSTRAINTS), thrown.getErrors());
+    }
+
+    @Test
+    public void finish_manyInvalidCoupons_messageShortened() {
+        ParallelCouponLoader loader = new ParallelCouponLoader(pool);
+        for (int i = 0; i < 12; i++) {
+            loader.add(createCouponWithName("R@chel"));
+        }
+
+        String expectedEnd = String.format(InvalidCouponsException.MESSAGE_MORE_ERRORS, 2);
+        InvalidCouponsException thrown = Assertions.assertThrows(
+                InvalidCouponsException.class, loader::finish);
+        assertEquals(12, thrown.getErrors().size());
+        assertTrue(thrown.getMessage().startsWith(
+                String.format(InvalidCouponsException.MESSAGE_COUPON_ERROR, 1, Name.MESSAGE_CONSTRAINTS)));
+        assertTrue(thrown.getMessage().endsWith(expectedEnd));
+    }
+
+    @Test
+    public void add_nullCoupon_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ParallelCouponLoader(pool).add(null));
+    }
+
+    private static JsonAdaptedCoupon createCouponWithName(String name) {
+        Coupon valid = new CouponBuilder().build();
+        return new JsonAdaptedCoupon(name, valid.getPromoCode().value,
+                new JsonAdaptedSavings(valid.getSavingsForEachUse()), valid.getExpiryDate().value,
+                valid.getStartDate().value, valid.getUsage().toString(), valid.getLimit().toString(), null, null,
+                valid.getRemindDate().toString(), valid.getCondition().value, valid.getArchived().toString());
+    }
+}
@@ -1,5 +1,6 @@
 package csdev.couponstash.storage;
 
+import static csdev.couponstash.testutil.TypicalCoupons.HOON;
 import static csdev.couponstash.testutil.TypicalCoupons.getTypicalCouponStash;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -60,6 +61,25 @@ public class StorageManagerTest {
         assertEquals(original, new CouponStash(retrieved));
     }
 
+    @Test
+    public void saveCouponStash_unchangedCouponStash_saveSkipped() throws Exception {
+        CouponStash original = getTypicalCouponStash();
+        storageManager.saveCouponStash(original);
+        storageManager.saveCouponStash(original);
+        assertEquals(1, storageManager.getSavesPerformed());
+        assertEquals(1, storageManager.getSavesSkipped());
+
+        original.addCoupon(HOON);
+        storageManager.saveCouponStash(original);
+        assertEquals(2, storageManager.getSavesPerformed());
+        assertEquals(original, new CouponStash(storageManager.readCouponStash().get()));
+
+        // a different CouponStash is never mistaken for the one saved last
+        storageManager.saveCouponStash(new CouponStash(original));
+        assertEquals(3, storageManager.getSavesPerformed());
+        assertEquals(1, storageManager.getSavesSkipped());
+    }
+
     @Test
     public void getCouponStashFilePath() {
         assertNotNull(storageManager.getCouponStashFilePath());
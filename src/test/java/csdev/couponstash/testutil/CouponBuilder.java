@@ -89,7 +89,8 @@ public class CouponBuilder {
         name = couponToCopy.getName();
         promoCode = couponToCopy.getPromoCode();
         savings = new Savings(couponToCopy.getSavingsForEachUse());
-        totalSavings = couponToCopy.getSavingsMap();
+        totalSavings = new DateSavingsSumMap();
+        totalSavings.addAll(couponToCopy.getSavingsMap());
         expiryDate = couponToCopy.getExpiryDate();
         startDate = couponToCopy.getStartDate();
         usage = couponToCopy.getUsage();
@@ -3,6 +3,7 @@ package csdev.couponstash.ui;
 import static csdev.couponstash.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.net.URL;
 import java.nio.file.Path;
@@ -58,6 +59,13 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl, root).getRoot());
     }
 
+    @Test
+    public void constructor_rootBuiltInCode_returnsRoot() {
+        TestFxmlObject root = new TestFxmlObject("Hello World!");
+        assertSame(root, new CodeUiPart<>(root).getRoot());
+        assertThrows(NullPointerException.class, () -> new CodeUiPart<Object>(null));
+    }
+
     @Test
     public void constructor_nullFileName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TestUiPart<Object>((String) null));
@@ -113,4 +121,15 @@ public class UiPartTest {
 
     }
 
+    /**
+     * UiPart used for testing, whose scene graph is built in code.
+     */
+    private static class CodeUiPart<T> extends UiPart<T> {
+
+        CodeUiPart(T root) {
+            super(root);
+        }
+
+    }
+
 }